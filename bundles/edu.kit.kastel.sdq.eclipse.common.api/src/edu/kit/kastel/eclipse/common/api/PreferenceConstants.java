@@ -16,6 +16,37 @@ public final class PreferenceConstants {
 	public static final String GRADING_VIEW_BUTTONS_IN_COLUMN = "grading_buttons_in_column";
 	public static final String GRADING_VIEW_PREFERS_LARGE_PENALTY_TEXT_PATH = "userPreferresLargePenaltyText";
 	public static final String GRADING_VIEW_PREFERS_TEXT_WRAPPING_IN_PENALTY_TEXT_PATH = "userPrefersTextWrappingInPenaltyText";
+	public static final String GRADING_PREFETCH_DEPTH = "gradingPrefetchDepth";
+	/**
+	 * Interval in seconds of the background refresh of the exercise statistics, 0
+	 * disables it
+	 */
+	public static final String GRADING_STATS_REFRESH_INTERVAL = "gradingStatsRefreshInterval";
+	public static final String GRADING_CLONE_PROFILE = "gradingCloneProfile";
+	public static final String GRADING_CLONE_PROFILE_FULL = "FULL";
+	public static final String GRADING_CLONE_PROFILE_SINGLE_BRANCH = "SINGLE_BRANCH";
+	public static final String GRADING_CLONE_PROFILE_SHALLOW = "SHALLOW";
+	public static final String GRADING_CLONE_PROFILE_SPARSE = "SPARSE";
+	/**
+	 * Clone profiles for single exercises, e.g. "final01=SHALLOW;final02=SPARSE"
+	 */
+	public static final String GRADING_CLONE_PROFILE_PER_EXERCISE = "gradingCloneProfilePerExercise";
+	public static final String GRADING_DOWNLOAD_AS_ARCHIVE = "gradingDownloadAsArchive";
+	/**
+	 * URL of the repository export, supports the placeholders {artemisUrl},
+	 * {exerciseId}, {participationId} and {submissionId}
+	 */
+	public static final String GRADING_ARCHIVE_URL = "gradingArchiveUrl";
+	/**
+	 * Directory containing git bundles or ZIP archives of submissions, named
+	 * after the participant identifier
+	 */
+	public static final String GRADING_OFFLINE_IMPORT_DIRECTORY = "gradingOfflineImportDirectory";
+	/**
+	 * Whether submission clones reference the objects of the exercise template
+	 * (git alternates) instead of fetching them
+	 */
+	public static final String GRADING_TEMPLATE_ALTERNATES = "gradingTemplateAlternates";
 
 	public static final String GENERAL_OVERRIDE_DEFAULT_PREFERENCES = "override_default_preferences";
 	public static final String GENERAL_PREFERRED_LANGUAGE = "preferredLanguageSelector";
@@ -2,6 +2,7 @@
 package edu.kit.kastel.eclipse.common.api.artemis;
 
 import java.io.File;
+import java.util.OptionalInt;
 
 import edu.kit.kastel.sdq.artemis4j.api.artemis.Exercise;
 import edu.kit.kastel.sdq.artemis4j.api.artemis.assessment.Submission;
@@ -30,4 +31,23 @@ public interface IProjectFileNamingStrategy {
 	 */
 	File getProjectFileInWorkspace(File workspace, Exercise exercise, Submission submission);
 
+	/**
+	 * Like {@link #getProjectFileInWorkspace(File, Exercise, Submission)}, but
+	 * for the submission once its assessment has been submitted. The submission
+	 * itself only reflects that after it has been fetched again.
+	 *
+	 * @return the File the project of the submitted submission is named after
+	 */
+	File getSubmittedProjectFileInWorkspace(File workspace, Exercise exercise, Submission submission);
+
+	/**
+	 * The inverse of {@link #getProjectFileInWorkspace(File, Exercise, Submission)}.
+	 *
+	 * @param exercise    the exercise the project has to belong to
+	 * @param projectName the name of a project in the workspace
+	 * @return the id of the submission of the project, or empty if the project
+	 *         does not belong to a submission of the exercise
+	 */
+	OptionalInt getSubmissionId(Exercise exercise, String projectName);
+
 }
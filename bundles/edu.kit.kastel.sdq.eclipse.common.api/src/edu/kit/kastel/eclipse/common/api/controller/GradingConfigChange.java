@@ -0,0 +1,20 @@
+/* Licensed under EPL-2.0 2024. */
+package edu.kit.kastel.eclipse.common.api.controller;
+
+import java.util.Set;
+
+/**
+ * The difference between two versions of the grading config of an exercise.
+ *
+ * @param ratingGroupsChanged whether rating groups have been added, removed or
+ *                            reordered
+ * @param changedRatingGroups the identifiers of the rating groups whose
+ *                            properties or mistake types have changed
+ */
+public record GradingConfigChange(boolean ratingGroupsChanged, Set<String> changedRatingGroups) {
+	public static final GradingConfigChange NONE = new GradingConfigChange(false, Set.of());
+
+	public boolean isEmpty() {
+		return !this.ratingGroupsChanged && this.changedRatingGroups.isEmpty();
+	}
+}
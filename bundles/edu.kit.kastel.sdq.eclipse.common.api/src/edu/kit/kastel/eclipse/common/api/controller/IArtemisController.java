@@ -2,7 +2,10 @@
 package edu.kit.kastel.eclipse.common.api.controller;
 
 import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
 
+import edu.kit.kastel.sdq.artemis4j.api.ArtemisClientException;
 import edu.kit.kastel.sdq.artemis4j.api.artemis.Course;
 import edu.kit.kastel.sdq.artemis4j.api.artemis.Exercise;
 import edu.kit.kastel.sdq.artemis4j.api.artemis.User;
@@ -21,12 +24,35 @@ public interface IArtemisController extends IController {
 	 */
 	List<Feedback> getAllFeedbacksGottenFromLocking(Submission submission);
 
+	/**
+	 *
+	 * @return the id of the participation of the given submission, if the
+	 *         submission has been locked.
+	 */
+	Optional<Integer> getParticipationId(Submission submission);
+
+	/**
+	 *
+	 * @return the token used to authenticate against Artemis or null, if not
+	 *         logged in.
+	 */
+	String getAuthenticationToken();
+
 	/**
 	 *
 	 * @return all submissions of the given @link {@link IExercise}, that have been
 	 *         started, saved or submitted by the caller.
+	 * @throws ArtemisClientException if the submissions could not be fetched
 	 */
-	List<Submission> getBegunSubmissions(Exercise exercise);
+	List<Submission> getBegunSubmissions(Exercise exercise) throws ArtemisClientException;
+
+	/**
+	 *
+	 * @return the URL of the template repository of the given programming
+	 *         exercise, as stored in its template participation
+	 * @throws ArtemisClientException if the exercise could not be fetched
+	 */
+	Optional<String> getTemplateRepositoryUrl(Exercise exercise) throws ArtemisClientException;
 
 	/**
 	 *
@@ -36,10 +62,31 @@ public interface IArtemisController extends IController {
 
 	/**
 	 *
-	 * @return the {@link ICourse#getShortName()} of all available courses
+	 * @return the course with the given short name, if there is exactly one
+	 */
+	Optional<Course> getCourse(String courseShortName);
+
+	/**
+	 *
+	 * @return the exercise with the given short name of the course or one of its
+	 *         exams
+	 */
+	Optional<Exercise> getExercise(Course course, String exerciseShortName) throws ArtemisClientException;
+
+	/**
+	 *
+	 * @return the {@link ICourse#getShortName()} of all available courses. May
+	 *         return the names of a recent snapshot while the courses are fetched
+	 *         in the background.
 	 */
 	List<String> getCourseShortNames();
 
+	/**
+	 * Adds a listener that is notified (from any thread) if the fetched courses
+	 * differ from the snapshot returned by {@link #getCourseShortNames()}.
+	 */
+	void addCoursesChangedListener(Runnable listener);
+
 	/**
 	 *
 	 * @return the {@link IExam#getTitle()} of all available exams in the given
@@ -50,16 +97,43 @@ public interface IArtemisController extends IController {
 	/**
 	 * Returns all exercises of exasm with title examTitle.
 	 *
-	 * @param examTitle exam title of the exam
+	 * @param courseShortName short name of the course of the exam
+	 * @param examTitle       exam title of the exam
 	 * @return a list of all exercises of the exam
 	 */
-	List<Exercise> getExercisesFromExam(String examTitle);
+	List<Exercise> getExercisesFromExam(String courseShortName, String examTitle);
 
 	/**
 	 *
 	 * @return the {@link IExercise#getShortName()}s of the given {@link IExam}
 	 */
-	List<String> getExerciseShortNamesFromExam(String examTitle);
+	List<String> getExerciseShortNamesFromExam(String courseShortName, String examTitle);
 
 	User getUserLogin();
+
+	/**
+	 * The version check, the login and the loading of the courses run in the
+	 * background after the controller has been created.
+	 *
+	 * @return a future that completes once they have finished (successfully or
+	 *         not, errors are reported to the user)
+	 */
+	CompletableFuture<Void> whenReady();
+
+	/**
+	 * Starts fetching the courses in the background, if not done already. The
+	 * methods that need the courses block until then, so the UI thread has to
+	 * wait for this future first.
+	 *
+	 * @return a future that completes once the courses have been fetched
+	 *         (successfully or not, errors are reported to the user)
+	 */
+	CompletableFuture<Void> whenCoursesLoaded();
+
+	/**
+	 * Fetches the courses again in the background. The listeners registered by
+	 * {@link #addCoursesChangedListener(Runnable)} are notified if they have
+	 * changed.
+	 */
+	void refreshCourses();
 }
\ No newline at end of file
@@ -64,8 +64,24 @@ public interface IAssessmentController extends IController {
 	 */
 	List<IAnnotation> getAnnotationsByMistakeType(IMistakeType mistakeType);
 
+	/**
+	 * All annotations in the given file already made with this
+	 * AssessmentController.
+	 *
+	 * @param classFilePath the path of the file, as in
+	 *                      {@link IAnnotation#getClassFilePath()}
+	 */
+	List<IAnnotation> getAnnotationsByClassFilePath(String classFilePath);
+
 	Optional<IAnnotation> getAnnotationById(String annotationId);
 
+	/**
+	 * @return false, if the annotation did not match the config when it has been
+	 *         reloaded and therefore keeps its previous mistake type (see
+	 *         {@link #reloadGradingConfig()})
+	 */
+	boolean isAnnotationValid(String annotationId);
+
 	/**
 	 * Deletes the eclipse project this assessment belongs to. Also deletes it on
 	 * file system.
@@ -78,6 +94,25 @@ public interface IAssessmentController extends IController {
 
 	List<IMistakeType> getMistakes();
 
+	/**
+	 * @return the mistake types of the rating group in the order of the config
+	 */
+	List<IMistakeType> getMistakesOfRatingGroup(IRatingGroup ratingGroup);
+
+	Optional<IMistakeType> getMistakeTypeById(String id);
+
+	/**
+	 * Like {@link IMistakeType#isEnabledMistakeType()}, but evaluated only once
+	 * per config and exercise.
+	 */
+	boolean isMistakeTypeEnabled(IMistakeType mistakeType);
+
+	/**
+	 * Like {@link IMistakeType#isEnabledPenalty()}, but evaluated only once per
+	 * config and exercise.
+	 */
+	boolean isPenaltyEnabled(IMistakeType mistakeType);
+
 	IRatingGroup getRatingGroupById(String displayName);
 
 	List<IRatingGroup> getRatingGroups();
@@ -91,5 +126,22 @@ public interface IAssessmentController extends IController {
 
 	double getCurrentPenaltyForRatingGroup(IRatingGroup ratingGroup);
 
+	/**
+	 * @return the contribution of the annotations of the mistake type to the
+	 *         penalty of its rating group, before the limits of the rating group
+	 *         are applied
+	 */
+	double getCurrentPenaltyForMistakeType(IMistakeType mistakeType);
+
 	boolean isPositiveFeedbackAllowed();
+
+	/**
+	 * Parses the grading config again and rebinds the annotations to the new
+	 * mistake types (by identifier). Annotations of removed mistake types keep
+	 * their old mistake type. Annotations that are rejected with their new
+	 * mistake type keep their old one as well and are flagged as invalid.
+	 *
+	 * @return the difference to the previous version of the config
+	 */
+	GradingConfigChange reloadGradingConfig();
 }
@@ -14,8 +14,22 @@ import edu.kit.kastel.sdq.artemis4j.api.artemis.assessment.Submission;
  */
 public interface IExerciseArtemisController extends IController {
 	/**
-	 * Clones exercise and a submission into one project.
+	 * Clones exercise and a submission into one project. If the project has been
+	 * cloned before, the existing clones are updated instead.
 	 */
 	void downloadExerciseAndSubmission(Exercise exercise, Submission submission, File dir, IProjectFileNamingStrategy namingStrategy)
 			throws ArtemisClientException;
+
+	/**
+	 * Creates or updates the local mirrors of the test and template repository of
+	 * the exercise, so that the following downloads do not need to transfer their
+	 * objects from the remote.
+	 */
+	void warmRepositoryMirrors(Exercise exercise) throws ArtemisClientException;
+
+	/**
+	 * Resolves the Git credentials again on their next use, e.g. after the
+	 * preferences have been changed.
+	 */
+	void resetCredentials();
 }
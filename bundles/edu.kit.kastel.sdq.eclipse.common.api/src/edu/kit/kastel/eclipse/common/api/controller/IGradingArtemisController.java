@@ -45,6 +45,15 @@ public interface IGradingArtemisController extends IArtemisController {
 	 */
 	Optional<Submission> startNextAssessment(Exercise exercise, int correctionRound);
 
+	/**
+	 * Get a submission of the exercise by its id.
+	 *
+	 * @param exercise     the exercise
+	 * @param submissionId the id of the submission
+	 * @return the submission
+	 */
+	Submission getSubmission(Exercise exercise, int submissionId) throws ArtemisClientException;
+
 	/**
 	 * Get statistics for exercise.
 	 *
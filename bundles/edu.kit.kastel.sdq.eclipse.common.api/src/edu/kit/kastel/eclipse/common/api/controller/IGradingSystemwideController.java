@@ -4,6 +4,8 @@ package edu.kit.kastel.eclipse.common.api.controller;
 import java.nio.file.Path;
 import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Consumer;
 
 import edu.kit.kastel.eclipse.common.api.artemis.IProjectFileNamingStrategy;
 import edu.kit.kastel.sdq.artemis4j.api.artemis.Course;
@@ -19,9 +21,10 @@ public interface IGradingSystemwideController extends ISystemwideController {
 	 * calling tutor. Based on current exercise.
 	 * ISystemwideController::setExerciseId() must have been called before!
 	 *
-	 * @return the respective project Names (unique).
+	 * @return completes with the respective project Names (unique). The
+	 *         submissions are fetched in a background job, if needed.
 	 */
-	List<String> getBegunSubmissionsProjectNames();
+	CompletableFuture<List<String>> getBegunSubmissionsProjectNames();
 
 	/**
 	 * Get assessment controller for current state (courseID, exerciseID,
@@ -36,8 +39,11 @@ public interface IGradingSystemwideController extends ISystemwideController {
 	 * <li>You need to select a submission via
 	 * {@link #setAssessedSubmissionByProjectName(String)} )}, first! Has the same
 	 * effect as {@link #startCorrectionRound1()} )} otherwise.
+	 *
+	 * @return completes with whether the submission was loaded. The work is done
+	 *         in background jobs, see {@link #startCorrectionRound1()}.
 	 */
-	void loadAgain();
+	CompletableFuture<Boolean> loadAgain();
 
 	/**
 	 * <B>ASSESSMENT</B><br/>
@@ -51,15 +57,19 @@ public interface IGradingSystemwideController extends ISystemwideController {
 	 * <li>Deletes local project. Renews the lock and downloads the submission
 	 * project again.
 	 *
+	 * @return completes with whether the submission was reloaded. The work is done
+	 *         in background jobs.
 	 */
-	void reloadAssessment();
+	CompletableFuture<Boolean> reloadAssessment();
 
 	/**
 	 * <B>ASSESSMENT</B><br/>
 	 * <li>Saves the assessment to Artemis.
 	 *
+	 * @return completes with whether the assessment was saved. The request is sent
+	 *         in a background job.
 	 */
-	void saveAssessment();
+	CompletableFuture<Boolean> saveAssessment();
 
 	/**
 	 * <B>BACKLOG</B><br/>
@@ -67,34 +77,41 @@ public interface IGradingSystemwideController extends ISystemwideController {
 	 * <li>You want to have called {@link #getBegunSubmissionsProjectNames()},
 	 * first!
 	 *
+	 * @return completes with whether the submission was found. Submissions that
+	 *         have not been fetched yet are fetched in a background job.
 	 */
-	void setAssessedSubmissionByProjectName(String projectName);
+	CompletableFuture<Boolean> setAssessedSubmissionByProjectName(String projectName);
 
 	/**
 	 * <B>ASSESSMENT</B><br/>
+	 * <li>Locks, downloads and imports the next submission and loads its
+	 * annotations. Each stage runs in a background job, so the returned future
+	 * must not be joined on the UI thread.
 	 *
-	 * @return whether a new assessment was started or not, depending on whether
-	 *         there was a submission available.
+	 * @return completes with whether a new assessment was started or not,
+	 *         depending on whether there was a submission available.
 	 */
-	boolean startCorrectionRound1();
+	CompletableFuture<Boolean> startCorrectionRound1();
 
 	/**
 	 * <B>ASSESSMENT</B><br/>
 	 * <li>Like {@link #startCorrectionRound1()}, but with correction round 2 as a
 	 * parameter.
 	 *
-	 * @return whether a new assessment was started or not, depending on whether
-	 *         there was a submission available.
+	 * @return completes with whether a new assessment was started or not,
+	 *         depending on whether there was a submission available.
 	 */
-	boolean startCorrectionRound2();
+	CompletableFuture<Boolean> startCorrectionRound2();
 
 	/**
 	 * <B>ASSESSMENT</B><br/>
 	 * <li>Saves and submits the assessment to Artemis. Deletes project (in eclipse
 	 * and on files system) thereafter.
 	 *
+	 * @return completes with whether the assessment was submitted. The request is
+	 *         sent in a background job.
 	 */
-	void submitAssessment();
+	CompletableFuture<Boolean> submitAssessment();
 
 	/**
 	 * Download submissions defined by the given submissionIds
@@ -107,8 +124,48 @@ public interface IGradingSystemwideController extends ISystemwideController {
 
 	Optional<Exercise> getSelectedExercise();
 
-	ExerciseStats getStats();
+	/**
+	 * @return the last known statistics of the selected exercise. They are fetched
+	 *         in the background, so they may be missing or slightly outdated.
+	 */
+	Optional<ExerciseStats> getStats();
+
+	/**
+	 * Adds a new listener that will be notified whenever new statistics have been
+	 * fetched. Listeners may be called from any thread.
+	 */
+	void addStatsListener(Runnable listener);
 
 	Path getCurrentProjectPath();
 
+	/**
+	 * @return the number of submissions of the current correction round that have
+	 *         already been locked, downloaded and imported in the background.
+	 */
+	int getPrefetchedSubmissionCount();
+
+	/**
+	 * @return the number of submissions that are prefetched in the background.
+	 */
+	int getPrefetchDepth();
+
+	/**
+	 * Adds a new listener that will be notified whenever the prefetch queue
+	 * changes. Listeners may be called from any thread.
+	 */
+	void addPrefetchListener(Runnable listener);
+
+	/**
+	 * Adds a new listener that will be notified whenever the grading config file
+	 * has been changed and the config of the current assessment has been
+	 * reloaded. Listeners may be called from any thread.
+	 */
+	void addGradingConfigListener(Consumer<GradingConfigChange> listener);
+
+	/**
+	 * Stops the background tasks of this controller, e.g. before it is replaced by
+	 * a new one.
+	 */
+	void dispose();
+
 }
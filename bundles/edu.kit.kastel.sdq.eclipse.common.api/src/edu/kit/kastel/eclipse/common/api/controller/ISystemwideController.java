@@ -2,6 +2,7 @@
 package edu.kit.kastel.eclipse.common.api.controller;
 
 import java.util.List;
+import java.util.Set;
 
 import edu.kit.kastel.sdq.artemis4j.api.ArtemisClientException;
 
@@ -43,4 +44,11 @@ public interface ISystemwideController extends IController {
 	 * update of a new submission has been completed.
 	 */
 	void addSubmissionBuildListener(ISubmissionLifecycleCallback callback);
+
+	/**
+	 * Revalidates the given parts of the state in the background. Unlike creating
+	 * a new controller, this neither logs in again nor discards the local state of
+	 * the assessments.
+	 */
+	void refresh(Set<RefreshScope> scopes);
 }
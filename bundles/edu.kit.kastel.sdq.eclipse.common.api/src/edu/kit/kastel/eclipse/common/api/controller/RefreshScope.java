@@ -0,0 +1,27 @@
+/* Licensed under EPL-2.0 2024. */
+package edu.kit.kastel.eclipse.common.api.controller;
+
+/**
+ * The parts of the state that can be refreshed by
+ * {@link ISystemwideController#refresh(java.util.Set)} without creating new
+ * controllers. The Artemis session and the local assessments are kept.
+ */
+public enum RefreshScope {
+	/**
+	 * Courses, exams and exercises
+	 */
+	COURSES,
+	/**
+	 * The submissions that have been started by the user
+	 */
+	SUBMISSIONS,
+	/**
+	 * The statistics of the selected exercise
+	 */
+	STATS,
+	/**
+	 * The Git credentials, e.g. after the Git token has been changed in the
+	 * preferences
+	 */
+	CREDENTIALS
+}
@@ -1,11 +1,33 @@
 /* Licensed under EPL-2.0 2022-2023. */
 package edu.kit.kastel.eclipse.common.api.messages;
 
+import java.util.OptionalInt;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
 public class Messages {
+	private static final Pattern STATUS = Pattern.compile("failed with status \"(\\d{3}):");
+
 	private Messages() {
 		throw new IllegalAccessError();
 	}
 
+	/**
+	 * artemis4j does not expose the HTTP status code of a failed request, but
+	 * reports it in the message, in the format of
+	 * {@link #CLIENT_COMMUNICATION_ERROR_FORMAT}.
+	 *
+	 * @return the status code, or empty if the request did not fail with one
+	 *         (e.g. due to a connection error)
+	 */
+	public static OptionalInt getStatus(String message) {
+		if (message == null) {
+			return OptionalInt.empty();
+		}
+		Matcher status = STATUS.matcher(message);
+		return status.find() ? OptionalInt.of(Integer.parseInt(status.group(1))) : OptionalInt.empty();
+	}
+
 	public static final String CLIENT_COMMUNICATION_ERROR_FORMAT = "Communication with \" %s \" failed with status \"%s: %s\".";
 	public static final String CLIENT_NO_SUBMISSION_FOUND_FORMAT = "Submission %d not found!";
 	public static final String ASSESSMENT_COULD_NOT_BE_STARTED_MESSAGE = "Assessment could not be started: ";
@@ -0,0 +1,109 @@
+/* Licensed under EPL-2.0 2024. */
+package edu.kit.kastel.eclipse.common.client;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.eclipse.swt.SWT;
+import org.eclipse.swt.SWTError;
+import org.eclipse.swt.browser.Browser;
+import org.eclipse.swt.widgets.Display;
+import org.eclipse.swt.widgets.Shell;
+import org.junit.jupiter.api.Test;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+/**
+ * Opens the login dialog on a local stand-in page, which sets the jwt cookie
+ * by a request of its script, so the browser reports no navigation. The
+ * latency until the dialog has the token is bounded by the longest poll
+ * interval. Skipped if there is no display or embedded browser.
+ */
+class BrowserLoginTest {
+	private static final String TOKEN = "stand-in-token";
+	// past the time in which a cookie is considered to be from an earlier login
+	private static final long LOGIN_DELAY_MS = 6000;
+	private static final int TIMEOUT_MS = 30000;
+
+	private static final String PAGE = """
+			<html>
+				<body>
+					<script>
+						setTimeout(function () { fetch("/login"); }, %d);
+					</script>
+				</body>
+			</html>
+			""".formatted(LOGIN_DELAY_MS);
+
+	@Test
+	void loginWithoutNavigationIsDetected() throws IOException {
+		Display display = getDisplay();
+		assumeTrue(display != null && canCreateBrowser(display), "the embedded browser needs a display");
+
+		AtomicLong loggedIn = new AtomicLong();
+		HttpServer server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0), 0);
+		server.createContext("/", exchange -> respond(exchange, "text/html", PAGE));
+		server.createContext("/login", exchange -> {
+			loggedIn.set(System.nanoTime());
+			exchange.getResponseHeaders().add("Set-Cookie", "jwt=" + TOKEN + "; Path=/");
+			respond(exchange, "text/plain", "ok");
+		});
+		server.start();
+		try {
+			BrowserLogin login = new BrowserLogin("http://localhost:" + server.getAddress().getPort() + "/");
+			display.asyncExec(() -> display.timerExec(TIMEOUT_MS, login::close));
+
+			String token = login.getToken();
+			long latency = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - loggedIn.get());
+
+			assertEquals(TOKEN, token);
+			assertTrue(latency <= BrowserLogin.MAX_POLL_INTERVAL + 1000, "token read " + latency + " ms after the login");
+		} finally {
+			server.stop(0);
+		}
+	}
+
+	private static void respond(HttpExchange exchange, String contentType, String body) throws IOException {
+		byte[] bytes = body.getBytes(StandardCharsets.UTF_8);
+		exchange.getResponseHeaders().add("Content-Type", contentType + "; charset=utf-8");
+		exchange.sendResponseHeaders(200, bytes.length);
+		try (OutputStream out = exchange.getResponseBody()) {
+			out.write(bytes);
+		}
+	}
+
+	private static Display getDisplay() {
+		try {
+			return Display.getDefault();
+		} catch (SWTError e) {
+			return null;
+		}
+	}
+
+	private static boolean canCreateBrowser(Display display) {
+		AtomicBoolean created = new AtomicBoolean();
+		display.syncExec(() -> {
+			Shell shell = new Shell(display);
+			try {
+				new Browser(shell, SWT.NONE);
+				created.set(true);
+			} catch (SWTError e) {
+				created.set(false);
+			} finally {
+				shell.dispose();
+			}
+		});
+		return created.get();
+	}
+}
@@ -0,0 +1,151 @@
+/* Licensed under EPL-2.0 2024. */
+package edu.kit.kastel.eclipse.common.client.archive;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.OptionalInt;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
+
+import org.eclipse.core.runtime.NullProgressMonitor;
+import org.eclipse.core.runtime.OperationCanceledException;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import edu.kit.kastel.eclipse.common.api.messages.Messages;
+
+/**
+ * Downloads archives from a local stand-in for the repository export endpoint
+ * of Artemis.
+ */
+class ArchiveDownloaderTest {
+	private static final String TOKEN = "stand-in-token";
+	private static final AtomicReference<String> AUTHORIZATION = new AtomicReference<>();
+
+	private static HttpServer server;
+
+	@TempDir
+	Path directory;
+
+	@BeforeAll
+	static void startServer() throws IOException {
+		server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0), 0);
+		server.createContext("/nested.zip", exchange -> {
+			AUTHORIZATION.set(exchange.getRequestHeaders().getFirst("Authorization"));
+			respond(exchange, 200, zip(entries("repo/", "", "repo/src/Main.java", "class Main {}", "repo/README.md", "readme")));
+		});
+		server.createContext("/flat.zip", exchange -> respond(exchange, 200, zip(entries("src/Main.java", "class Main {}", "README.md", "readme"))));
+		server.createContext("/redirect.zip", exchange -> {
+			exchange.getResponseHeaders().add("Location", "/flat.zip");
+			respond(exchange, 302, new byte[0]);
+		});
+		server.createContext("/outside.zip", exchange -> respond(exchange, 200, zip(entries("../outside.txt", "outside"))));
+		server.createContext("/missing.zip", exchange -> respond(exchange, 404, new byte[0]));
+		server.start();
+	}
+
+	@AfterAll
+	static void stopServer() {
+		server.stop(0);
+	}
+
+	@Test
+	void commonDirectoryIsStripped() throws IOException {
+		ArchiveDownloader.downloadAndExtract(url("/nested.zip"), TOKEN, this.directory.toFile(), new NullProgressMonitor());
+
+		assertEquals("Bearer " + TOKEN, AUTHORIZATION.get());
+		assertEquals("class Main {}", Files.readString(this.directory.resolve("src/Main.java")));
+		assertEquals("readme", Files.readString(this.directory.resolve("README.md")));
+		assertFalse(Files.exists(this.directory.resolve("repo")));
+	}
+
+	@Test
+	void flatArchiveIsExtractedAsIs() throws IOException {
+		ArchiveDownloader.downloadAndExtract(url("/flat.zip"), null, this.directory.toFile(), new NullProgressMonitor());
+
+		assertEquals("class Main {}", Files.readString(this.directory.resolve("src/Main.java")));
+		assertEquals("readme", Files.readString(this.directory.resolve("README.md")));
+	}
+
+	@Test
+	void redirectIsFollowed() throws IOException {
+		ArchiveDownloader.downloadAndExtract(url("/redirect.zip"), TOKEN, this.directory.toFile(), new NullProgressMonitor());
+
+		assertTrue(Files.exists(this.directory.resolve("src/Main.java")));
+	}
+
+	@Test
+	void failedDownloadReportsStatus() {
+		IOException e = assertThrows(IOException.class,
+				() -> ArchiveDownloader.downloadAndExtract(url("/missing.zip"), TOKEN, this.directory.toFile(), new NullProgressMonitor()));
+
+		assertEquals(OptionalInt.of(404), Messages.getStatus(e.getMessage()));
+	}
+
+	@Test
+	void entriesOutsideOfTheDestinationAreRejected() {
+		Path destination = this.directory.resolve("destination");
+		assertThrows(IOException.class,
+				() -> ArchiveDownloader.downloadAndExtract(url("/outside.zip"), TOKEN, destination.toFile(), new NullProgressMonitor()));
+
+		assertFalse(Files.exists(this.directory.resolve("outside.txt")));
+	}
+
+	@Test
+	void cancelledDownloadStops() {
+		NullProgressMonitor monitor = new NullProgressMonitor();
+		monitor.setCanceled(true);
+
+		assertThrows(OperationCanceledException.class, () -> ArchiveDownloader.downloadAndExtract(url("/flat.zip"), TOKEN, this.directory.toFile(), monitor));
+	}
+
+	private static String url(String path) {
+		return "http://localhost:" + server.getAddress().getPort() + path;
+	}
+
+	private static Map<String, String> entries(String... namesAndContents) {
+		Map<String, String> entries = new LinkedHashMap<>();
+		for (int i = 0; i < namesAndContents.length; i += 2) {
+			entries.put(namesAndContents[i], namesAndContents[i + 1]);
+		}
+		return entries;
+	}
+
+	private static byte[] zip(Map<String, String> entries) throws IOException {
+		ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+		try (ZipOutputStream zip = new ZipOutputStream(bytes)) {
+			for (Map.Entry<String, String> entry : entries.entrySet()) {
+				zip.putNextEntry(new ZipEntry(entry.getKey()));
+				zip.write(entry.getValue().getBytes(StandardCharsets.UTF_8));
+				zip.closeEntry();
+			}
+		}
+		return bytes.toByteArray();
+	}
+
+	private static void respond(HttpExchange exchange, int status, byte[] body) throws IOException {
+		exchange.sendResponseHeaders(status, body.length == 0 ? -1 : body.length);
+		try (OutputStream out = exchange.getResponseBody()) {
+			out.write(body);
+		}
+	}
+}
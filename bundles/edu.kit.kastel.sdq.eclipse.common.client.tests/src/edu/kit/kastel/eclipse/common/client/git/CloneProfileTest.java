@@ -0,0 +1,95 @@
+/* Licensed under EPL-2.0 2024. */
+package edu.kit.kastel.eclipse.common.client.git;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.Random;
+import java.util.stream.Stream;
+
+import org.eclipse.jgit.api.Git;
+import org.eclipse.jgit.api.errors.GitAPIException;
+import org.eclipse.jgit.lib.NullProgressMonitor;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+/**
+ * Compares the clone profiles against a local fixture repository with a long
+ * history, a second branch and a large binary that has been committed and
+ * deleted again. The bytes of the object database of a clone are the bytes
+ * that have been transferred, so the profiles have to be ordered by them.
+ */
+class CloneProfileTest {
+	private static final int COMMITS = 50;
+	private static final int BINARY_SIZE = 4 * 1024 * 1024;
+
+	@TempDir
+	static Path directory;
+
+	private static String fixtureURL;
+
+	@BeforeAll
+	static void createFixture() throws GitAPIException, IOException {
+		Path fixture = directory.resolve("fixture");
+		try (Git git = Git.init().setDirectory(fixture.toFile()).setInitialBranch("main").call()) {
+			Files.createDirectories(fixture.resolve("src"));
+			Files.createDirectories(fixture.resolve("docs"));
+			Files.writeString(fixture.resolve("pom.xml"), "<project/>\n");
+			Files.writeString(fixture.resolve("docs/notes.md"), "notes\n");
+			for (int i = 0; i < COMMITS; i++) {
+				Files.writeString(fixture.resolve("src/Main.java"), "class Main { int version = " + i + "; }\n");
+				if (i == 5) {
+					byte[] binary = new byte[BINARY_SIZE];
+					new Random(i).nextBytes(binary);
+					Files.write(fixture.resolve("src/data.bin"), binary);
+				} else if (i == 6) {
+					Files.delete(fixture.resolve("src/data.bin"));
+				}
+				git.add().addFilepattern(".").call();
+				git.add().addFilepattern(".").setUpdate(true).call();
+				git.commit().setMessage("Commit " + i).call();
+			}
+
+			git.checkout().setCreateBranch(true).setName("feature").call();
+			byte[] binary = new byte[BINARY_SIZE];
+			new Random(-1).nextBytes(binary);
+			Files.write(fixture.resolve("feature.bin"), binary);
+			git.add().addFilepattern(".").call();
+			git.commit().setMessage("Feature").call();
+			git.checkout().setName("main").call();
+		}
+		fixtureURL = fixture.toUri().toString();
+	}
+
+	@Test
+	void profilesAreOrderedByTransferredBytes() throws GitException, IOException {
+		Map<CloneProfile, Long> bytes = new EnumMap<>(CloneProfile.class);
+		for (CloneProfile profile : CloneProfile.values()) {
+			File destination = directory.resolve(profile.name()).toFile();
+			GitHandler.cloneRepo(destination, fixtureURL, null, profile, NullProgressMonitor.INSTANCE);
+			bytes.put(profile, size(destination.toPath().resolve(".git").resolve("objects")));
+		}
+
+		assertTrue(bytes.get(CloneProfile.SINGLE_BRANCH) < bytes.get(CloneProfile.FULL), () -> "single branch is not smaller: " + bytes);
+		assertTrue(bytes.get(CloneProfile.SHALLOW) < bytes.get(CloneProfile.SINGLE_BRANCH), () -> "shallow is not smaller: " + bytes);
+		assertTrue(bytes.get(CloneProfile.SPARSE) <= bytes.get(CloneProfile.SHALLOW), () -> "sparse is larger: " + bytes);
+
+		Path sparse = directory.resolve(CloneProfile.SPARSE.name());
+		assertTrue(Files.isRegularFile(sparse.resolve("src/Main.java")));
+		assertTrue(Files.isRegularFile(sparse.resolve("pom.xml")));
+		assertFalse(Files.exists(sparse.resolve("docs/notes.md")));
+	}
+
+	private static long size(Path path) throws IOException {
+		try (Stream<Path> files = Files.walk(path)) {
+			return files.filter(Files::isRegularFile).mapToLong(file -> file.toFile().length()).sum();
+		}
+	}
+}
@@ -0,0 +1,108 @@
+/* Licensed under EPL-2.0 2024. */
+package edu.kit.kastel.eclipse.common.client.rest;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.Map;
+import java.util.Optional;
+
+import javax.crypto.spec.PBEKeySpec;
+
+import org.eclipse.equinox.security.storage.ISecurePreferences;
+import org.eclipse.equinox.security.storage.SecurePreferencesFactory;
+import org.eclipse.equinox.security.storage.provider.IProviderHints;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+/**
+ * Reads the expiry of crafted tokens and stores them in a secure storage in a
+ * temporary file, so the secure storage of the user is not touched.
+ */
+class TokenStoreTest {
+	private static final Instant NOW = Instant.ofEpochSecond(1_700_000_000);
+
+	@TempDir
+	static Path directory;
+
+	private static ISecurePreferences root;
+
+	@BeforeAll
+	static void openStorage() throws IOException {
+		Map<String, Object> options = Map.of(IProviderHints.PROMPT_USER, Boolean.FALSE, IProviderHints.DEFAULT_PASSWORD,
+				new PBEKeySpec("test".toCharArray()));
+		root = SecurePreferencesFactory.open(directory.resolve("secure_storage").toUri().toURL(), options);
+	}
+
+	@Test
+	void expiryIsReadFromThePayload() {
+		assertEquals(Optional.of(NOW), TokenStore.expiry(token("{\"sub\":\"tutor\",\"exp\":" + NOW.getEpochSecond() + "}")));
+	}
+
+	@Test
+	void tokensWithoutValidExpiryHaveNone() {
+		assertEquals(Optional.empty(), TokenStore.expiry(token("{\"sub\":\"tutor\"}")));
+		assertEquals(Optional.empty(), TokenStore.expiry(token("{\"exp\":\"tomorrow\"}")));
+		assertEquals(Optional.empty(), TokenStore.expiry(token("not json")));
+		assertEquals(Optional.empty(), TokenStore.expiry("header.%%%.signature"));
+		assertEquals(Optional.empty(), TokenStore.expiry("opaque"));
+	}
+
+	@Test
+	void tokensExpiringWithinTheMarginAreNotUsable() {
+		assertTrue(TokenStore.isUsable(NOW.plus(Duration.ofHours(1)), NOW));
+		assertTrue(TokenStore.isUsable(NOW.plus(TokenStore.EXPIRY_MARGIN), NOW));
+		assertFalse(TokenStore.isUsable(NOW.plus(TokenStore.EXPIRY_MARGIN).minusSeconds(1), NOW));
+		assertFalse(TokenStore.isUsable(NOW.minusSeconds(1), NOW));
+	}
+
+	@Test
+	void validTokenIsLoadedUntilCleared() {
+		TokenStore store = new TokenStore("https://valid.example.org", root);
+		String token = token("{\"exp\":" + Instant.now().plus(Duration.ofHours(1)).getEpochSecond() + "}");
+
+		store.store(token);
+		assertEquals(Optional.of(token), store.load());
+		assertEquals(Optional.of(token), new TokenStore("https://valid.example.org", root).load());
+		assertEquals(Optional.empty(), new TokenStore("https://other.example.org", root).load());
+
+		store.clear();
+		assertEquals(Optional.empty(), store.load());
+	}
+
+	@Test
+	void tokenExpiringWithinTheMarginIsNotLoaded() {
+		TokenStore store = new TokenStore("https://expiring.example.org", root);
+		store.store(token("{\"exp\":" + Instant.now().plus(Duration.ofMinutes(1)).getEpochSecond() + "}"));
+		assertEquals(Optional.empty(), store.load());
+	}
+
+	@Test
+	void tokenWithoutExpiryIsNotStored() {
+		TokenStore store = new TokenStore("https://unlimited.example.org", root);
+		store.store(token("{\"sub\":\"tutor\"}"));
+		assertEquals(Optional.empty(), store.load());
+	}
+
+	@Test
+	void missingStorageIsIgnored() {
+		TokenStore store = new TokenStore("https://valid.example.org", null);
+		store.store(token("{\"exp\":" + Instant.now().plus(Duration.ofHours(1)).getEpochSecond() + "}"));
+		assertEquals(Optional.empty(), store.load());
+		store.clear();
+	}
+
+	private static String token(String payload) {
+		Base64.Encoder encoder = Base64.getUrlEncoder().withoutPadding();
+		String header = encoder.encodeToString("{\"alg\":\"HS512\"}".getBytes(StandardCharsets.UTF_8));
+		return header + "." + encoder.encodeToString(payload.getBytes(StandardCharsets.UTF_8)) + ".signature";
+	}
+}
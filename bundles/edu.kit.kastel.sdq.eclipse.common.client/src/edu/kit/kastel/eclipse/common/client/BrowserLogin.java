@@ -11,6 +11,8 @@ import org.eclipse.swt.SWT;
 import org.eclipse.swt.SWTError;
 import org.eclipse.swt.SWTException;
 import org.eclipse.swt.browser.Browser;
+import org.eclipse.swt.browser.LocationListener;
+import org.eclipse.swt.browser.ProgressListener;
 import org.eclipse.swt.layout.GridData;
 import org.eclipse.swt.layout.GridLayout;
 import org.eclipse.swt.widgets.Composite;
@@ -24,14 +26,20 @@ public class BrowserLogin extends Dialog {
 	private static final int HEIGHT = 1024;
 
 	private static final long MIN_TIME_TO_LOGIN_IN_MS = 5000;
-	private static final long POLL_INTERVAL = 1000;
+	// the cookie is read on navigation events, polling only detects logins that
+	// do not cause one (e.g. by the single page app of Artemis). The interval
+	// doubles while the browser is idle and is reset by each event.
+	static final long MIN_POLL_INTERVAL = 1000;
+	static final long MAX_POLL_INTERVAL = 8000;
 
 	private static final ILog log = Platform.getLog(BrowserLogin.class);
 
 	private final String fullUrl;
 	private String token;
 
-	private boolean closed = false;
+	private volatile boolean closed = false;
+	private final Object pollLock = new Object();
+	private long pollInterval = MIN_POLL_INTERVAL;
 
 	private long lastSuccessWasAlreadyLoggedIn;
 
@@ -69,6 +77,8 @@ public class BrowserLogin extends Dialog {
 		browser.setLayoutData(new GridData(GridData.FILL_BOTH));
 		browser.setJavascriptEnabled(true);
 		browser.setLayoutData(new GridData(SWT.FILL, SWT.FILL, true, true));
+		browser.addLocationListener(LocationListener.changedAdapter(event -> this.onBrowserEvent()));
+		browser.addProgressListener(ProgressListener.completedAdapter(event -> this.onBrowserEvent()));
 		browser.setUrl(this.fullUrl);
 		return comp;
 	}
@@ -78,7 +88,7 @@ public class BrowserLogin extends Dialog {
 		this.closed = false;
 		this.lastSuccessWasAlreadyLoggedIn = System.currentTimeMillis();
 		int result = super.open();
-		this.closed = true;
+		this.stopPolling();
 		return result;
 	}
 
@@ -89,7 +99,7 @@ public class BrowserLogin extends Dialog {
 
 	@Override
 	protected void cancelPressed() {
-		this.closed = true;
+		this.stopPolling();
 		super.cancelPressed();
 	}
 
@@ -104,6 +114,9 @@ public class BrowserLogin extends Dialog {
 		}
 
 		this.closed = false;
+		synchronized (this.pollLock) {
+			this.pollInterval = MIN_POLL_INTERVAL;
+		}
 
 		Thread pollingDaemon = new Thread(this::pollingThread);
 		pollingDaemon.setDaemon(true);
@@ -118,9 +131,17 @@ public class BrowserLogin extends Dialog {
 	private void pollingThread() {
 		try {
 			var display = Display.getDefault();
-			while (!this.closed) {
-				Thread.sleep(POLL_INTERVAL);
-				display.asyncExec(this::readCookieAndSetToken);
+			synchronized (this.pollLock) {
+				while (!this.closed) {
+					long interval = this.pollInterval;
+					this.pollLock.wait(interval);
+					if (this.pollInterval < interval) {
+						// reset by an event, which has read the cookie already
+						continue;
+					}
+					this.pollInterval = Math.min(interval * 2, MAX_POLL_INTERVAL);
+					display.asyncExec(this::readCookieAndSetToken);
+				}
 			}
 		} catch (Exception e) {
 			log.error(e.getMessage(), e);
@@ -128,6 +149,21 @@ public class BrowserLogin extends Dialog {
 
 	}
 
+	private void onBrowserEvent() {
+		this.readCookieAndSetToken();
+		synchronized (this.pollLock) {
+			this.pollInterval = MIN_POLL_INTERVAL;
+			this.pollLock.notifyAll();
+		}
+	}
+
+	private void stopPolling() {
+		synchronized (this.pollLock) {
+			this.closed = true;
+			this.pollLock.notifyAll();
+		}
+	}
+
 	private void readCookieAndSetToken() {
 		try {
 			String jwtToken = Browser.getCookie("jwt", this.fullUrl);
@@ -0,0 +1,130 @@
+/* Licensed under EPL-2.0 2024. */
+package edu.kit.kastel.eclipse.common.client.archive;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.UUID;
+import java.util.stream.Stream;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipInputStream;
+
+import org.eclipse.core.runtime.IProgressMonitor;
+import org.eclipse.core.runtime.OperationCanceledException;
+
+import edu.kit.kastel.eclipse.common.api.messages.Messages;
+
+/**
+ * Downloads ZIP archives (e.g. the repository export of a participation) and
+ * extracts them while they are downloaded. Neither the archive nor a git
+ * object database is written to disk.
+ */
+public final class ArchiveDownloader {
+	private static final HttpClient CLIENT = HttpClient.newBuilder().connectTimeout(Duration.ofSeconds(30)).followRedirects(HttpClient.Redirect.NORMAL).build();
+	private static final int BUFFER_SIZE = 64 * 1024;
+
+	/**
+	 * Downloads the archive and extracts it into the destination. If all entries
+	 * of the archive are located in one top level directory, the contents of that
+	 * directory are extracted.
+	 *
+	 * @param token the bearer token used for authentication (may be null)
+	 */
+	public static void downloadAndExtract(String url, String token, File destination, IProgressMonitor monitor) throws IOException {
+		HttpRequest.Builder request = HttpRequest.newBuilder(URI.create(url)).timeout(Duration.ofSeconds(60)).GET();
+		if (token != null) {
+			request.header("Authorization", "Bearer " + token);
+		}
+		HttpResponse<InputStream> response;
+		try {
+			response = CLIENT.send(request.build(), HttpResponse.BodyHandlers.ofInputStream());
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new OperationCanceledException();
+		}
+		try (InputStream body = response.body()) {
+			if (response.statusCode() / 100 != 2) {
+				throw new IOException(Messages.CLIENT_COMMUNICATION_ERROR_FORMAT.formatted(url, response.statusCode(), "Download failed"));
+			}
+			extract(body, destination.toPath(), monitor);
+		}
+	}
+
+	/**
+	 * Extracts a ZIP stream into the destination. If every entry of the archive is
+	 * located in the same top level directory, the contents of that directory are
+	 * moved up into the destination once the archive has been extracted.
+	 */
+	public static void extract(InputStream archive, Path destination, IProgressMonitor monitor) throws IOException {
+		Path root = destination.toAbsolutePath().normalize();
+		Files.createDirectories(root);
+
+		byte[] buffer = new byte[BUFFER_SIZE];
+		Set<String> topLevel = new HashSet<>();
+		boolean nested = true;
+		int entries = 0;
+		try (ZipInputStream zip = new ZipInputStream(archive)) {
+			ZipEntry entry;
+			while ((entry = zip.getNextEntry()) != null) {
+				String name = entry.getName().replace('\\', '/');
+				Path target = root.resolve(name).normalize();
+				if (!target.startsWith(root)) {
+					throw new IOException("Archive entry " + entry.getName() + " is outside of the destination");
+				}
+				if (target.equals(root)) {
+					continue;
+				}
+
+				Path relative = root.relativize(target);
+				topLevel.add(relative.getName(0).toString());
+				// a file on the top level can not be part of a common directory
+				nested &= relative.getNameCount() > 1 || entry.isDirectory();
+
+				if (entry.isDirectory()) {
+					Files.createDirectories(target);
+				} else {
+					Files.createDirectories(target.getParent());
+					try (OutputStream out = Files.newOutputStream(target)) {
+						int read;
+						while ((read = zip.read(buffer)) != -1) {
+							if (monitor.isCanceled()) {
+								throw new OperationCanceledException();
+							}
+							out.write(buffer, 0, read);
+						}
+					}
+				}
+				monitor.subTask("Extracted " + ++entries + " entries");
+			}
+		}
+
+		if (nested && topLevel.size() == 1) {
+			stripDirectory(root, topLevel.iterator().next());
+		}
+	}
+
+	private static void stripDirectory(Path root, String directory) throws IOException {
+		// the directory may contain an entry of the same name
+		Path source = Files.move(root.resolve(directory), root.resolve("." + directory + "-" + UUID.randomUUID()));
+		try (Stream<Path> children = Files.list(source)) {
+			for (Path child : (Iterable<Path>) children::iterator) {
+				Files.move(child, root.resolve(child.getFileName()));
+			}
+		}
+		Files.delete(source);
+	}
+
+	private ArchiveDownloader() {
+		throw new IllegalAccessError();
+	}
+}
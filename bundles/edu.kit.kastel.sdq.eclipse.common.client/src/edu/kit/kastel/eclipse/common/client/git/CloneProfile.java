@@ -0,0 +1,44 @@
+/* Licensed under EPL-2.0 2024. */
+package edu.kit.kastel.eclipse.common.client.git;
+
+import java.util.List;
+
+/**
+ * Defines how much of a repository is transferred when cloning it.
+ */
+public enum CloneProfile {
+	/**
+	 * All branches with their complete history.
+	 */
+	FULL,
+	/**
+	 * Only the default branch with its complete history.
+	 */
+	SINGLE_BRANCH,
+	/**
+	 * Only the latest commit of the default branch.
+	 */
+	SHALLOW,
+	/**
+	 * Only the latest commit of the default branch. Only the sources and the
+	 * maven configuration are checked out.
+	 */
+	SPARSE;
+
+	/**
+	 * The paths that are checked out for {@link #SPARSE} clones.
+	 */
+	public static final List<String> SPARSE_PATHS = List.of("src", "pom.xml");
+
+	/**
+	 * @return the profile with the given name or {@link #FULL} if there is none.
+	 */
+	public static CloneProfile fromName(String name) {
+		for (CloneProfile profile : values()) {
+			if (profile.name().equalsIgnoreCase(name == null ? "" : name.trim())) {
+				return profile;
+			}
+		}
+		return FULL;
+	}
+}
@@ -3,14 +3,38 @@ package edu.kit.kastel.eclipse.common.client.git;
 
 import java.io.File;
 import java.io.IOException;
+import java.nio.file.FileAlreadyExistsException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.stream.Stream;
 
 import org.eclipse.jgit.api.CloneCommand;
+import org.eclipse.jgit.api.CreateBranchCommand.SetupUpstreamMode;
 import org.eclipse.jgit.api.Git;
+import org.eclipse.jgit.api.ResetCommand.ResetType;
+import org.eclipse.jgit.api.Status;
 
 import org.eclipse.jgit.api.TransportCommand;
+import org.eclipse.jgit.api.errors.GitAPIException;
 
+import org.eclipse.jgit.dircache.DirCache;
+import org.eclipse.jgit.dircache.DirCacheBuilder;
+import org.eclipse.jgit.dircache.DirCacheEntry;
+import org.eclipse.jgit.lib.ConfigConstants;
+import org.eclipse.jgit.lib.Constants;
+import org.eclipse.jgit.lib.NullProgressMonitor;
+import org.eclipse.jgit.lib.ObjectReader;
+import org.eclipse.jgit.lib.ProgressMonitor;
+import org.eclipse.jgit.lib.Ref;
 import org.eclipse.jgit.lib.Repository;
+import org.eclipse.jgit.lib.StoredConfig;
 
+import org.eclipse.jgit.transport.RefSpec;
+import org.eclipse.jgit.transport.RemoteConfig;
 import org.eclipse.jgit.transport.TransportHttp;
 import org.eclipse.jgit.transport.URIish;
 import org.eclipse.jgit.util.FileUtils;
@@ -22,24 +46,54 @@ public final class GitHandler {
 	private static final String REMOTE_NAME = "origin";
 
 	public static void cloneRepo(final File destination, String repoURL, GitCredentials credentials) throws GitException {
+		cloneRepo(destination, repoURL, credentials, NullProgressMonitor.INSTANCE);
+	}
+
+	/**
+	 * Clones the repository and reports the progress to the given monitor. The
+	 * clone is aborted if the monitor is cancelled.
+	 */
+	public static void cloneRepo(final File destination, String repoURL, GitCredentials credentials, ProgressMonitor monitor) throws GitException {
+		cloneRepo(destination, repoURL, credentials, CloneProfile.FULL, monitor);
+	}
+
+	/**
+	 * Clones the repository according to the given profile and reports the
+	 * progress to the given monitor. The clone is aborted if the monitor is
+	 * cancelled.
+	 */
+	public static void cloneRepo(final File destination, String repoURL, GitCredentials credentials, CloneProfile profile, ProgressMonitor monitor)
+			throws GitException {
 		Repository repository = null;
 		try {
 			CloneCommand cloneRepository = Git.cloneRepository();
 			cloneRepository.setDirectory(destination);
 			cloneRepository.setRemote(REMOTE_NAME);
 			cloneRepository.setURI(String.valueOf(new URIish(repoURL)));
-			cloneRepository.setCloneAllBranches(true);
 			cloneRepository.setCloneSubmodules(false);
+			cloneRepository.setProgressMonitor(monitor);
 			makeAuth(cloneRepository, credentials);
 
+			String branch = null;
+			if (profile == CloneProfile.FULL) {
+				cloneRepository.setCloneAllBranches(true);
+			} else {
+				branch = getDefaultBranch(repoURL, credentials);
+				cloneRepository.setBranch(branch);
+				cloneRepository.setBranchesToClone(List.of(branch));
+			}
+			if (profile == CloneProfile.SHALLOW || profile == CloneProfile.SPARSE) {
+				cloneRepository.setDepth(1);
+			}
+			cloneRepository.setNoCheckout(profile == CloneProfile.SPARSE);
+
 			Git git = cloneRepository.call();
 			repository = git.getRepository();
-		} catch (final Exception e) {
-			try {
-				FileUtils.delete(destination, FileUtils.RECURSIVE);
-			} catch (IOException ioe) {
-				// NOP
+			if (profile == CloneProfile.SPARSE) {
+				checkoutPaths(git, branch, CloneProfile.SPARSE_PATHS);
 			}
+		} catch (final Exception e) {
+			deleteQuietly(destination);
 			throw new GitException(Messages.GIT_CLONE_FAILED + e.getMessage(), e);
 		} finally {
 			if (repository != null) {
@@ -48,6 +102,354 @@ public final class GitHandler {
 		}
 	}
 
+	/**
+	 * Clones a git bundle (e.g. created by {@code git bundle create --all}).
+	 * Afterwards the remote of the clone points to the given repository URL, so
+	 * the clone can be updated like a regular clone.
+	 */
+	public static void cloneBundle(final File destination, final File bundle, String repoURL, ProgressMonitor monitor) throws GitException {
+		cloneRepo(destination, bundle.getAbsolutePath(), null, CloneProfile.FULL, monitor);
+		try (Git git = Git.open(destination)) {
+			StoredConfig config = git.getRepository().getConfig();
+			config.setString(ConfigConstants.CONFIG_REMOTE_SECTION, REMOTE_NAME, ConfigConstants.CONFIG_KEY_URL, repoURL);
+			config.save();
+		} catch (final IOException e) {
+			deleteQuietly(destination);
+			throw new GitException(Messages.GIT_OPEN_FAILED + destination, e);
+		}
+	}
+
+	/**
+	 * @return the value of the key in the config of the repository
+	 */
+	public static Optional<String> getConfigValue(final File directory, String section, String name) throws GitException {
+		try (Git git = Git.open(directory)) {
+			return Optional.ofNullable(git.getRepository().getConfig().getString(section, null, name));
+		} catch (final IOException e) {
+			throw new GitException(Messages.GIT_OPEN_FAILED + directory, e);
+		}
+	}
+
+	/**
+	 * Stores a value in the config of the repository, e.g. to remember where the
+	 * contents of a clone have been imported from.
+	 */
+	public static void setConfigValue(final File directory, String section, String name, String value) throws GitException {
+		try (Git git = Git.open(directory)) {
+			StoredConfig config = git.getRepository().getConfig();
+			config.setString(section, null, name, value);
+			config.save();
+		} catch (final IOException e) {
+			throw new GitException(Messages.GIT_OPEN_FAILED + directory, e);
+		}
+	}
+
+	/**
+	 * Determines the full name of the branch HEAD of the remote repository points
+	 * to.
+	 */
+	private static String getDefaultBranch(String repoURL, GitCredentials credentials) throws GitException, GitAPIException {
+		var lsRemote = Git.lsRemoteRepository().setRemote(repoURL);
+		makeAuth(lsRemote, credentials);
+		Map<String, Ref> refs = lsRemote.callAsMap();
+		Ref head = refs.get(Constants.HEAD);
+		if (head == null) {
+			throw new GitException("Repository " + repoURL + " has no HEAD");
+		}
+		if (head.isSymbolic()) {
+			return head.getTarget().getName();
+		}
+		// servers that do not advertise symbolic refs
+		return refs.values().stream().filter(ref -> ref.getName().startsWith(Constants.R_HEADS) && head.getObjectId().equals(ref.getObjectId()))
+				.map(Ref::getName).findFirst().orElseThrow(() -> new GitException("Could not determine the default branch of " + repoURL));
+	}
+
+	/**
+	 * Creates the local branch after a clone without checkout and checks out only
+	 * the given paths. The other files are kept in the index and marked as
+	 * unchanged, so the working tree is clean.
+	 */
+	private static void checkoutPaths(Git git, String branch, List<String> paths) throws GitAPIException, IOException {
+		Repository repository = git.getRepository();
+		String name = Repository.shortenRefName(branch);
+		if (repository.exactRef(branch) == null) {
+			git.branchCreate().setName(name).setStartPoint(REMOTE_NAME + "/" + name).setUpstreamMode(SetupUpstreamMode.TRACK).call();
+		}
+
+		DirCache index = repository.lockDirCache();
+		try (ObjectReader reader = repository.newObjectReader()) {
+			DirCacheBuilder builder = index.builder();
+			builder.addTree(new byte[0], DirCacheEntry.STAGE_0, reader, repository.resolve(branch + "^{tree}"));
+			builder.finish();
+			for (int i = 0; i < index.getEntryCount(); i++) {
+				String path = index.getEntry(i).getPathString();
+				index.getEntry(i).setAssumeValid(paths.stream().noneMatch(p -> path.equals(p) || path.startsWith(p + "/")));
+			}
+			index.write();
+			index.commit();
+		} finally {
+			index.unlock();
+		}
+		git.checkout().addPaths(paths).call();
+	}
+
+	/**
+	 * @return whether some files of the clone are hidden by a sparse checkout.
+	 */
+	private static boolean isSparse(Repository repository) throws IOException {
+		DirCache index = repository.readDirCache();
+		for (int i = 0; i < index.getEntryCount(); i++) {
+			if (index.getEntry(i).isAssumeValid()) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	/**
+	 * @return whether the directory contains a git repository.
+	 */
+	public static boolean isRepository(final File directory) {
+		return new File(directory, Constants.DOT_GIT).exists();
+	}
+
+	/**
+	 * Updates an existing clone to the tip of the remote branch it tracks. Only
+	 * the missing objects are fetched. The clone is hard reset if its HEAD differs
+	 * from the remote branch or if tracked files have been changed.
+	 *
+	 * @return whether the clone had to be reset
+	 */
+	public static boolean updateRepo(final File directory, String repoURL, GitCredentials credentials, ProgressMonitor monitor) throws GitException {
+		return updateRepo(directory, repoURL, null, credentials, false, monitor);
+	}
+
+	/**
+	 * Updates an existing clone to the tip of the remote branch it tracks. Only
+	 * the missing objects are fetched, shallow clones stay shallow. The clone is
+	 * reset if its HEAD differs from the remote branch or if it has local changes.
+	 * Sparse clones (see {@link CloneProfile#SPARSE}) are reset to the new commit
+	 * with the same sparse checkout, the other files stay hidden.
+	 *
+	 * @param fetchSource     a repository to fetch the objects from instead of the
+	 *                        remote, e.g. a local mirror (may be null)
+	 * @param removeUntracked whether files that are not tracked (and not ignored)
+	 *                        count as local changes and are removed on reset
+	 * @return whether the clone had to be reset
+	 */
+	public static boolean updateRepo(final File directory, String repoURL, final File fetchSource, GitCredentials credentials, boolean removeUntracked,
+			ProgressMonitor monitor) throws GitException {
+		try (Git git = Git.open(directory)) {
+			Repository repository = git.getRepository();
+			String remoteURL = repository.getConfig().getString(ConfigConstants.CONFIG_REMOTE_SECTION, REMOTE_NAME, ConfigConstants.CONFIG_KEY_URL);
+			if (remoteURL == null || !new URIish(remoteURL).equals(new URIish(repoURL))) {
+				throw new GitException(directory + " is not a clone of " + repoURL);
+			}
+
+			var fetch = git.fetch().setProgressMonitor(monitor);
+			if (fetchSource == null) {
+				fetch.setRemote(REMOTE_NAME);
+				makeAuth(fetch, credentials);
+			} else {
+				fetch.setRemote(new URIish(fetchSource.toURI().toURL()).toString())
+						.setRefSpecs(new RefSpec("+" + Constants.R_HEADS + "*:" + Constants.R_REMOTES + REMOTE_NAME + "/*"));
+			}
+			if (new File(repository.getDirectory(), Constants.SHALLOW).isFile()) {
+				fetch.setDepth(1);
+			}
+			fetch.call();
+
+			Ref remoteBranch = repository.exactRef(Constants.R_REMOTES + REMOTE_NAME + "/" + repository.getBranch());
+			if (remoteBranch == null) {
+				throw new GitException("Branch " + repository.getBranch() + " does not exist in " + repoURL);
+			}
+			Status status = git.status().call();
+			boolean changed = removeUntracked ? !status.isClean() : status.hasUncommittedChanges();
+			if (remoteBranch.getObjectId().equals(repository.resolve(Constants.HEAD)) && !changed) {
+				return false;
+			}
+
+			if (isSparse(repository)) {
+				// a hard reset would check out the hidden files
+				git.reset().setMode(ResetType.SOFT).setRef(remoteBranch.getName()).call();
+				for (String path : CloneProfile.SPARSE_PATHS) {
+					FileUtils.delete(new File(directory, path), FileUtils.RECURSIVE | FileUtils.SKIP_MISSING);
+				}
+				checkoutPaths(git, repository.getFullBranch(), CloneProfile.SPARSE_PATHS);
+			} else {
+				git.reset().setMode(ResetType.HARD).setRef(remoteBranch.getName()).call();
+			}
+			if (removeUntracked) {
+				git.clean().setCleanDirectories(true).call();
+			}
+			return true;
+		} catch (final GitException e) {
+			throw e;
+		} catch (final Exception e) {
+			throw new GitException(Messages.GIT_RESET_FAILED + directory + ": " + e.getMessage(), e);
+		}
+	}
+
+	/**
+	 * Creates a bare mirror of the given repository or, if the mirror already
+	 * exists, updates it with an incremental fetch.
+	 */
+	public static void mirrorRepo(final File mirror, String repoURL, GitCredentials credentials) throws GitException {
+		mirrorRepo(mirror, repoURL, credentials, NullProgressMonitor.INSTANCE);
+	}
+
+	/**
+	 * Creates or updates a bare mirror and reports the progress to the given
+	 * monitor.
+	 */
+	public static void mirrorRepo(final File mirror, String repoURL, GitCredentials credentials, ProgressMonitor monitor) throws GitException {
+		if (new File(mirror, Constants.HEAD).isFile()) {
+			try (Git git = Git.open(mirror)) {
+				var fetch = git.fetch().setRemote(REMOTE_NAME).setRemoveDeletedRefs(true).setProgressMonitor(monitor);
+				makeAuth(fetch, credentials);
+				fetch.call();
+				return;
+			} catch (final Exception e) {
+				throw new GitException(Messages.GIT_PULL_FAILED + mirror + ": " + e.getMessage(), e);
+			}
+		}
+
+		try {
+			CloneCommand cloneRepository = Git.cloneRepository();
+			cloneRepository.setDirectory(mirror);
+			cloneRepository.setRemote(REMOTE_NAME);
+			cloneRepository.setURI(String.valueOf(new URIish(repoURL)));
+			cloneRepository.setBare(true);
+			cloneRepository.setMirror(true);
+			cloneRepository.setProgressMonitor(monitor);
+			makeAuth(cloneRepository, credentials);
+			cloneRepository.call().close();
+		} catch (final Exception e) {
+			deleteQuietly(mirror);
+			throw new GitException(Messages.GIT_CLONE_FAILED + e.getMessage(), e);
+		}
+	}
+
+	/**
+	 * Clones a repository from a local bare mirror (see
+	 * {@link #mirrorRepo(File, String, GitCredentials)}). The object files of the
+	 * mirror are hardlinked (or copied, if the file system does not support hard
+	 * links), so no objects are transferred. Afterwards the remote of the clone
+	 * points to the original repository URL.
+	 */
+	public static void cloneFromMirror(final File destination, final File mirror, String repoURL) throws GitException {
+		try (Repository mirrorRepository = Git.open(mirror).getRepository()) {
+			Ref head = mirrorRepository.exactRef(Constants.HEAD);
+			if (head == null || !head.isSymbolic()) {
+				throw new GitException("Mirror " + mirror + " has no default branch");
+			}
+			String branch = Repository.shortenRefName(head.getTarget().getName());
+
+			try (Git git = Git.init().setDirectory(destination).call()) {
+				linkObjects(mirrorRepository.getDirectory().toPath().resolve(Constants.OBJECTS),
+						git.getRepository().getDirectory().toPath().resolve(Constants.OBJECTS));
+
+				StoredConfig config = git.getRepository().getConfig();
+				RemoteConfig remote = new RemoteConfig(config, REMOTE_NAME);
+				URIish mirrorURI = new URIish(mirror.toURI().toURL());
+				remote.addURI(mirrorURI);
+				remote.addFetchRefSpec(new RefSpec("+" + Constants.R_HEADS + "*:" + Constants.R_REMOTES + REMOTE_NAME + "/*"));
+				remote.update(config);
+				config.save();
+
+				// all objects are present already, so this only creates the refs
+				git.fetch().setRemote(REMOTE_NAME).call();
+
+				remote.removeURI(mirrorURI);
+				remote.addURI(new URIish(repoURL));
+				remote.update(config);
+				config.save();
+
+				git.checkout().setCreateBranch(true).setName(branch).setStartPoint(REMOTE_NAME + "/" + branch).setUpstreamMode(SetupUpstreamMode.TRACK).call();
+			}
+		} catch (final GitException e) {
+			deleteQuietly(destination);
+			throw e;
+		} catch (final Exception e) {
+			deleteQuietly(destination);
+			throw new GitException(Messages.GIT_CLONE_FAILED + e.getMessage(), e);
+		}
+	}
+
+	/**
+	 * Clones a repository that shares most of its history with a local bare
+	 * repository (e.g. a student repository and the mirror of the exercise
+	 * template). The clone references the objects of the local repository via
+	 * {@code objects/info/alternates}, so only the objects missing there are
+	 * fetched and stored. The local repository must not be garbage collected or
+	 * deleted while the clone is in use.
+	 *
+	 * @param singleBranch whether only the default branch is fetched
+	 */
+	public static void cloneWithAlternates(final File destination, String repoURL, GitCredentials credentials, final File objectStore,
+			boolean singleBranch, ProgressMonitor monitor) throws GitException {
+		try {
+			String branch = Repository.shortenRefName(getDefaultBranch(repoURL, credentials));
+
+			Git.init().setDirectory(destination).call().close();
+			Path alternates = destination.toPath().resolve(Constants.DOT_GIT).resolve(Constants.OBJECTS).resolve("info").resolve("alternates");
+			Files.createDirectories(alternates.getParent());
+			Files.writeString(alternates, objectStore.toPath().resolve(Constants.OBJECTS).toAbsolutePath() + "\n");
+
+			// reopen, so that the alternates are picked up
+			try (Git git = Git.open(destination)) {
+				StoredConfig config = git.getRepository().getConfig();
+				RemoteConfig remote = new RemoteConfig(config, REMOTE_NAME);
+				remote.addURI(new URIish(repoURL));
+				String refs = singleBranch ? branch : "*";
+				remote.addFetchRefSpec(new RefSpec("+" + Constants.R_HEADS + refs + ":" + Constants.R_REMOTES + REMOTE_NAME + "/" + refs));
+				remote.update(config);
+				config.save();
+
+				// the refs of the alternate repository are advertised as "have", so
+				// only the objects of the student are transferred
+				var fetch = git.fetch().setRemote(REMOTE_NAME).setProgressMonitor(monitor);
+				makeAuth(fetch, credentials);
+				fetch.call();
+
+				git.checkout().setCreateBranch(true).setName(branch).setStartPoint(REMOTE_NAME + "/" + branch).setUpstreamMode(SetupUpstreamMode.TRACK).call();
+			}
+		} catch (final Exception e) {
+			deleteQuietly(destination);
+			throw new GitException(Messages.GIT_CLONE_FAILED + e.getMessage(), e);
+		}
+	}
+
+	private static void linkObjects(Path source, Path target) throws IOException {
+		List<Path> files;
+		try (Stream<Path> walk = Files.walk(source)) {
+			files = walk.filter(Files::isRegularFile).toList();
+		}
+		for (Path file : files) {
+			Path relative = source.relativize(file);
+			if (relative.startsWith("info") || file.getFileName().toString().endsWith(".keep")) {
+				continue;
+			}
+			Path link = target.resolve(relative);
+			Files.createDirectories(link.getParent());
+			try {
+				Files.createLink(link, file);
+			} catch (FileAlreadyExistsException e) {
+				// NOP
+			} catch (IOException | UnsupportedOperationException e) {
+				Files.copy(file, link, StandardCopyOption.REPLACE_EXISTING);
+			}
+		}
+	}
+
+	private static void deleteQuietly(File file) {
+		try {
+			FileUtils.delete(file, FileUtils.RECURSIVE | FileUtils.SKIP_MISSING);
+		} catch (IOException ioe) {
+			// NOP
+		}
+	}
+
 	private static void makeAuth(TransportCommand<?, ?> command, GitCredentials credentials) {
 		if (credentials == null)
 			return;
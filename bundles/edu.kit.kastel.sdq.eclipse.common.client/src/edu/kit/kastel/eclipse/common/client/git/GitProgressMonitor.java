@@ -0,0 +1,130 @@
+/* Licensed under EPL-2.0 2024. */
+package edu.kit.kastel.eclipse.common.client.git;
+
+import java.time.Duration;
+import java.util.List;
+
+import org.eclipse.core.runtime.IProgressMonitor;
+import org.eclipse.jgit.lib.EmptyProgressMonitor;
+
+/**
+ * Forwards the progress of a JGit operation to an Eclipse progress monitor.
+ * Several operations may report to the same monitor from different threads,
+ * each one with its own share of the total work. All updates are synchronized
+ * on the monitor.
+ * <p>
+ * Additionally, the time spent in the transfer and checkout tasks of JGit and
+ * the number of received objects are measured.
+ */
+public class GitProgressMonitor extends EmptyProgressMonitor {
+	// task names of JGit (see JGitText)
+	private static final List<String> TRANSFER_TASKS = List.of("Receiving objects", "Resolving deltas");
+	private static final String CHECKOUT_TASK = "Checking out files";
+
+	private final IProgressMonitor monitor;
+	private final String name;
+
+	private double remainingWork;
+	private double taskWork;
+	private int taskTotal;
+
+	private String taskTitle;
+	private long taskStart;
+	private long transferNanos;
+	private long checkoutNanos;
+	private int receivedObjects;
+
+	/**
+	 * @param monitor the monitor to report to (after
+	 *                {@link IProgressMonitor#beginTask(String, int)})
+	 * @param work    the share of the total work of the monitor that is
+	 *                available to this operation
+	 * @param name    prefix of the task names, e.g. the repository
+	 */
+	public GitProgressMonitor(IProgressMonitor monitor, int work, String name) {
+		this.monitor = monitor;
+		this.name = name;
+		this.remainingWork = work;
+	}
+
+	@Override
+	public void beginTask(String title, int totalWork) {
+		synchronized (this.monitor) {
+			// the number of JGit tasks is not known upfront, so every task takes a
+			// fraction of the remaining work
+			this.taskWork = this.remainingWork / 3;
+			this.remainingWork -= this.taskWork;
+			this.taskTotal = totalWork;
+			this.monitor.subTask(this.name + ": " + title);
+
+			this.finishTask();
+			this.taskTitle = title;
+			this.taskStart = System.nanoTime();
+			if (TRANSFER_TASKS.get(0).equals(title)) {
+				this.receivedObjects += totalWork;
+			}
+		}
+	}
+
+	@Override
+	public void update(int completed) {
+		synchronized (this.monitor) {
+			if (this.taskTotal > 0) {
+				this.monitor.internalWorked(this.taskWork * completed / this.taskTotal);
+			}
+		}
+	}
+
+	@Override
+	public void endTask() {
+		synchronized (this.monitor) {
+			this.taskTotal = 0;
+			this.finishTask();
+		}
+	}
+
+	private void finishTask() {
+		if (this.taskTitle == null) {
+			return;
+		}
+		long duration = System.nanoTime() - this.taskStart;
+		if (TRANSFER_TASKS.contains(this.taskTitle)) {
+			this.transferNanos += duration;
+		} else if (CHECKOUT_TASK.equals(this.taskTitle)) {
+			this.checkoutNanos += duration;
+		}
+		this.taskTitle = null;
+	}
+
+	/**
+	 * @return the time spent receiving objects and resolving deltas.
+	 */
+	public Duration getTransferDuration() {
+		synchronized (this.monitor) {
+			return Duration.ofNanos(this.transferNanos);
+		}
+	}
+
+	/**
+	 * @return the time spent checking out files.
+	 */
+	public Duration getCheckoutDuration() {
+		synchronized (this.monitor) {
+			return Duration.ofNanos(this.checkoutNanos);
+		}
+	}
+
+	/**
+	 * @return the number of objects received from the remote.
+	 */
+	public int getReceivedObjects() {
+		synchronized (this.monitor) {
+			return this.receivedObjects;
+		}
+	}
+
+	@Override
+	public boolean isCancelled() {
+		return this.monitor.isCanceled();
+	}
+}
@@ -1,10 +1,18 @@
 /* Licensed under EPL-2.0 2022-2023. */
 package edu.kit.kastel.eclipse.common.client.rest;
 
+import java.util.Optional;
+import java.util.OptionalInt;
+
+import org.eclipse.core.runtime.ILog;
+import org.eclipse.core.runtime.Platform;
+
+import edu.kit.kastel.eclipse.common.api.messages.Messages;
 import edu.kit.kastel.eclipse.common.client.BrowserLogin;
 import edu.kit.kastel.sdq.artemis4j.api.ArtemisClientException;
 
 public class LoginManager extends edu.kit.kastel.sdq.artemis4j.client.LoginManager {
+	private static final ILog LOG = Platform.getLog(LoginManager.class);
 
 	public LoginManager(String hostname, String username, String password) {
 		super(hostname, username, password);
@@ -15,12 +23,56 @@ public class LoginManager extends edu.kit.kastel.sdq.artemis4j.client.LoginManag
 		if (this.hostname.isBlank()) {
 			throw new ArtemisClientException("Login without hostname is impossible");
 		} else if (this.username.isBlank() || this.password.isBlank()) {
-			BrowserLogin login = new BrowserLogin(this.getRootURL());
-			this.token = login.getToken();
+			this.loginWithStoredTokenOrBrowser();
+			return;
 		} else {
 			this.token = this.loginViaUsernameAndPassword();
 		}
 
 		this.assessor = this.fetchAssessor();
 	}
+
+	/**
+	 * Reuses the token of the last browser login until it expires. The embedded
+	 * browser is only opened if there is no valid token.
+	 */
+	private void loginWithStoredTokenOrBrowser() throws ArtemisClientException {
+		TokenStore store = new TokenStore(this.hostname);
+		Optional<String> storedToken = store.load();
+		if (storedToken.isPresent()) {
+			this.token = storedToken.get();
+			try {
+				this.assessor = this.fetchAssessor();
+				return;
+			} catch (ArtemisClientException e) {
+				if (!isRejected(e)) {
+					// e.g. Artemis is not reachable, the token may still be valid
+					throw e;
+				}
+				LOG.info("Stored token has been rejected, opening browser login");
+				store.clear();
+			}
+		}
+
+		BrowserLogin login = new BrowserLogin(this.getRootURL());
+		this.token = login.getToken();
+		this.assessor = this.fetchAssessor();
+		store.store(this.token);
+	}
+
+	/**
+	 * @param e the failure of fetching the assessor with the token
+	 * @return whether Artemis rejected the token as unauthorized (HTTP 401 or 403)
+	 */
+	private static boolean isRejected(ArtemisClientException e) {
+		OptionalInt status = Messages.getStatus(e.getMessage());
+		return status.isPresent() && (status.getAsInt() == 401 || status.getAsInt() == 403);
+	}
+
+	/**
+	 * @return the token of the current session or null, if not logged in.
+	 */
+	public String getBearerToken() {
+		return this.token;
+	}
 }
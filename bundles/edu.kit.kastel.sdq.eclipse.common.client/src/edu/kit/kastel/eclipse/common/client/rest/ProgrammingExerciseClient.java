@@ -0,0 +1,60 @@
+/* Licensed under EPL-2.0 2024. */
+package edu.kit.kastel.eclipse.common.client.rest;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.Optional;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import edu.kit.kastel.eclipse.common.api.messages.Messages;
+
+/**
+ * Requests details of programming exercises that are not part of the Artemis
+ * client. The requests are made through the Artemis controller of the core
+ * bundle, which limits them and records their metrics.
+ */
+public final class ProgrammingExerciseClient {
+	private static final HttpClient CLIENT = HttpClient.newBuilder().connectTimeout(Duration.ofSeconds(30)).build();
+	private static final ObjectMapper MAPPER = new ObjectMapper();
+
+	/**
+	 * @param artemisUrl the root URL of Artemis (without trailing slash)
+	 * @param token      the bearer token used for authentication
+	 * @return the URL of the template repository of the exercise, as stored in
+	 *         its template participation
+	 */
+	public static Optional<String> getTemplateRepositoryUrl(String artemisUrl, String token, int exerciseId) throws IOException {
+		String url = artemisUrl + "/api/programming-exercises/" + exerciseId + "/with-template-and-solution-participation";
+		HttpRequest request = HttpRequest.newBuilder(URI.create(url)).timeout(Duration.ofSeconds(30)).header("Authorization", "Bearer " + token).GET()
+				.build();
+		HttpResponse<String> response;
+		try {
+			response = CLIENT.send(request, HttpResponse.BodyHandlers.ofString());
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new IOException("Request to " + url + " has been interrupted", e);
+		}
+		if (response.statusCode() / 100 != 2) {
+			throw new IOException(Messages.CLIENT_COMMUNICATION_ERROR_FORMAT.formatted(url, response.statusCode(), "Request failed"));
+		}
+
+		JsonNode participation = MAPPER.readTree(response.body()).path("templateParticipation");
+		// renamed in Artemis 7
+		for (String field : new String[] { "repositoryUri", "repositoryUrl" }) {
+			if (participation.path(field).isTextual()) {
+				return Optional.of(participation.path(field).asText());
+			}
+		}
+		return Optional.empty();
+	}
+
+	private ProgrammingExerciseClient() {
+		throw new IllegalAccessError();
+	}
+}
@@ -0,0 +1,135 @@
+/* Licensed under EPL-2.0 2024. */
+package edu.kit.kastel.eclipse.common.client.rest;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.Optional;
+
+import org.eclipse.core.runtime.ILog;
+import org.eclipse.core.runtime.Platform;
+import org.eclipse.equinox.security.storage.EncodingUtils;
+import org.eclipse.equinox.security.storage.ISecurePreferences;
+import org.eclipse.equinox.security.storage.SecurePreferencesFactory;
+import org.eclipse.equinox.security.storage.StorageException;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * Keeps the JWT of an Artemis instance in the Eclipse secure storage, so that
+ * the interactive login is only required after the token expired.
+ */
+final class TokenStore {
+	private static final ILog LOG = Platform.getLog(TokenStore.class);
+	private static final String ROOT_NODE = "edu.kit.kastel.sdq.eclipse/artemis";
+	private static final String TOKEN_KEY = "token";
+	private static final String EXPIRES_AT_KEY = "expiresAt";
+	// tokens that expire within this time are not used anymore
+	static final Duration EXPIRY_MARGIN = Duration.ofMinutes(5);
+
+	private final String hostname;
+	private final ISecurePreferences root;
+
+	TokenStore(String hostname) {
+		this(hostname, SecurePreferencesFactory.getDefault());
+	}
+
+	/**
+	 * @param root the secure storage to use, may be null if it is not available
+	 */
+	TokenStore(String hostname, ISecurePreferences root) {
+		this.hostname = hostname;
+		this.root = root;
+	}
+
+	/**
+	 * @return the stored token, if it has not expired.
+	 */
+	Optional<String> load() {
+		ISecurePreferences node = this.node();
+		if (node == null) {
+			return Optional.empty();
+		}
+		try {
+			String token = node.get(TOKEN_KEY, null);
+			long expiresAt = node.getLong(EXPIRES_AT_KEY, 0);
+			if (token == null || !isUsable(Instant.ofEpochSecond(expiresAt), Instant.now())) {
+				return Optional.empty();
+			}
+			return Optional.of(token);
+		} catch (StorageException e) {
+			LOG.warn("Could not read the stored Artemis token: " + e.getMessage(), e);
+			return Optional.empty();
+		}
+	}
+
+	/**
+	 * Stores the token together with its expiry. Tokens without expiry are not
+	 * stored.
+	 */
+	void store(String token) {
+		if (token == null) {
+			return;
+		}
+		ISecurePreferences node = this.node();
+		Optional<Instant> expiresAt = expiry(token);
+		if (node == null || expiresAt.isEmpty()) {
+			return;
+		}
+		try {
+			node.put(TOKEN_KEY, token, true);
+			node.putLong(EXPIRES_AT_KEY, expiresAt.get().getEpochSecond(), false);
+			node.flush();
+		} catch (StorageException | IOException e) {
+			LOG.warn("Could not store the Artemis token: " + e.getMessage(), e);
+		}
+	}
+
+	void clear() {
+		ISecurePreferences node = this.node();
+		if (node == null) {
+			return;
+		}
+		node.removeNode();
+		try {
+			this.root.flush();
+		} catch (IOException e) {
+			LOG.warn("Could not remove the stored Artemis token: " + e.getMessage(), e);
+		}
+	}
+
+	private ISecurePreferences node() {
+		if (this.root == null) {
+			return null;
+		}
+		return this.root.node(ROOT_NODE).node(EncodingUtils.encodeSlashes(this.hostname));
+	}
+
+	/**
+	 * @return whether a token that expires at the given time can still be used
+	 *         at the given time, with at least {@link #EXPIRY_MARGIN} left
+	 */
+	static boolean isUsable(Instant expiresAt, Instant now) {
+		return !expiresAt.isBefore(now.plus(EXPIRY_MARGIN));
+	}
+
+	/**
+	 * Reads the expiry ("exp" claim) of a JWT without verifying it. Artemis
+	 * verifies the token on the next request anyway.
+	 */
+	static Optional<Instant> expiry(String token) {
+		String[] parts = token.split("\\.");
+		if (parts.length < 2) {
+			return Optional.empty();
+		}
+		try {
+			JsonNode payload = new ObjectMapper().readTree(Base64.getUrlDecoder().decode(parts[1]));
+			JsonNode exp = payload.get("exp");
+			return exp != null && exp.canConvertToLong() ? Optional.of(Instant.ofEpochSecond(exp.asLong())) : Optional.empty();
+		} catch (IOException | IllegalArgumentException e) {
+			return Optional.empty();
+		}
+	}
+}
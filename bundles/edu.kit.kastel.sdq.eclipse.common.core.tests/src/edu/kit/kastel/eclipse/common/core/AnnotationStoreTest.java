@@ -0,0 +1,142 @@
+/* Licensed under EPL-2.0 2024. */
+package edu.kit.kastel.eclipse.common.core;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.UUID;
+
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import edu.kit.kastel.sdq.artemis4j.api.artemis.Exercise;
+import edu.kit.kastel.sdq.artemis4j.api.artemis.assessment.Submission;
+import edu.kit.kastel.sdq.artemis4j.api.grading.IAnnotation;
+import edu.kit.kastel.sdq.artemis4j.api.grading.IMistakeType;
+import edu.kit.kastel.sdq.artemis4j.api.grading.IRatingGroup;
+import edu.kit.kastel.sdq.artemis4j.grading.artemis.AnnotationMapper;
+import edu.kit.kastel.sdq.artemis4j.grading.config.ExerciseConfig;
+import edu.kit.kastel.sdq.artemis4j.grading.config.JsonFileConfig;
+import edu.kit.kastel.sdq.artemis4j.grading.model.annotation.AnnotationException;
+
+/**
+ * Applies random sequences of additions, modifications and removals to an
+ * {@link AnnotationStore} and checks after each change that the cached
+ * penalties of all mistake types and rating groups match a recalculation over
+ * all annotations by the {@link AnnotationMapper}. The limits of the rating
+ * groups are small, so they are reached often.
+ */
+class AnnotationStoreTest {
+	private static final int RUNS = 50;
+	private static final int CHANGES = 200;
+	private static final double DELTA = 1e-9;
+
+	private static final String CONFIG = """
+			{
+				"shortName": "sheet1",
+				"positiveFeedbackAllowed": true,
+				"ratingGroups": [
+					{ "shortName": "functionality", "displayName": "Functionality", "negativeLimit": -4, "positiveLimit": null },
+					{ "shortName": "style", "displayName": "Style", "negativeLimit": -3, "positiveLimit": 2 },
+					{ "shortName": "other", "displayName": "Other" }
+				],
+				"mistakeTypes": [
+					{ "shortName": "custom", "button": "Custom", "message": "", "penaltyRule": { "shortName": "customPenalty" }, "appliesTo": "style" },
+					{ "shortName": "once", "button": "Once", "message": "once",
+						"penaltyRule": { "shortName": "thresholdPenalty", "threshold": 1, "penalty": 2 },
+						"appliesTo": "functionality" },
+					{ "shortName": "twice", "button": "Twice", "message": "twice",
+						"penaltyRule": { "shortName": "thresholdPenalty", "threshold": 2, "penalty": 1 },
+						"appliesTo": "style" },
+					{ "shortName": "stacking", "button": "Stacking", "message": "stacking",
+						"penaltyRule": { "shortName": "stackingPenalty", "penalty": 0.5, "maxUses": 3 }, "appliesTo": "functionality" },
+					{ "shortName": "unlimited", "button": "Unlimited", "message": "unlimited",
+						"penaltyRule": { "shortName": "stackingPenalty", "penalty": 1.5, "maxUses": 100 }, "appliesTo": "other" },
+					{ "shortName": "disabled", "button": "Disabled", "message": "disabled",
+						"penaltyRule": { "shortName": "thresholdPenalty", "threshold": 1, "penalty": 3 }, "appliesTo": "other",
+						"enabledPenaltyForExercises": "sheet2.*" }
+				]
+			}
+			""";
+
+	@TempDir
+	static Path directory;
+
+	private static Exercise exercise;
+	private static Submission submission;
+	private static List<IRatingGroup> ratingGroups;
+	private static List<IMistakeType> mistakeTypes;
+
+	@BeforeAll
+	static void loadConfig() throws IOException {
+		ObjectMapper mapper = new ObjectMapper();
+		exercise = mapper.readValue("{ \"id\": 42, \"shortName\": \"sheet1\" }", Exercise.class);
+		submission = mapper.readValue("{ \"id\": 1 }", Submission.class);
+
+		Path config = directory.resolve("config.json");
+		Files.writeString(config, CONFIG);
+		ExerciseConfig exerciseConfig = new JsonFileConfig(config.toFile()).getExerciseConfig(exercise);
+		ratingGroups = exerciseConfig.getIRatingGroups();
+		mistakeTypes = exerciseConfig.getIMistakeTypes();
+	}
+
+	@Test
+	void penaltiesMatchRecalculation() throws AnnotationException {
+		for (int run = 0; run < RUNS; run++) {
+			Random random = new Random(run);
+			AnnotationStore store = new AnnotationStore();
+			List<String> ids = new ArrayList<>();
+			for (int change = 0; change < CHANGES; change++) {
+				int operation = random.nextInt(4);
+				if (ids.isEmpty() || operation < 2) {
+					IMistakeType mistakeType = mistakeTypes.get(random.nextInt(mistakeTypes.size()));
+					String id = new UUID(random.nextLong(), random.nextLong()).toString();
+					boolean custom = mistakeType.isCustomPenalty();
+					int line = random.nextInt(100);
+					store.add(id, mistakeType, line, line + random.nextInt(3), "src/Main" + random.nextInt(3) + ".java", custom ? "custom" : null,
+							custom ? penalty(random) : null);
+					ids.add(id);
+				} else if (operation == 2) {
+					String id = ids.get(random.nextInt(ids.size()));
+					boolean custom = store.get(id).orElseThrow().getMistakeType().isCustomPenalty();
+					store.modify(id, "modified " + change, custom ? penalty(random) : null);
+				} else {
+					store.remove(ids.remove(random.nextInt(ids.size())));
+				}
+				// reading fills the caches, so the next change has to invalidate them
+				assertPenalties(store, "run " + run + ", change " + change);
+			}
+		}
+	}
+
+	private static double penalty(Random random) {
+		// positive feedback as well
+		return random.nextInt(41) / 4.0 - 5;
+	}
+
+	private static void assertPenalties(AnnotationStore store, String message) {
+		List<IAnnotation> annotations = store.getAll();
+		AnnotationMapper all = new AnnotationMapper(exercise, submission, annotations, ratingGroups, null, null);
+		for (IRatingGroup ratingGroup : ratingGroups) {
+			assertEquals(all.calculatePointsForRatingGroup(ratingGroup).points(), store.getPenalty(ratingGroup), DELTA,
+					message + ", rating group " + ratingGroup.getIdentifier());
+		}
+
+		// alone, the contribution of a mistake type is only limited by its rating group
+		for (IMistakeType mistakeType : mistakeTypes) {
+			List<IAnnotation> ofMistakeType = annotations.stream().filter(annotation -> annotation.getMistakeType() == mistakeType).toList();
+			AnnotationMapper single = new AnnotationMapper(exercise, submission, ofMistakeType, ratingGroups, null, null);
+			IRatingGroup ratingGroup = mistakeType.getRatingGroup();
+			assertEquals(single.calculatePointsForRatingGroup(ratingGroup).points(), AnnotationStore.limit(ratingGroup, store.getPenalty(mistakeType)),
+					DELTA, message + ", mistake type " + mistakeType.getIdentifier());
+		}
+	}
+}
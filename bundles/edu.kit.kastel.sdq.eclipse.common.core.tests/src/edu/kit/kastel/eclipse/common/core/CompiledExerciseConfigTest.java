@@ -0,0 +1,143 @@
+/* Licensed under EPL-2.0 2024. */
+package edu.kit.kastel.eclipse.common.core;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Optional;
+
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import edu.kit.kastel.sdq.artemis4j.api.artemis.Exercise;
+import edu.kit.kastel.sdq.artemis4j.api.grading.IMistakeType;
+import edu.kit.kastel.sdq.artemis4j.api.grading.IRatingGroup;
+import edu.kit.kastel.sdq.artemis4j.grading.config.JsonFileConfig;
+
+/**
+ * Compares the lookups of a compiled config with a linear search over the
+ * mistake types and rating groups of the config.
+ */
+class CompiledExerciseConfigTest {
+	private static final String CONFIG = """
+			{
+				"shortName": "sheet1",
+				"positiveFeedbackAllowed": true,
+				"ratingGroups": [
+					{ "shortName": "functionality", "displayName": "Functionality", "negativeLimit": -4, "positiveLimit": null },
+					{ "shortName": "style", "displayName": "Style", "negativeLimit": -3, "positiveLimit": 2 },
+					{ "shortName": "empty", "displayName": "Empty" }
+				],
+				"mistakeTypes": [
+					{ "shortName": "once", "button": "Once", "message": "once",
+						"penaltyRule": { "shortName": "thresholdPenalty", "threshold": 1, "penalty": 2 }, "appliesTo": "functionality" },
+					{ "shortName": "twice", "button": "Twice", "message": "twice",
+						"penaltyRule": { "shortName": "thresholdPenalty", "threshold": 2, "penalty": 1 }, "appliesTo": "style" },
+					{ "shortName": "stacking", "button": "Stacking", "message": "stacking",
+						"penaltyRule": { "shortName": "stackingPenalty", "penalty": 0.5, "maxUses": 3 }, "appliesTo": "functionality" },
+					{ "shortName": "later", "button": "Later", "message": "later",
+						"penaltyRule": { "shortName": "thresholdPenalty", "threshold": 1, "penalty": 3 }, "appliesTo": "style",
+						"enabledForExercises": "sheet2.*" },
+					{ "shortName": "noPenalty", "button": "No Penalty", "message": "no penalty",
+						"penaltyRule": { "shortName": "thresholdPenalty", "threshold": 1, "penalty": 3 }, "appliesTo": "style",
+						"enabledPenaltyForExercises": "sheet2.*" }
+				]
+			}
+			""";
+
+	@TempDir
+	static Path directory;
+
+	private static Path configFile;
+	private static CompiledExerciseConfig sheet1;
+	private static CompiledExerciseConfig sheet2;
+
+	@BeforeAll
+	static void compileForBothExercises() throws IOException {
+		configFile = directory.resolve("config.json");
+		Files.writeString(configFile, CONFIG);
+		sheet1 = compile("{ \"id\": 1, \"shortName\": \"sheet1\" }");
+		sheet2 = compile("{ \"id\": 2, \"shortName\": \"sheet2a\" }");
+	}
+
+	@Test
+	void lookupsMatchLinearSearch() {
+		for (IRatingGroup ratingGroup : sheet1.getRatingGroups()) {
+			IRatingGroup expected = sheet1.getRatingGroups().stream().filter(it -> it.getIdentifier().equals(ratingGroup.getIdentifier())).findFirst()
+					.orElseThrow();
+			assertSame(expected, sheet1.getRatingGroup(ratingGroup.getIdentifier()).orElseThrow());
+		}
+		for (IMistakeType mistakeType : sheet1.getMistakeTypes()) {
+			IMistakeType expected = sheet1.getMistakeTypes().stream().filter(it -> it.getIdentifier().equals(mistakeType.getIdentifier())).findFirst()
+					.orElseThrow();
+			assertSame(expected, sheet1.getMistakeType(mistakeType.getIdentifier()).orElseThrow());
+		}
+		assertEquals(Optional.empty(), sheet1.getMistakeType("unknown"));
+		assertEquals(Optional.empty(), sheet1.getRatingGroup("unknown"));
+	}
+
+	@Test
+	void mistakeTypesAreGroupedInConfigOrder() {
+		assertEquals(List.of("once", "stacking"), identifiers(sheet1.getMistakeTypes(sheet1.getRatingGroup("functionality").orElseThrow())));
+		assertEquals(List.of("twice", "later", "noPenalty"), identifiers(sheet1.getMistakeTypes(sheet1.getRatingGroup("style").orElseThrow())));
+		assertEquals(List.of(), sheet1.getMistakeTypes(sheet1.getRatingGroup("empty").orElseThrow()));
+
+		for (IRatingGroup ratingGroup : sheet1.getRatingGroups()) {
+			List<IMistakeType> expected = sheet1.getMistakeTypes().stream()
+					.filter(mistakeType -> mistakeType.getRatingGroup().getIdentifier().equals(ratingGroup.getIdentifier())).toList();
+			assertEquals(expected, sheet1.getMistakeTypes(ratingGroup));
+		}
+	}
+
+	@Test
+	void enabledStateIsEvaluatedForTheExercise() {
+		for (CompiledExerciseConfig config : List.of(sheet1, sheet2)) {
+			for (IMistakeType mistakeType : config.getMistakeTypes()) {
+				assertEquals(mistakeType.isEnabledMistakeType(), config.isEnabled(mistakeType), mistakeType.getIdentifier());
+				assertEquals(mistakeType.isEnabledPenalty(), config.isPenaltyEnabled(mistakeType), mistakeType.getIdentifier());
+			}
+		}
+
+		assertFalse(sheet1.isEnabled(sheet1.getMistakeType("later").orElseThrow()));
+		assertTrue(sheet2.isEnabled(sheet2.getMistakeType("later").orElseThrow()));
+		assertFalse(sheet1.isPenaltyEnabled(sheet1.getMistakeType("noPenalty").orElseThrow()));
+		assertTrue(sheet2.isPenaltyEnabled(sheet2.getMistakeType("noPenalty").orElseThrow()));
+	}
+
+	@Test
+	void mistakeTypesOfAnotherConfigAreEvaluatedThemselves() {
+		IMistakeType other = sheet2.getMistakeType("later").orElseThrow();
+		assertNotSame(other, sheet1.getMistakeType("later").orElseThrow());
+
+		assertTrue(sheet1.isEnabled(other));
+		assertTrue(sheet1.isPenaltyEnabled(sheet2.getMistakeType("noPenalty").orElseThrow()));
+	}
+
+	@Test
+	void listsAreImmutable() {
+		IMistakeType mistakeType = sheet1.getMistakeTypes().get(0);
+		assertThrows(UnsupportedOperationException.class, () -> sheet1.getMistakeTypes().add(mistakeType));
+		assertThrows(UnsupportedOperationException.class, () -> sheet1.getMistakeTypes(mistakeType.getRatingGroup()).add(mistakeType));
+		assertThrows(UnsupportedOperationException.class, () -> sheet1.getRatingGroups().clear());
+	}
+
+	private static CompiledExerciseConfig compile(String exercise) throws IOException {
+		Exercise parsed = new ObjectMapper().readValue(exercise, Exercise.class);
+		return CompiledExerciseConfig.compile(new JsonFileConfig(configFile.toFile()).getExerciseConfig(parsed));
+	}
+
+	private static List<String> identifiers(List<IMistakeType> mistakeTypes) {
+		return mistakeTypes.stream().map(IMistakeType::getIdentifier).toList();
+	}
+}
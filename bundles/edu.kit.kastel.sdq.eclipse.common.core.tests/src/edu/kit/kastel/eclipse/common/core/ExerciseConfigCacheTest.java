@@ -0,0 +1,142 @@
+/* Licensed under EPL-2.0 2024. */
+package edu.kit.kastel.eclipse.common.core;
+
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CyclicBarrier;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import edu.kit.kastel.sdq.artemis4j.api.artemis.Exercise;
+
+/**
+ * Checks that the cache only parses a config again once its file has been
+ * modified, and compares the cost of a cache hit with the cost of a refresh.
+ */
+class ExerciseConfigCacheTest {
+	private static final int MISTAKE_TYPES = 200;
+	private static final int HITS = 2000;
+	private static final int REFRESHES = 50;
+	private static final int THREADS = 8;
+
+	@TempDir
+	static Path directory;
+
+	private static Exercise exercise;
+	private static File configFile;
+
+	@BeforeAll
+	static void writeConfig() throws IOException {
+		exercise = new ObjectMapper().readValue("{ \"id\": 42, \"shortName\": \"sheet1\" }", Exercise.class);
+
+		StringBuilder mistakeTypes = new StringBuilder();
+		for (int i = 0; i < MISTAKE_TYPES; i++) {
+			mistakeTypes.append(i == 0 ? "" : ",\n").append("""
+					{ "shortName": "mistake%d", "button": "Mistake %d", "message": "message %d",
+						"penaltyRule": { "shortName": "thresholdPenalty", "threshold": 1, "penalty": 1 },
+						"appliesTo": "group%d", "enabledForExercises": "sheet[0-9]+" }""".formatted(i, i, i, i % 10));
+		}
+		StringBuilder ratingGroups = new StringBuilder();
+		for (int i = 0; i < 10; i++) {
+			ratingGroups.append(i == 0 ? "" : ",\n").append("""
+					{ "shortName": "group%d", "displayName": "Group %d", "negativeLimit": -10, "positiveLimit": null }""".formatted(i, i));
+		}
+		configFile = directory.resolve("config.json").toFile();
+		Files.writeString(configFile.toPath(), """
+				{
+					"shortName": "sheet1",
+					"positiveFeedbackAllowed": true,
+					"ratingGroups": [ %s ],
+					"mistakeTypes": [ %s ]
+				}
+				""".formatted(ratingGroups, mistakeTypes));
+	}
+
+	@Test
+	void parsedAgainOnlyOnceModified() throws IOException {
+		ExerciseConfigCache cache = new ExerciseConfigCache();
+		CompiledExerciseConfig first = cache.get(configFile, exercise);
+		assertSame(first, cache.get(configFile, exercise));
+
+		touch();
+		CompiledExerciseConfig modified = cache.get(configFile, exercise);
+		assertNotSame(first, modified);
+		assertSame(modified, cache.get(configFile, exercise));
+
+		cache.invalidate(configFile);
+		assertNotSame(modified, cache.get(configFile, exercise));
+	}
+
+	@Test
+	void concurrentCallersGetTheSameRefresh() throws Exception {
+		ExerciseConfigCache cache = new ExerciseConfigCache();
+		cache.get(configFile, exercise);
+		touch();
+
+		CyclicBarrier start = new CyclicBarrier(THREADS);
+		ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+		try {
+			List<Future<CompiledExerciseConfig>> results = new ArrayList<>();
+			for (int i = 0; i < THREADS; i++) {
+				results.add(executor.submit(() -> {
+					start.await();
+					return cache.get(configFile, exercise);
+				}));
+			}
+			CompiledExerciseConfig expected = results.get(0).get(30, TimeUnit.SECONDS);
+			for (Future<CompiledExerciseConfig> result : results) {
+				assertSame(expected, result.get(30, TimeUnit.SECONDS));
+			}
+		} finally {
+			executor.shutdownNow();
+		}
+	}
+
+	@Test
+	void hitIsMuchCheaperThanRefresh() throws IOException {
+		ExerciseConfigCache cache = new ExerciseConfigCache();
+		// warm up the parser
+		for (int i = 0; i < REFRESHES; i++) {
+			cache.invalidate(configFile);
+			cache.get(configFile, exercise);
+		}
+
+		long start = System.nanoTime();
+		for (int i = 0; i < REFRESHES; i++) {
+			touch();
+			cache.get(configFile, exercise);
+		}
+		long refresh = (System.nanoTime() - start) / REFRESHES;
+
+		start = System.nanoTime();
+		for (int i = 0; i < HITS; i++) {
+			cache.get(configFile, exercise);
+		}
+		long hit = (System.nanoTime() - start) / HITS;
+
+		assertTrue(hit * 10 < refresh, "hit " + hit + " ns, refresh " + refresh + " ns");
+	}
+
+	/**
+	 * Changes the modification time, file systems may only store seconds.
+	 */
+	private static void touch() {
+		assertTrue(configFile.setLastModified(configFile.lastModified() + 2000));
+	}
+}
@@ -0,0 +1,107 @@
+/* Licensed under EPL-2.0 2024. */
+package edu.kit.kastel.eclipse.common.core;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Set;
+
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import edu.kit.kastel.eclipse.common.api.controller.GradingConfigChange;
+import edu.kit.kastel.sdq.artemis4j.api.artemis.Exercise;
+import edu.kit.kastel.sdq.artemis4j.grading.config.JsonFileConfig;
+
+class GradingConfigDiffTest {
+	private static final String FUNCTIONALITY = """
+			{ "shortName": "functionality", "displayName": "Functionality", "negativeLimit": -4, "positiveLimit": null }""";
+	private static final String STYLE = """
+			{ "shortName": "style", "displayName": "Style", "negativeLimit": -3, "positiveLimit": 2 }""";
+	private static final String ONCE = """
+			{ "shortName": "once", "button": "Once", "message": "once",
+				"penaltyRule": { "shortName": "thresholdPenalty", "threshold": 1, "penalty": 2 }, "appliesTo": "functionality" }""";
+	private static final String TWICE = """
+			{ "shortName": "twice", "button": "Twice", "message": "twice",
+				"penaltyRule": { "shortName": "thresholdPenalty", "threshold": 2, "penalty": 1 }, "appliesTo": "style" }""";
+
+	@TempDir
+	static Path directory;
+
+	private static Exercise exercise;
+	private static CompiledExerciseConfig original;
+	private static int configs;
+
+	@BeforeAll
+	static void loadOriginal() throws IOException {
+		exercise = new ObjectMapper().readValue("{ \"id\": 42, \"shortName\": \"sheet1\" }", Exercise.class);
+		original = compile(FUNCTIONALITY + ", " + STYLE, ONCE + ", " + TWICE);
+	}
+
+	@Test
+	void sameConfigHasNoChanges() throws IOException {
+		assertTrue(GradingConfigDiff.compare(original, compile(FUNCTIONALITY + ", " + STYLE, ONCE + ", " + TWICE)).isEmpty());
+	}
+
+	@Test
+	void changedMessageChangesOnlyItsRatingGroup() throws IOException {
+		GradingConfigChange change = GradingConfigDiff.compare(original,
+				compile(FUNCTIONALITY + ", " + STYLE, ONCE.replace("\"message\": \"once\"", "\"message\": \"only once\"") + ", " + TWICE));
+		assertFalse(change.ratingGroupsChanged());
+		assertEquals(Set.of("functionality"), change.changedRatingGroups());
+	}
+
+	@Test
+	void changedLimitChangesItsRatingGroup() throws IOException {
+		GradingConfigChange change = GradingConfigDiff.compare(original,
+				compile(FUNCTIONALITY + ", " + STYLE.replace("\"negativeLimit\": -3", "\"negativeLimit\": -5"), ONCE + ", " + TWICE));
+		assertFalse(change.ratingGroupsChanged());
+		assertEquals(Set.of("style"), change.changedRatingGroups());
+	}
+
+	@Test
+	void movedMistakeTypeChangesBothRatingGroups() throws IOException {
+		GradingConfigChange change = GradingConfigDiff.compare(original,
+				compile(FUNCTIONALITY + ", " + STYLE, ONCE + ", " + TWICE.replace("\"appliesTo\": \"style\"", "\"appliesTo\": \"functionality\"")));
+		assertFalse(change.ratingGroupsChanged());
+		assertEquals(Set.of("functionality", "style"), change.changedRatingGroups());
+	}
+
+	@Test
+	void reorderedRatingGroupsChangeTheRatingGroups() throws IOException {
+		assertTrue(GradingConfigDiff.compare(original, compile(STYLE + ", " + FUNCTIONALITY, ONCE + ", " + TWICE)).ratingGroupsChanged());
+	}
+
+	@Test
+	void removedRatingGroupChangesTheRatingGroups() throws IOException {
+		assertTrue(GradingConfigDiff.compare(original, compile(FUNCTIONALITY, ONCE)).ratingGroupsChanged());
+	}
+
+	@Test
+	void disabledMistakeTypeChangesItsRatingGroup() throws IOException {
+		String disabled = ONCE.replace("\"functionality\" }", "\"functionality\", \"enabledForExercises\": \"sheet2\" }");
+		GradingConfigChange change = GradingConfigDiff.compare(original, compile(FUNCTIONALITY + ", " + STYLE, disabled + ", " + TWICE));
+		assertFalse(change.ratingGroupsChanged());
+		assertEquals(Set.of("functionality"), change.changedRatingGroups());
+	}
+
+	private static CompiledExerciseConfig compile(String ratingGroups, String mistakeTypes) throws IOException {
+		Path config = directory.resolve("config" + configs++ + ".json");
+		Files.writeString(config, """
+				{
+					"shortName": "sheet1",
+					"positiveFeedbackAllowed": true,
+					"ratingGroups": [ %s ],
+					"mistakeTypes": [ %s ]
+				}
+				""".formatted(ratingGroups, mistakeTypes));
+		return CompiledExerciseConfig.compile(new JsonFileConfig(config.toFile()).getExerciseConfig(exercise));
+	}
+}
@@ -0,0 +1,142 @@
+/* Licensed under EPL-2.0 2024. */
+package edu.kit.kastel.eclipse.common.core;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Test;
+
+import edu.kit.kastel.sdq.artemis4j.api.ArtemisClientException;
+
+class ReadThroughCacheTest {
+	private static final Duration TTL = Duration.ofMinutes(1);
+	private static final long TIMEOUT_S = 10;
+
+	@Test
+	void valueIsCachedWithinTtl() throws ArtemisClientException {
+		ReadThroughCache<Integer, String> cache = new ReadThroughCache<>("test", TTL);
+		AtomicInteger loads = new AtomicInteger();
+
+		assertEquals("value 1", cache.get(1, () -> "value " + loads.incrementAndGet()));
+		assertEquals("value 1", cache.get(1, () -> "value " + loads.incrementAndGet()));
+		assertEquals("value 2", cache.get(2, () -> "value " + loads.incrementAndGet()));
+
+		assertEquals(2, loads.get());
+		assertEquals(1, cache.getHits());
+		assertEquals(2, cache.getMisses());
+	}
+
+	@Test
+	void expiredValueIsReloaded() throws ArtemisClientException {
+		ReadThroughCache<Integer, String> cache = new ReadThroughCache<>("test", Duration.ZERO);
+		AtomicInteger loads = new AtomicInteger();
+
+		cache.get(1, () -> "value " + loads.incrementAndGet());
+		assertEquals("value 2", cache.get(1, () -> "value " + loads.incrementAndGet()));
+		assertEquals(0, cache.getHits());
+	}
+
+	@Test
+	void invalidatedValueIsReloaded() throws ArtemisClientException {
+		ReadThroughCache<Integer, String> cache = new ReadThroughCache<>("test", TTL);
+		AtomicInteger loads = new AtomicInteger();
+
+		cache.get(1, () -> "value " + loads.incrementAndGet());
+		cache.get(2, () -> "value " + loads.incrementAndGet());
+		cache.invalidate(1);
+		assertEquals("value 3", cache.get(1, () -> "value " + loads.incrementAndGet()));
+		assertEquals("value 2", cache.get(2, () -> "value " + loads.incrementAndGet()));
+
+		cache.invalidateAll();
+		assertEquals("value 4", cache.get(2, () -> "value " + loads.incrementAndGet()));
+	}
+
+	@Test
+	void failureIsNotCached() throws ArtemisClientException {
+		ReadThroughCache<Integer, String> cache = new ReadThroughCache<>("test", TTL);
+		ArtemisClientException failure = new ArtemisClientException("failed");
+
+		assertSame(failure, assertThrows(ArtemisClientException.class, () -> cache.get(1, () -> {
+			throw failure;
+		})));
+		assertEquals("value", cache.get(1, () -> "value"));
+		assertEquals(2, cache.getMisses());
+	}
+
+	@Test
+	void concurrentRequestsShareOneLoad() throws Exception {
+		ReadThroughCache<Integer, String> cache = new ReadThroughCache<>("test", TTL);
+		AtomicInteger loads = new AtomicInteger();
+		CountDownLatch loading = new CountDownLatch(1);
+		CountDownLatch release = new CountDownLatch(1);
+
+		ExecutorService executor = Executors.newFixedThreadPool(2);
+		try {
+			Future<String> first = executor.submit(() -> cache.get(1, () -> {
+				loads.incrementAndGet();
+				loading.countDown();
+				await(release);
+				return "value";
+			}));
+			assertTrue(loading.await(TIMEOUT_S, TimeUnit.SECONDS));
+			Future<String> second = executor.submit(() -> cache.get(1, () -> "value " + loads.incrementAndGet()));
+			release.countDown();
+
+			assertEquals("value", first.get(TIMEOUT_S, TimeUnit.SECONDS));
+			assertEquals("value", second.get(TIMEOUT_S, TimeUnit.SECONDS));
+			assertEquals(1, loads.get());
+			assertEquals(1, cache.getHits());
+		} finally {
+			executor.shutdownNow();
+		}
+	}
+
+	@Test
+	void concurrentRequestsShareTheFailure() throws Exception {
+		ReadThroughCache<Integer, String> cache = new ReadThroughCache<>("test", TTL);
+		ArtemisClientException failure = new ArtemisClientException("failed");
+		CountDownLatch loading = new CountDownLatch(1);
+		CountDownLatch release = new CountDownLatch(1);
+
+		ExecutorService executor = Executors.newFixedThreadPool(2);
+		try {
+			Future<String> first = executor.submit(() -> cache.get(1, () -> {
+				loading.countDown();
+				await(release);
+				throw failure;
+			}));
+			assertTrue(loading.await(TIMEOUT_S, TimeUnit.SECONDS));
+			Future<String> second = executor.submit(() -> cache.get(1, () -> "value"));
+			release.countDown();
+
+			assertSame(failure, assertThrows(ExecutionException.class, () -> first.get(TIMEOUT_S, TimeUnit.SECONDS)).getCause());
+			// the second request either joined the failed load or started after it
+			try {
+				assertEquals("value", second.get(TIMEOUT_S, TimeUnit.SECONDS));
+			} catch (ExecutionException e) {
+				assertSame(failure, e.getCause());
+			}
+		} finally {
+			executor.shutdownNow();
+		}
+	}
+
+	private static void await(CountDownLatch latch) {
+		try {
+			latch.await(TIMEOUT_S, TimeUnit.SECONDS);
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+	}
+}
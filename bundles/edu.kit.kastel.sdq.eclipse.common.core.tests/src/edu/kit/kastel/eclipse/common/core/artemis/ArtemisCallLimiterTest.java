@@ -0,0 +1,133 @@
+/* Licensed under EPL-2.0 2024. */
+package edu.kit.kastel.eclipse.common.core.artemis;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.OptionalInt;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Test;
+
+import edu.kit.kastel.sdq.artemis4j.api.ArtemisClientException;
+
+class ArtemisCallLimiterTest {
+	private static final double DELTA = 1e-9;
+
+	private static ArtemisClientException failure(String status) {
+		return new ArtemisClientException("Communication with \"https://artemis.example/api/courses\" failed with status \"" + status + "\".");
+	}
+
+	@Test
+	void statusIsParsedFromTheMessage() {
+		assertEquals(OptionalInt.of(503), ArtemisCallLimiter.getStatus(failure("503: Service Unavailable")));
+		assertEquals(OptionalInt.of(404), ArtemisCallLimiter.getStatus(failure("404: Not Found")));
+		assertEquals(OptionalInt.empty(), ArtemisCallLimiter.getStatus(new ArtemisClientException("Connection refused")));
+		assertEquals(OptionalInt.empty(), ArtemisCallLimiter.getStatus(new ArtemisClientException((String) null)));
+	}
+
+	@Test
+	void onlyTooManyRequestsAndUnavailableAreOverloads() {
+		assertTrue(ArtemisCallLimiter.isOverload(failure("429: Too Many Requests")));
+		assertTrue(ArtemisCallLimiter.isOverload(failure("503: Service Unavailable")));
+		assertFalse(ArtemisCallLimiter.isOverload(failure("500: Internal Server Error")));
+		assertFalse(ArtemisCallLimiter.isOverload(new ArtemisClientException("Connection refused")));
+	}
+
+	@Test
+	void successfulCallsIncreaseTheConcurrency() throws ArtemisClientException {
+		ArtemisCallLimiter limiter = new ArtemisCallLimiter();
+		double initial = limiter.getMetrics().concurrencyLimit();
+		assertEquals("result", limiter.call(() -> "result"));
+
+		ArtemisCallLimiter.Metrics metrics = limiter.getMetrics();
+		assertEquals(initial + 1 / initial, metrics.concurrencyLimit(), DELTA);
+		assertEquals(1, metrics.calls());
+		assertEquals(0, metrics.inFlight());
+	}
+
+	@Test
+	void overloadHalvesTheConcurrencyAndBacksOff() throws ArtemisClientException {
+		ArtemisCallLimiter limiter = new ArtemisCallLimiter();
+		double initial = limiter.getMetrics().concurrencyLimit();
+		assertThrows(ArtemisClientException.class, () -> limiter.call(() -> {
+			throw failure("503: Service Unavailable");
+		}));
+
+		ArtemisCallLimiter.Metrics metrics = limiter.getMetrics();
+		assertEquals(initial / 2, metrics.concurrencyLimit(), DELTA);
+		assertEquals(1, metrics.overloads());
+		assertTrue(metrics.backoff().compareTo(Duration.ZERO) > 0);
+
+		// the next call waits for the backoff
+		long start = System.nanoTime();
+		limiter.call(() -> null);
+		assertTrue(System.nanoTime() - start >= TimeUnit.MILLISECONDS.toNanos(500));
+	}
+
+	@Test
+	void otherFailuresKeepTheConcurrency() {
+		ArtemisCallLimiter limiter = new ArtemisCallLimiter();
+		double initial = limiter.getMetrics().concurrencyLimit();
+		assertThrows(ArtemisClientException.class, () -> limiter.call(() -> {
+			throw failure("404: Not Found");
+		}));
+
+		ArtemisCallLimiter.Metrics metrics = limiter.getMetrics();
+		assertEquals(initial, metrics.concurrencyLimit(), DELTA);
+		assertEquals(0, metrics.overloads());
+		assertEquals(Duration.ZERO, metrics.backoff());
+	}
+
+	@Test
+	void concurrentCallsAreLimited() throws Exception {
+		ArtemisCallLimiter limiter = new ArtemisCallLimiter();
+		int limit = (int) limiter.getMetrics().concurrencyLimit();
+		CountDownLatch release = new CountDownLatch(1);
+		AtomicInteger running = new AtomicInteger();
+		AtomicInteger maxRunning = new AtomicInteger();
+
+		ExecutorService executor = Executors.newFixedThreadPool(limit + 2);
+		try {
+			List<Future<Object>> calls = new ArrayList<>();
+			for (int i = 0; i < limit + 2; i++) {
+				calls.add(executor.submit(() -> limiter.call(() -> {
+					maxRunning.accumulateAndGet(running.incrementAndGet(), Math::max);
+					try {
+						release.await();
+					} catch (InterruptedException e) {
+						Thread.currentThread().interrupt();
+					}
+					running.decrementAndGet();
+					return null;
+				})));
+			}
+			long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+			while (running.get() < limit && System.nanoTime() < deadline) {
+				Thread.sleep(10);
+			}
+			// give the remaining calls the chance to exceed the limit
+			Thread.sleep(200);
+			assertEquals(limit, limiter.getMetrics().inFlight());
+
+			release.countDown();
+			for (Future<Object> call : calls) {
+				call.get(10, TimeUnit.SECONDS);
+			}
+		} finally {
+			executor.shutdownNow();
+		}
+		assertEquals(limit, maxRunning.get());
+		assertEquals(limit + 2, limiter.getMetrics().calls());
+	}
+}
@@ -0,0 +1,128 @@
+/* Licensed under EPL-2.0 2024. */
+package edu.kit.kastel.eclipse.common.core.artemis;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.List;
+import java.util.OptionalInt;
+
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import edu.kit.kastel.eclipse.common.api.artemis.IProjectFileNamingStrategy;
+import edu.kit.kastel.sdq.artemis4j.api.artemis.Exercise;
+import edu.kit.kastel.sdq.artemis4j.api.artemis.assessment.Submission;
+
+class BegunSubmissionRegistryTest {
+	private static final IProjectFileNamingStrategy NAMING = new IProjectFileNamingStrategy() {
+		@Override
+		public File getAssignmentFileInProjectDirectory(File projectDirectory) {
+			return new File(projectDirectory, "assignment");
+		}
+
+		@Override
+		public File getProjectFileInWorkspace(File workspace, Exercise exercise, Submission submission) {
+			return new File(workspace, "submission-" + submission.getSubmissionId() + "-locked");
+		}
+
+		@Override
+		public File getSubmittedProjectFileInWorkspace(File workspace, Exercise exercise, Submission submission) {
+			return new File(workspace, "submission-" + submission.getSubmissionId());
+		}
+
+		@Override
+		public OptionalInt getSubmissionId(Exercise exercise, String projectName) {
+			return projectName.startsWith("submission-") ? OptionalInt.of(Integer.parseInt(projectName.split("-")[1])) : OptionalInt.empty();
+		}
+	};
+
+	private static Exercise exercise;
+	private static Submission first;
+	private static Submission second;
+
+	private BegunSubmissionRegistry registry;
+
+	@BeforeAll
+	static void createSubmissions() throws IOException {
+		ObjectMapper mapper = new ObjectMapper();
+		exercise = mapper.readValue("{ \"id\": 42, \"shortName\": \"sheet1\" }", Exercise.class);
+		first = mapper.readValue("{ \"id\": 1 }", Submission.class);
+		second = mapper.readValue("{ \"id\": 2 }", Submission.class);
+	}
+
+	@BeforeEach
+	void createRegistry() {
+		this.registry = new BegunSubmissionRegistry(NAMING);
+	}
+
+	@Test
+	void seedIndexesByProjectName() {
+		this.registry.seed(exercise, List.of(second, first));
+
+		assertTrue(this.registry.isComplete(exercise));
+		assertEquals(List.of("submission-1-locked", "submission-2-locked"), this.registry.getProjectNames(exercise));
+		assertSame(first, this.registry.getSubmission(exercise, "submission-1-locked").orElseThrow());
+		assertTrue(this.registry.getSubmission(exercise, "submission-3-locked").isEmpty());
+	}
+
+	@Test
+	void workspaceProjectsAreOnlyKnownById() {
+		this.registry.seedFromWorkspace(exercise, List.of("submission-3", "unrelated"));
+
+		assertFalse(this.registry.isComplete(exercise));
+		assertEquals(List.of("submission-3"), this.registry.getProjectNames(exercise));
+		assertTrue(this.registry.getSubmission(exercise, "submission-3").isEmpty());
+		assertEquals(OptionalInt.of(3), this.registry.getSubmissionId(exercise, "submission-3"));
+	}
+
+	@Test
+	void workspaceProjectsOfSubmissionsThatAreNotBegunAreDropped() {
+		this.registry.seedFromWorkspace(exercise, List.of("submission-3"));
+		this.registry.seed(exercise, List.of(first));
+		this.registry.seedFromWorkspace(exercise, List.of("submission-4"));
+
+		assertEquals(List.of("submission-1-locked"), this.registry.getProjectNames(exercise));
+		assertTrue(this.registry.getSubmissionId(exercise, "submission-3").isEmpty());
+	}
+
+	@Test
+	void submittedSubmissionMovesToItsNewProjectName() {
+		this.registry.seed(exercise, List.of(first, second));
+		this.registry.markSubmitted(exercise, first);
+
+		assertTrue(this.registry.isComplete(exercise));
+		assertEquals(List.of("submission-1", "submission-2-locked"), this.registry.getProjectNames(exercise));
+		assertTrue(this.registry.getSubmissionId(exercise, "submission-1-locked").isEmpty());
+		// outdated, so it is fetched again by its id
+		assertTrue(this.registry.getSubmission(exercise, "submission-1").isEmpty());
+		assertEquals(OptionalInt.of(1), this.registry.getSubmissionId(exercise, "submission-1"));
+		assertSame(second, this.registry.getSubmission(exercise, "submission-2-locked").orElseThrow());
+	}
+
+	@Test
+	void fetchedSubmissionIsUpToDateAgain() {
+		this.registry.seed(exercise, List.of(first));
+		this.registry.markSubmitted(exercise, first);
+		this.registry.put(exercise, first);
+
+		assertEquals(List.of("submission-1-locked"), this.registry.getProjectNames(exercise));
+		assertSame(first, this.registry.getSubmission(exercise, "submission-1-locked").orElseThrow());
+	}
+
+	@Test
+	void invalidateKeepsTheKnownSubmissions() {
+		this.registry.seed(exercise, List.of(first));
+		this.registry.invalidate(exercise);
+
+		assertFalse(this.registry.isComplete(exercise));
+		assertSame(first, this.registry.getSubmission(exercise, "submission-1-locked").orElseThrow());
+	}
+}
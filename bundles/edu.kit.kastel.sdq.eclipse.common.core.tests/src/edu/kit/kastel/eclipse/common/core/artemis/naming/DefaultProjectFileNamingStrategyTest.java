@@ -0,0 +1,53 @@
+/* Licensed under EPL-2.0 2024. */
+package edu.kit.kastel.eclipse.common.core.artemis.naming;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.util.OptionalInt;
+
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import edu.kit.kastel.eclipse.common.api.artemis.IProjectFileNamingStrategy;
+import edu.kit.kastel.sdq.artemis4j.api.artemis.Exercise;
+
+class DefaultProjectFileNamingStrategyTest {
+	private final IProjectFileNamingStrategy strategy = ProjectFileNamingStrategies.DEFAULT.get();
+
+	private static Exercise exercise;
+
+	@BeforeAll
+	static void createExercise() throws IOException {
+		exercise = new ObjectMapper().readValue("{ \"id\": 42, \"shortName\": \"sheet1\" }", Exercise.class);
+	}
+
+	@Test
+	void lockedAndSubmittedProjects() {
+		assertEquals(OptionalInt.of(17), this.strategy.getSubmissionId(exercise, "exercise-42-sheet1-uabcd-round-1-submission-17-locked"));
+		assertEquals(OptionalInt.of(17), this.strategy.getSubmissionId(exercise, "exercise-42-sheet1-uabcd-round-2-submission-17"));
+	}
+
+	@Test
+	void participantMayContainTheSuffix() {
+		assertEquals(OptionalInt.of(3), this.strategy.getSubmissionId(exercise, "exercise-42-sheet1-team-submission-5-round-1-submission-3"));
+	}
+
+	@Test
+	void projectsOfOtherExercises() {
+		assertTrue(this.strategy.getSubmissionId(exercise, "exercise-43-sheet1-uabcd-round-1-submission-17").isEmpty());
+		assertTrue(this.strategy.getSubmissionId(exercise, "exercise-42-sheet10-uabcd-round-1-submission-17").isEmpty());
+		// the project of the exercise itself
+		assertTrue(this.strategy.getSubmissionId(exercise, "exercise-42-sheet1").isEmpty());
+	}
+
+	@Test
+	void malformedSubmissionIds() {
+		assertTrue(this.strategy.getSubmissionId(exercise, "exercise-42-sheet1-uabcd-round-1-submission-").isEmpty());
+		assertTrue(this.strategy.getSubmissionId(exercise, "exercise-42-sheet1-uabcd-round-1-submission-12345678901").isEmpty());
+		assertTrue(this.strategy.getSubmissionId(exercise, "exercise-42-sheet1-uabcd-round-1-submission-17-copy").isEmpty());
+	}
+}
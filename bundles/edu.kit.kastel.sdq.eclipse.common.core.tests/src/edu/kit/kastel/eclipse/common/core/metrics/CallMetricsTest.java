@@ -0,0 +1,106 @@
+/* Licensed under EPL-2.0 2024. */
+package edu.kit.kastel.eclipse.common.core.metrics;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+
+import edu.kit.kastel.eclipse.common.core.metrics.CallMetrics.EndpointSnapshot;
+
+class CallMetricsTest {
+	@Test
+	void bucketBoundsAreExclusive() {
+		CallMetrics metrics = new CallMetrics();
+		for (long millis : new long[] { 0, 4, 5, 9, 10, 29999, 30000, 120000 }) {
+			metrics.record("endpoint", TimeUnit.MILLISECONDS.toNanos(millis), false, 0);
+		}
+
+		long[] expected = new long[CallMetrics.getBucketBounds().size() + 1];
+		expected[0] = 2;
+		expected[1] = 2;
+		expected[2] = 1;
+		expected[expected.length - 2] = 1;
+		expected[expected.length - 1] = 2;
+		assertArrayEquals(expected, single(metrics).buckets());
+	}
+
+	@Test
+	void percentileIsTheUpperBoundOfItsBucket() {
+		CallMetrics metrics = new CallMetrics();
+		record(metrics, 50, 3);
+		record(metrics, 40, 20);
+		record(metrics, 10, 40000);
+
+		EndpointSnapshot snapshot = single(metrics);
+		assertEquals(Duration.ofMillis(5), snapshot.percentile(50));
+		assertEquals(Duration.ofMillis(25), snapshot.percentile(90));
+		// the last bucket is unbounded
+		assertEquals(Duration.ofMillis(40000), snapshot.percentile(99));
+		assertEquals(Duration.ofMillis(40000), snapshot.percentile(100));
+	}
+
+	@Test
+	void percentileIsLimitedByTheMaximum() {
+		CallMetrics metrics = new CallMetrics();
+		record(metrics, 3, 60);
+
+		assertEquals(Duration.ofMillis(60), single(metrics).percentile(50));
+	}
+
+	@Test
+	void emptySnapshotHasNoLatency() {
+		EndpointSnapshot snapshot = new EndpointSnapshot("endpoint", 0, 0, 0, Duration.ZERO, Duration.ZERO,
+				new long[CallMetrics.getBucketBounds().size() + 1]);
+
+		assertEquals(Duration.ZERO, snapshot.mean());
+		assertEquals(Duration.ZERO, snapshot.percentile(99));
+	}
+
+	@Test
+	void errorsItemsAndMeanAreRecorded() {
+		CallMetrics metrics = new CallMetrics();
+		metrics.record("endpoint", TimeUnit.MILLISECONDS.toNanos(10), false, 3);
+		metrics.record("endpoint", TimeUnit.MILLISECONDS.toNanos(30), true, 0);
+
+		EndpointSnapshot snapshot = single(metrics);
+		assertEquals(2, snapshot.calls());
+		assertEquals(1, snapshot.errors());
+		assertEquals(3, snapshot.items());
+		assertEquals(Duration.ofMillis(20), snapshot.mean());
+		assertEquals(Duration.ofMillis(30), snapshot.max());
+	}
+
+	@Test
+	void snapshotIsSortedByEndpointAndReset() {
+		CallMetrics metrics = new CallMetrics();
+		metrics.record("b", 0, false, 0);
+		metrics.record("a", 0, false, 0);
+
+		assertEquals(List.of("a", "b"), metrics.getSnapshot().stream().map(EndpointSnapshot::endpoint).toList());
+		String[] csv = metrics.toCsv().split(System.lineSeparator());
+		assertEquals(3, csv.length);
+		assertTrue(csv[1].startsWith("a,1,0,0,"), csv[1]);
+		assertEquals(csv[0].split(",").length, csv[1].split(",").length);
+
+		metrics.reset();
+		assertEquals(List.of(), metrics.getSnapshot());
+	}
+
+	private static void record(CallMetrics metrics, int calls, long millis) {
+		for (int i = 0; i < calls; i++) {
+			metrics.record("endpoint", TimeUnit.MILLISECONDS.toNanos(millis), false, 0);
+		}
+	}
+
+	private static EndpointSnapshot single(CallMetrics metrics) {
+		List<EndpointSnapshot> snapshot = metrics.getSnapshot();
+		assertEquals(1, snapshot.size());
+		return snapshot.get(0);
+	}
+}
@@ -0,0 +1,317 @@
+/* Licensed under EPL-2.0 2024. */
+package edu.kit.kastel.eclipse.common.core;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Function;
+
+import org.eclipse.core.runtime.ILog;
+import org.eclipse.core.runtime.Platform;
+
+import edu.kit.kastel.sdq.artemis4j.api.grading.IAnnotation;
+import edu.kit.kastel.sdq.artemis4j.api.grading.IMistakeType;
+import edu.kit.kastel.sdq.artemis4j.api.grading.IRatingGroup;
+import edu.kit.kastel.sdq.artemis4j.grading.model.annotation.AnnotationException;
+import edu.kit.kastel.sdq.artemis4j.grading.model.annotation.AnnotationManagement;
+
+/**
+ * The annotations of one assessment. Changes are validated by an
+ * {@link AnnotationManagement}, lookups are answered from indexes by id,
+ * mistake type, class file path and rating group. All indexes keep the order in
+ * which the annotations have been added, also when they are modified.
+ * <p>
+ * The contribution of each mistake type to the penalty is cached until an
+ * annotation of that mistake type is changed. The penalty of a rating group is
+ * the sum of the contributions of its mistake types, limited to the range of
+ * the rating group, and is cached until an annotation of the rating group is
+ * changed. So a change only recalculates the contribution of one mistake type.
+ * <p>
+ * Annotations that do not match a reloaded config keep their previous mistake
+ * type and are flagged as invalid (see {@link #rebind(Function)}).
+ */
+final class AnnotationStore {
+	private static final ILog LOG = Platform.getLog(AnnotationStore.class);
+
+	private AnnotationManagement management = new AnnotationManagement();
+
+	private final Map<String, IAnnotation> byId = new LinkedHashMap<>();
+	private final Map<IMistakeType, Map<String, IAnnotation>> byMistakeType = new HashMap<>();
+	private final Map<String, Map<String, IAnnotation>> byClassFilePath = new HashMap<>();
+	private final Map<String, Map<String, IAnnotation>> byRatingGroup = new HashMap<>();
+
+	private final Map<IMistakeType, Double> penaltiesByMistakeType = new HashMap<>();
+	private final Map<String, Double> penaltiesByRatingGroup = new HashMap<>();
+	private final Set<String> invalid = new HashSet<>();
+
+	// invalidated on every change
+	private List<IAnnotation> snapshot = List.of();
+
+	synchronized void add(String annotationId, IMistakeType mistakeType, int startLine, int endLine, String classFilePath, String customMessage,
+			Double customPenalty) throws AnnotationException {
+		this.management.addAnnotation(annotationId, mistakeType, startLine, endLine, classFilePath, customMessage, customPenalty);
+		this.index(this.findAdded(annotationId));
+	}
+
+	/**
+	 * Keeps the position of the annotation in all indexes.
+	 */
+	synchronized void modify(String annotationId, String customMessage, Double customPenalty) {
+		this.management.modifyAnnotation(annotationId, customMessage, customPenalty);
+		IAnnotation previous = this.byId.get(annotationId);
+		if (previous == null) {
+			return;
+		}
+		this.replace(previous, this.findModified(previous, customMessage, customPenalty));
+	}
+
+	synchronized void remove(String annotationId) {
+		this.management.removeAnnotation(annotationId);
+		this.unindex(annotationId);
+		this.invalid.remove(annotationId);
+	}
+
+	/**
+	 * Removes all annotations.
+	 */
+	synchronized void clear() {
+		this.management = new AnnotationManagement();
+		this.byId.clear();
+		this.byMistakeType.clear();
+		this.byClassFilePath.clear();
+		this.byRatingGroup.clear();
+		this.penaltiesByMistakeType.clear();
+		this.penaltiesByRatingGroup.clear();
+		this.invalid.clear();
+		this.snapshot = null;
+	}
+
+	/**
+	 * Replaces the mistake types of the annotations in place, keeping their order.
+	 * An annotation that is rejected with its new mistake type keeps its previous
+	 * one and is flagged as invalid until it is rebound successfully.
+	 *
+	 * @param mistakeTypes maps the current mistake type of an annotation to the
+	 *                     new one
+	 * @return the ids of the annotations that are invalid now
+	 */
+	synchronized List<String> rebind(Function<IMistakeType, IMistakeType> mistakeTypes) {
+		List<String> rejected = new ArrayList<>();
+		for (IAnnotation annotation : List.copyOf(this.byId.values())) {
+			String id = annotation.getUUID();
+			IMistakeType mistakeType = mistakeTypes.apply(annotation.getMistakeType());
+			if (mistakeType == annotation.getMistakeType()) {
+				continue;
+			}
+			this.management.removeAnnotation(id);
+			try {
+				this.management.addAnnotation(id, mistakeType, annotation.getStartLine(), annotation.getEndLine(), annotation.getClassFilePath(),
+						annotation.getCustomMessage().orElse(null), annotation.getCustomPenalty().orElse(null));
+				this.invalid.remove(id);
+				this.replace(annotation, this.findAdded(id));
+			} catch (AnnotationException e) {
+				this.restore(annotation);
+				this.invalid.add(id);
+				rejected.add(id);
+			}
+		}
+		return rejected;
+	}
+
+	/**
+	 * @return whether the annotation matches the config it has been rebound to
+	 */
+	synchronized boolean isValid(String annotationId) {
+		return !this.invalid.contains(annotationId);
+	}
+
+	synchronized List<IAnnotation> getAll() {
+		if (this.snapshot == null) {
+			this.snapshot = List.copyOf(this.byId.values());
+		}
+		return this.snapshot;
+	}
+
+	synchronized Optional<IAnnotation> get(String annotationId) {
+		return Optional.ofNullable(this.byId.get(annotationId));
+	}
+
+	synchronized List<IAnnotation> getByMistakeType(IMistakeType mistakeType) {
+		return values(this.byMistakeType.get(mistakeType));
+	}
+
+	synchronized List<IAnnotation> getByClassFilePath(String classFilePath) {
+		return values(this.byClassFilePath.get(classFilePath));
+	}
+
+	synchronized List<IAnnotation> getByRatingGroup(IRatingGroup ratingGroup) {
+		return values(this.byRatingGroup.get(ratingGroup.getIdentifier()));
+	}
+
+	/**
+	 * @return the contribution of the mistake type to the penalty of its rating
+	 *         group, as calculated by its penalty rule
+	 */
+	synchronized double getPenalty(IMistakeType mistakeType) {
+		Double penalty = this.penaltiesByMistakeType.get(mistakeType);
+		if (penalty == null) {
+			penalty = mistakeType.calculate(this.getByMistakeType(mistakeType));
+			this.penaltiesByMistakeType.put(mistakeType, penalty);
+		}
+		return penalty;
+	}
+
+	/**
+	 * @return the sum of the contributions of the mistake types of the rating
+	 *         group, limited to its range
+	 */
+	synchronized double getPenalty(IRatingGroup ratingGroup) {
+		Double penalty = this.penaltiesByRatingGroup.get(ratingGroup.getIdentifier());
+		if (penalty == null) {
+			double sum = 0;
+			for (IMistakeType mistakeType : this.byMistakeType.keySet()) {
+				if (mistakeType.getRatingGroup().getIdentifier().equals(ratingGroup.getIdentifier())) {
+					sum += this.getPenalty(mistakeType);
+				}
+			}
+			penalty = limit(ratingGroup, sum);
+			this.penaltiesByRatingGroup.put(ratingGroup.getIdentifier(), penalty);
+		}
+		return penalty;
+	}
+
+	static double limit(IRatingGroup ratingGroup, double penalty) {
+		var range = ratingGroup.getRange();
+		if (range.isEmpty()) {
+			return penalty;
+		}
+		double lower = range.first() == null ? Double.NEGATIVE_INFINITY : range.first();
+		double upper = range.second() == null ? Double.POSITIVE_INFINITY : range.second();
+		return Math.max(lower, Math.min(upper, penalty));
+	}
+
+	/**
+	 * Adds an annotation that has been rejected with a new mistake type again with
+	 * its previous one, which has been accepted before.
+	 */
+	private void restore(IAnnotation annotation) {
+		try {
+			this.management.addAnnotation(annotation.getUUID(), annotation.getMistakeType(), annotation.getStartLine(), annotation.getEndLine(),
+					annotation.getClassFilePath(), annotation.getCustomMessage().orElse(null), annotation.getCustomPenalty().orElse(null));
+		} catch (AnnotationException e) {
+			// still indexed, so it is shown and can be removed
+			LOG.error("Annotation " + annotation.getUUID() + " could not be restored: " + e.getMessage(), e);
+		}
+	}
+
+	/**
+	 * Replaces an annotation in all indexes without changing its position.
+	 */
+	private void replace(IAnnotation previous, IAnnotation next) {
+		if (next == null) {
+			this.unindex(previous.getUUID());
+			return;
+		}
+		String id = next.getUUID();
+		this.byId.put(id, next);
+		if (previous.getMistakeType().equals(next.getMistakeType())) {
+			this.byMistakeType.get(next.getMistakeType()).put(id, next);
+		} else {
+			removeFrom(this.byMistakeType, previous.getMistakeType(), id);
+			this.byMistakeType.computeIfAbsent(next.getMistakeType(), key -> new LinkedHashMap<>()).put(id, next);
+		}
+		this.byClassFilePath.get(next.getClassFilePath()).put(id, next);
+		if (ratingGroupOf(previous).equals(ratingGroupOf(next))) {
+			this.byRatingGroup.get(ratingGroupOf(next)).put(id, next);
+		} else {
+			removeFrom(this.byRatingGroup, ratingGroupOf(previous), id);
+			this.byRatingGroup.computeIfAbsent(ratingGroupOf(next), key -> new LinkedHashMap<>()).put(id, next);
+		}
+		this.invalidatePenalties(previous);
+		this.invalidatePenalties(next);
+		this.snapshot = null;
+	}
+
+	/**
+	 * {@link AnnotationManagement} offers no lookup by id, but appends added
+	 * annotations, so only the last one is checked.
+	 */
+	private IAnnotation findAdded(String annotationId) {
+		List<IAnnotation> managed = this.management.getAnnotations();
+		if (!managed.isEmpty() && managed.get(managed.size() - 1).getUUID().equals(annotationId)) {
+			return managed.get(managed.size() - 1);
+		}
+		return this.findManaged(annotationId);
+	}
+
+	/**
+	 * {@link AnnotationManagement} modifies the annotation itself, so the indexed
+	 * instance is kept if it carries the new values.
+	 */
+	private IAnnotation findModified(IAnnotation previous, String customMessage, Double customPenalty) {
+		boolean modified = Objects.equals(previous.getCustomMessage().orElse(null), customMessage)
+				&& Objects.equals(previous.getCustomPenalty().orElse(null), customPenalty);
+		if (modified) {
+			return previous;
+		}
+		return this.findManaged(previous.getUUID());
+	}
+
+	private IAnnotation findManaged(String annotationId) {
+		return this.management.getAnnotations().stream().filter(annotation -> annotation.getUUID().equals(annotationId)).findFirst().orElse(null);
+	}
+
+	private void index(IAnnotation annotation) {
+		if (annotation == null) {
+			return;
+		}
+		String id = annotation.getUUID();
+		this.byId.put(id, annotation);
+		this.byMistakeType.computeIfAbsent(annotation.getMistakeType(), key -> new LinkedHashMap<>()).put(id, annotation);
+		this.byClassFilePath.computeIfAbsent(annotation.getClassFilePath(), key -> new LinkedHashMap<>()).put(id, annotation);
+		this.byRatingGroup.computeIfAbsent(ratingGroupOf(annotation), key -> new LinkedHashMap<>()).put(id, annotation);
+		this.invalidatePenalties(annotation);
+		this.snapshot = null;
+	}
+
+	private void unindex(String annotationId) {
+		IAnnotation annotation = this.byId.remove(annotationId);
+		if (annotation == null) {
+			return;
+		}
+		removeFrom(this.byMistakeType, annotation.getMistakeType(), annotationId);
+		removeFrom(this.byClassFilePath, annotation.getClassFilePath(), annotationId);
+		removeFrom(this.byRatingGroup, ratingGroupOf(annotation), annotationId);
+		this.invalidatePenalties(annotation);
+		this.snapshot = null;
+	}
+
+	private void invalidatePenalties(IAnnotation annotation) {
+		this.penaltiesByMistakeType.remove(annotation.getMistakeType());
+		this.penaltiesByRatingGroup.remove(ratingGroupOf(annotation));
+	}
+
+	private static String ratingGroupOf(IAnnotation annotation) {
+		return annotation.getMistakeType().getRatingGroup().getIdentifier();
+	}
+
+	private static <K> void removeFrom(Map<K, Map<String, IAnnotation>> index, K key, String annotationId) {
+		Map<String, IAnnotation> annotations = index.get(key);
+		if (annotations != null) {
+			annotations.remove(annotationId);
+			if (annotations.isEmpty()) {
+				index.remove(key);
+			}
+		}
+	}
+
+	private static List<IAnnotation> values(Map<String, IAnnotation> annotations) {
+		return annotations == null ? List.of() : List.copyOf(annotations.values());
+	}
+}
@@ -1,11 +1,20 @@
 /* Licensed under EPL-2.0 2022-2023. */
 package edu.kit.kastel.eclipse.common.core;
 
+import java.io.IOException;
+import java.time.Duration;
 import java.util.Collection;
-import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
 
+import org.eclipse.core.runtime.ILog;
+import org.eclipse.core.runtime.Platform;
 import org.osgi.framework.Version;
 
 import edu.kit.kastel.eclipse.common.api.EclipseArtemisConstants;
@@ -13,6 +22,12 @@ import edu.kit.kastel.eclipse.common.api.controller.AbstractController;
 import edu.kit.kastel.eclipse.common.api.controller.IArtemisController;
 import edu.kit.kastel.eclipse.common.api.controller.IViewInteraction;
 import edu.kit.kastel.eclipse.common.client.rest.LoginManager;
+import edu.kit.kastel.eclipse.common.client.rest.ProgrammingExerciseClient;
+import edu.kit.kastel.eclipse.common.core.artemis.ArtemisCallLimiter;
+import edu.kit.kastel.eclipse.common.core.artemis.CourseIndex;
+import edu.kit.kastel.eclipse.common.core.artemis.CourseSnapshotStore;
+import edu.kit.kastel.eclipse.common.core.artemis.CourseSnapshotStore.CourseNames;
+import edu.kit.kastel.eclipse.common.core.metrics.CallMetrics;
 import edu.kit.kastel.sdq.artemis4j.api.ArtemisClientException;
 import edu.kit.kastel.sdq.artemis4j.api.artemis.Course;
 import edu.kit.kastel.sdq.artemis4j.api.artemis.Exercise;
@@ -21,30 +36,92 @@ import edu.kit.kastel.sdq.artemis4j.api.artemis.assessment.Feedback;
 import edu.kit.kastel.sdq.artemis4j.api.artemis.assessment.LockResult;
 import edu.kit.kastel.sdq.artemis4j.api.artemis.assessment.Submission;
 import edu.kit.kastel.sdq.artemis4j.api.artemis.exam.Exam;
-import edu.kit.kastel.sdq.artemis4j.api.artemis.exam.ExerciseGroup;
 import edu.kit.kastel.sdq.artemis4j.client.RestClientManager;
 
 public abstract class ArtemisController extends AbstractController implements IArtemisController {
+	private static final ILog LOG = Platform.getLog(ArtemisController.class);
+	private static final Duration COURSE_SNAPSHOT_TTL = Duration.ofHours(12);
+
 	protected final Map<Integer, LockResult> lockResults;
 	protected final RestClientManager clientManager;
-	protected List<Course> courses;
+	private final LoginManager loginManager;
+	private final String artemisUrl;
 	private final Version pluginVersion;
 
+	private final CourseSnapshotStore courseSnapshots;
+	private final List<Runnable> courseListeners = new CopyOnWriteArrayList<>();
+	private CompletableFuture<CourseIndex> courseIndex;
+
+	private final CompletableFuture<Void> connection;
+	private final CompletableFuture<Void> ready;
+
 	protected ArtemisController(Version pluginVersion, final String host, final String username, final String password, final IViewInteraction handler) {
 		super(handler);
 		this.pluginVersion = pluginVersion;
-		this.clientManager = new RestClientManager(host.trim(), new LoginManager(host.trim(), username, password));
-		this.lockResults = new HashMap<>();
-		if (!host.isBlank()) {
-			this.checkVersion();
-			this.loginOrNotify();
+		this.loginManager = new LoginManager(host.trim(), username, password);
+		this.artemisUrl = host.trim().replaceAll("/+$", "");
+		this.clientManager = new RestClientManager(host.trim(), this.loginManager);
+		this.lockResults = new ConcurrentHashMap<>();
+		this.courseSnapshots = CourseSnapshotStore.forKey(host.trim() + "|" + username, COURSE_SNAPSHOT_TTL);
+		if (host.isBlank()) {
+			this.connection = CompletableFuture.completedFuture(null);
+		} else {
+			this.connection = CompletableFuture.runAsync(() -> {
+				this.checkVersion();
+				this.loginOrNotify();
+			}, new JobExecutor("Connecting to Artemis")).exceptionally(e -> {
+				this.error(e.getMessage(), e);
+				return null;
+			});
 		}
+		this.ready = this.connection.thenCompose(ignored -> this.awaitCourses());
 	}
 
-	protected abstract List<Course> fetchCourses();
+	/**
+	 * Starts loading the courses. The view may be shown before they are loaded if
+	 * the course snapshot is fresh.
+	 */
+	private CompletableFuture<Void> awaitCourses() {
+		CompletableFuture<Void> loaded = this.whenCoursesLoaded();
+		if (this.courseSnapshots.getFresh().isPresent()) {
+			return CompletableFuture.completedFuture(null);
+		}
+		return loaded;
+	}
+
+	@Override
+	public void refreshCourses() {
+		synchronized (this) {
+			this.courseIndex = null;
+		}
+		this.loadCourseIndex();
+	}
+
+	@Override
+	public CompletableFuture<Void> whenReady() {
+		return this.ready;
+	}
+
+	@Override
+	public CompletableFuture<Void> whenCoursesLoaded() {
+		// errors are reported once the fetch fails
+		return this.loadCourseIndex().handle((courses, error) -> null);
+	}
+
+	/**
+	 * Waits until the version check and the login have finished. Must not be
+	 * called on the UI thread before {@link #whenReady()} completed, since the
+	 * browser login needs the UI thread.
+	 */
+	protected final void awaitLogin() {
+		this.connection.join();
+	}
+
+	protected abstract List<Course> fetchCourses() throws ArtemisClientException;
 
 	@Override
 	public User getUserLogin() {
+		this.awaitLogin();
 		var login = this.clientManager.getAuthenticationClient();
 		if (login == null) {
 			return null;
@@ -54,10 +131,69 @@ public abstract class ArtemisController extends AbstractController implements IA
 
 	@Override
 	public final List<Course> getCourses() {
-		if (this.courses == null) {
-			this.courses = this.fetchCourses();
+		return this.getCourseIndex().getCourses();
+	}
+
+	/**
+	 * Starts fetching the courses in the background, if not done already.
+	 * Afterwards, the course snapshot is revalidated. Errors are reported once
+	 * the courses could not be fetched. The failed fetch is kept until
+	 * {@link #refreshCourses()}, so callers waiting for
+	 * {@link #whenCoursesLoaded()} do not start another one.
+	 */
+	private synchronized CompletableFuture<CourseIndex> loadCourseIndex() {
+		if (this.courseIndex == null) {
+			CompletableFuture<CourseIndex> index = this.connection.thenApplyAsync(ignored -> {
+				List<Course> courses;
+				try {
+					courses = this.fetchCourses();
+				} catch (ArtemisClientException e) {
+					throw new CompletionException(e);
+				}
+				CourseIndex index = new CourseIndex(courses);
+				if (this.courseSnapshots.revalidate(index.getCourseShortNames())) {
+					LOG.info("Courses have changed since the last snapshot");
+					this.courseListeners.forEach(Runnable::run);
+				}
+				return index;
+			}, new JobExecutor("Loading courses"));
+			index.whenComplete((courses, error) -> {
+				if (error != null) {
+					Throwable cause = error instanceof CompletionException && error.getCause() != null ? error.getCause() : error;
+					this.error(cause.getMessage(), cause);
+				}
+			});
+			this.courseIndex = index;
+		}
+		return this.courseIndex;
+	}
+
+	/**
+	 * Waits for the courses, so the UI thread has to wait for
+	 * {@link #whenCoursesLoaded()} first. If the courses could not be fetched, an
+	 * empty index is returned (the error has been reported already).
+	 */
+	protected CourseIndex getCourseIndex() {
+		try {
+			return this.loadCourseIndex().join();
+		} catch (CompletionException | CancellationException e) {
+			return new CourseIndex(List.of());
 		}
-		return this.courses;
+	}
+
+	@Override
+	public Optional<Course> getCourse(String courseShortName) {
+		return this.getCourseIndex().getCourse(courseShortName);
+	}
+
+	@Override
+	public Optional<Exercise> getExercise(Course course, String exerciseShortName) throws ArtemisClientException {
+		return this.getCourseIndex().getExercise(course, exerciseShortName);
+	}
+
+	@Override
+	public void addCoursesChangedListener(Runnable listener) {
+		this.courseListeners.add(listener);
 	}
 
 	@Override
@@ -71,42 +207,117 @@ public abstract class ArtemisController extends AbstractController implements IA
 	}
 
 	@Override
-	public List<Submission> getBegunSubmissions(Exercise exercise) {
-		try {
-			return this.clientManager.getSubmissionArtemisClient().getSubmissions(exercise);
-		} catch (ArtemisClientException e) {
-			this.error(e.getMessage(), e);
-			return List.of();
+	public Optional<Integer> getParticipationId(Submission submission) {
+		return Optional.ofNullable(this.lockResults.get(submission.getSubmissionId())).map(LockResult::getParticipationId);
+	}
+
+	@Override
+	public String getAuthenticationToken() {
+		this.awaitLogin();
+		return this.loginManager.getBearerToken();
+	}
+
+	@Override
+	public List<Submission> getBegunSubmissions(Exercise exercise) throws ArtemisClientException {
+		this.awaitLogin();
+		return this.limited("getSubmissions", () -> this.clientManager.getSubmissionArtemisClient().getSubmissions(exercise));
+	}
+
+	/**
+	 * The programming exercise endpoint is not part of the Artemis client, so it
+	 * is requested with the token of the login.
+	 */
+	@Override
+	public Optional<String> getTemplateRepositoryUrl(Exercise exercise) throws ArtemisClientException {
+		this.awaitLogin();
+		return this.limited("getProgrammingExercise", () -> {
+			try {
+				return ProgrammingExerciseClient.getTemplateRepositoryUrl(this.artemisUrl, this.loginManager.getBearerToken(), exercise.getExerciseId());
+			} catch (IOException e) {
+				// keeps the status in the message for the limiter
+				throw new ArtemisClientException(e.getMessage(), e);
+			}
+		});
+	}
+
+	/**
+	 * Executes a request to Artemis through the {@link ArtemisCallLimiter} and
+	 * records its latency in the {@link CallMetrics} of the endpoint. The time
+	 * spent waiting for the limiter is not included.
+	 */
+	protected final <T> T limited(String endpoint, ArtemisCallLimiter.Call<T> call) throws ArtemisClientException {
+		return ArtemisCallLimiter.getDefault().call(() -> {
+			long start = System.nanoTime();
+			T result = null;
+			boolean failed = true;
+			try {
+				result = call.execute();
+				failed = false;
+				return result;
+			} finally {
+				CallMetrics.getDefault().record(endpoint, System.nanoTime() - start, failed, countItems(result));
+			}
+		});
+	}
+
+	private static long countItems(Object result) {
+		if (result instanceof Collection<?> collection) {
+			return collection.size();
+		}
+		if (result instanceof Optional<?> optional) {
+			return optional.isPresent() ? 1 : 0;
 		}
+		return result == null ? 0 : 1;
 	}
 
 	protected Course getCourseByShortName(final String courseShortName) {
-		List<Course> filteredCourses = this.getCourses().stream().filter(course -> course.getShortName().equals(courseShortName)).toList();
-		if (filteredCourses.isEmpty()) {
-			this.error("No course found for courseShortName=" + courseShortName, null);
+		CourseIndex index = this.getCourseIndex();
+		if (index.isAmbiguous(courseShortName)) {
+			this.error("Multiple courses found for courseShortName=" + courseShortName, null);
 			return null;
 		}
-		if (filteredCourses.size() > 1) {
-			this.error("Multiple courses found for courseShortName=" + courseShortName, null);
+		Optional<Course> course = index.getCourse(courseShortName);
+		if (course.isEmpty()) {
+			this.error("No course found for courseShortName=" + courseShortName, null);
 			return null;
 		}
-		return filteredCourses.iterator().next();
+		return course.get();
 	}
 
+	/**
+	 * Returns the names of the course snapshot while it is fresh, so the courses
+	 * do not have to be fetched before the view can be shown. The courses are
+	 * fetched in the background meanwhile.
+	 */
 	@Override
 	public List<String> getCourseShortNames() {
-		return this.getCourses().stream().map(Course::getShortName).toList();
+		CompletableFuture<CourseIndex> index = this.loadCourseIndex();
+		if (!index.isDone()) {
+			var snapshot = this.courseSnapshots.getFresh();
+			if (snapshot.isPresent()) {
+				return snapshot.get().courses().stream().map(CourseNames::shortName).toList();
+			}
+		}
+		return this.getCourseIndex().getCourseShortNames();
 	}
 
 	@Override
 	public List<String> getExamTitles(final String courseShortName) {
+		if (!this.loadCourseIndex().isDone()) {
+			var examTitles = this.courseSnapshots.getExamTitles(courseShortName);
+			if (examTitles.isPresent()) {
+				return examTitles.get();
+			}
+		}
 		try {
 			Course course = this.getCourseByShortName(courseShortName);
 			if (course == null) {
 				return List.of();
 			}
 
-			return course.getExams().stream().map(Exam::getTitle).toList();
+			List<String> examTitles = this.getCourseIndex().getExams(course).stream().map(Exam::getTitle).toList();
+			this.courseSnapshots.updateExamTitles(courseShortName, examTitles);
+			return examTitles;
 		} catch (final Exception e) {
 			this.error(e.getMessage(), e);
 			return List.of();
@@ -114,39 +325,28 @@ public abstract class ArtemisController extends AbstractController implements IA
 	}
 
 	@Override
-	public List<Exercise> getExercisesFromExam(final String examTitle) {
-		return this.getExercisesFromExam(examTitle, this.getCourses());
-	}
-
-	private List<Exercise> getExercisesFromExam(final String examTitle, List<Course> courses) {
-		Exam foundExam = null;
-
-		for (Course course : courses) {
-			List<Exam> filteredExams;
-			try {
-				filteredExams = course.getExams().stream().filter(exam -> exam.getTitle().equals(examTitle)).toList();
-			} catch (final Exception e) {
-				this.error(e.getMessage(), e);
-				continue;
-			}
-			if (filteredExams.size() == 1) {
-				Exam exam = filteredExams.iterator().next();
-				if (exam.getTitle().equals(examTitle)) {
-					foundExam = exam;
-				}
-			}
+	public List<Exercise> getExercisesFromExam(final String courseShortName, final String examTitle) {
+		Course course = this.getCourseByShortName(courseShortName);
+		if (course == null) {
+			return List.of();
+		}
+		Optional<Exam> exam;
+		try {
+			exam = this.getCourseIndex().getExam(course, examTitle);
+		} catch (final Exception e) {
+			this.error(e.getMessage(), e);
+			return List.of();
 		}
-		if (foundExam == null) {
+		if (exam.isEmpty()) {
 			this.error("No exam found for examTitle=" + examTitle, null);
 			return List.of();
 		}
 		try {
-			return foundExam.getExerciseGroups().stream().map(ExerciseGroup::getExercises).flatMap(Collection::stream).toList();
+			return CourseIndex.getExercises(exam.get());
 		} catch (final Exception e) {
 			this.error(e.getMessage(), e);
 			return List.of();
 		}
-
 	}
 
 	private void loginOrNotify() {
@@ -5,6 +5,7 @@ import java.io.File;
 import java.io.IOException;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 
 import org.eclipse.core.resources.ResourcesPlugin;
 import org.eclipse.core.runtime.CoreException;
@@ -12,6 +13,7 @@ import org.eclipse.core.runtime.CoreException;
 import edu.kit.kastel.eclipse.common.api.PreferenceConstants;
 import edu.kit.kastel.eclipse.common.api.artemis.IProjectFileNamingStrategy;
 import edu.kit.kastel.eclipse.common.api.controller.AbstractController;
+import edu.kit.kastel.eclipse.common.api.controller.GradingConfigChange;
 import edu.kit.kastel.eclipse.common.api.controller.IAssessmentController;
 import edu.kit.kastel.eclipse.common.core.artemis.WorkspaceUtil;
 import edu.kit.kastel.sdq.artemis4j.api.artemis.Course;
@@ -21,12 +23,8 @@ import edu.kit.kastel.sdq.artemis4j.api.grading.IAnnotation;
 import edu.kit.kastel.sdq.artemis4j.api.grading.IMistakeType;
 import edu.kit.kastel.sdq.artemis4j.api.grading.IRatingGroup;
 import edu.kit.kastel.sdq.artemis4j.grading.artemis.AnnotationDeserializer;
-import edu.kit.kastel.sdq.artemis4j.grading.artemis.AnnotationMapper;
 import edu.kit.kastel.sdq.artemis4j.grading.config.ExerciseConfig;
-import edu.kit.kastel.sdq.artemis4j.grading.config.GradingConfig;
-import edu.kit.kastel.sdq.artemis4j.grading.config.JsonFileConfig;
 import edu.kit.kastel.sdq.artemis4j.grading.model.annotation.AnnotationException;
-import edu.kit.kastel.sdq.artemis4j.grading.model.annotation.AnnotationManagement;
 
 public class AssessmentController extends AbstractController implements IAssessmentController {
 
@@ -36,8 +34,11 @@ public class AssessmentController extends AbstractController implements IAssessm
 	private final Exercise exercise;
 	private final Submission submission;
 
-	private GradingConfig gradingConfig;
-	private AnnotationManagement annotations;
+	private File gradingConfigFile;
+	// the config is kept until it is reloaded, so the mistake types of the
+	// annotations stay the same
+	private volatile CompiledExerciseConfig exerciseConfig;
+	private final AnnotationStore annotations = new AnnotationStore();
 
 	/**
 	 * Protected, because the way to get a specific assessment controller should be
@@ -51,11 +52,10 @@ public class AssessmentController extends AbstractController implements IAssessm
 		this.exercise = exercise;
 		this.submission = submission;
 
-		this.annotations = new AnnotationManagement();
-		this.gradingConfig = this.loadGradingDAO();
+		this.gradingConfigFile = this.loadGradingConfigFile();
 
 		try {
-			ExerciseConfig exerciseConfig = this.gradingConfig.getExerciseConfig(this.exercise);
+			ExerciseConfig exerciseConfig = this.getExerciseConfig().getConfig();
 			if (!exerciseConfig.getAllowedExercises().isEmpty() && !exerciseConfig.getAllowedExercises().contains(this.exercise.getExerciseId())) {
 				// using interaction handler of the system wide controller, as the own
 				// interaction handler is not set during the constructor
@@ -76,15 +76,57 @@ public class AssessmentController extends AbstractController implements IAssessm
 		}
 	}
 
-	private GradingConfig loadGradingDAO() {
-		return new JsonFileConfig(new File(this.systemWideController.getPreferences().getString(PreferenceConstants.GRADING_ABSOLUTE_CONFIG_PATH)));
+	private File loadGradingConfigFile() {
+		return new File(this.systemWideController.getPreferences().getString(PreferenceConstants.GRADING_ABSOLUTE_CONFIG_PATH));
+	}
+
+	private CompiledExerciseConfig getExerciseConfig() throws IOException {
+		CompiledExerciseConfig config = this.exerciseConfig;
+		if (config == null) {
+			config = ExerciseConfigCache.getDefault().get(this.gradingConfigFile, this.exercise);
+			this.exerciseConfig = config;
+		}
+		return config;
+	}
+
+	@Override
+	public synchronized GradingConfigChange reloadGradingConfig() {
+		CompiledExerciseConfig previous = this.exerciseConfig;
+		CompiledExerciseConfig next;
+		GradingConfigChange change;
+		try {
+			next = ExerciseConfigCache.getDefault().get(this.gradingConfigFile, this.exercise);
+			if (next == previous) {
+				return GradingConfigChange.NONE;
+			}
+			change = previous == null ? new GradingConfigChange(true, Set.of()) : GradingConfigDiff.compare(previous, next);
+		} catch (IllegalStateException | IOException e) {
+			this.error("Exercise Config not parseable: " + e.getMessage(), e);
+			return GradingConfigChange.NONE;
+		}
+
+		this.exerciseConfig = next;
+		this.rebindAnnotations(next);
+		return change;
+	}
+
+	/**
+	 * Replaces the mistake types of the annotations by the ones with the same
+	 * identifier. This happens in place under the lock of the store, so
+	 * concurrent changes of the annotations are neither lost nor overwritten.
+	 */
+	private void rebindAnnotations(CompiledExerciseConfig config) {
+		List<String> rejected = this.annotations.rebind(mistakeType -> config.getMistakeType(mistakeType.getIdentifier()).orElse(mistakeType));
+		if (!rejected.isEmpty()) {
+			this.warn("The following annotations do not match the changed config and keep their previous mistake type: " + String.join(", ", rejected));
+		}
 	}
 
 	@Override
 	public void addAnnotation(String annotationId, IMistakeType mistakeType, int startLine, int endLine, String fullyClassifiedClassName, String customMessage,
 			Double customPenalty) {
 		try {
-			this.annotations.addAnnotation(annotationId, mistakeType, startLine, endLine, fullyClassifiedClassName, customMessage, customPenalty);
+			this.annotations.add(annotationId, mistakeType, startLine, endLine, fullyClassifiedClassName, customMessage, customPenalty);
 		} catch (AnnotationException e) {
 			this.error(e.getMessage(), e);
 		}
@@ -105,17 +147,27 @@ public class AssessmentController extends AbstractController implements IAssessm
 
 	@Override
 	public List<IAnnotation> getAnnotations() {
-		return this.annotations.getAnnotations().stream().toList();
+		return this.annotations.getAll();
 	}
 
 	@Override
 	public List<IAnnotation> getAnnotationsByMistakeType(IMistakeType mistakeType) {
-		return this.annotations.getAnnotations().stream().filter(annotation -> annotation.getMistakeType().equals(mistakeType)).toList();
+		return this.annotations.getByMistakeType(mistakeType);
+	}
+
+	@Override
+	public List<IAnnotation> getAnnotationsByClassFilePath(String classFilePath) {
+		return this.annotations.getByClassFilePath(classFilePath);
 	}
 
 	@Override
 	public Optional<IAnnotation> getAnnotationById(String id) {
-		return this.annotations.getAnnotations().stream().filter(annotation -> annotation.getUUID().equals(id)).findFirst();
+		return this.annotations.get(id);
+	}
+
+	@Override
+	public boolean isAnnotationValid(String annotationId) {
+		return this.annotations.isValid(annotationId);
 	}
 
 	@Override
@@ -131,17 +183,57 @@ public class AssessmentController extends AbstractController implements IAssessm
 	@Override
 	public List<IMistakeType> getMistakes() {
 		try {
-			return this.gradingConfig.getExerciseConfig(this.exercise).getIMistakeTypes();
+			return this.getExerciseConfig().getMistakeTypes();
 		} catch (IllegalStateException | IOException e) {
 			this.error("Exercise Config not parseable: " + e.getMessage(), e);
 			return List.of();
 		}
 	}
 
+	@Override
+	public List<IMistakeType> getMistakesOfRatingGroup(IRatingGroup ratingGroup) {
+		try {
+			return this.getExerciseConfig().getMistakeTypes(ratingGroup);
+		} catch (IllegalStateException | IOException e) {
+			this.error("Exercise Config not parseable: " + e.getMessage(), e);
+			return List.of();
+		}
+	}
+
+	@Override
+	public Optional<IMistakeType> getMistakeTypeById(String id) {
+		try {
+			return this.getExerciseConfig().getMistakeType(id);
+		} catch (IllegalStateException | IOException e) {
+			this.error("Exercise Config not parseable: " + e.getMessage(), e);
+			return Optional.empty();
+		}
+	}
+
+	@Override
+	public boolean isMistakeTypeEnabled(IMistakeType mistakeType) {
+		try {
+			return this.getExerciseConfig().isEnabled(mistakeType);
+		} catch (IllegalStateException | IOException e) {
+			this.error("Exercise Config not parseable: " + e.getMessage(), e);
+			return mistakeType.isEnabledMistakeType();
+		}
+	}
+
+	@Override
+	public boolean isPenaltyEnabled(IMistakeType mistakeType) {
+		try {
+			return this.getExerciseConfig().isPenaltyEnabled(mistakeType);
+		} catch (IllegalStateException | IOException e) {
+			this.error("Exercise Config not parseable: " + e.getMessage(), e);
+			return mistakeType.isEnabledPenalty();
+		}
+	}
+
 	@Override
 	public boolean isPositiveFeedbackAllowed() {
 		try {
-			return this.gradingConfig.getExerciseConfig(this.exercise).isPositiveFeedbackAllowed();
+			return this.getExerciseConfig().getConfig().isPositiveFeedbackAllowed();
 		} catch (IllegalStateException | IOException e) {
 			this.error("Exercise Config not parseable: " + e.getMessage(), e);
 			return true;
@@ -150,7 +242,13 @@ public class AssessmentController extends AbstractController implements IAssessm
 
 	@Override
 	public IRatingGroup getRatingGroupById(String id) {
-		Optional<IRatingGroup> ratingGroupOptional = this.getRatingGroups().stream().filter(ratingGroup -> ratingGroup.getIdentifier().equals(id)).findFirst();
+		Optional<IRatingGroup> ratingGroupOptional;
+		try {
+			ratingGroupOptional = this.getExerciseConfig().getRatingGroup(id);
+		} catch (IllegalStateException | IOException e) {
+			this.error("Exercise Config not parseable: " + e.getMessage(), e);
+			return null;
+		}
 		if (ratingGroupOptional.isPresent()) {
 			return ratingGroupOptional.get();
 		}
@@ -161,7 +259,7 @@ public class AssessmentController extends AbstractController implements IAssessm
 	@Override
 	public List<IRatingGroup> getRatingGroups() {
 		try {
-			return this.gradingConfig.getExerciseConfig(this.exercise).getIRatingGroups();
+			return this.getExerciseConfig().getRatingGroups();
 		} catch (IllegalStateException | IOException e) {
 			this.error("Exercise Config not parseable: " + e.getMessage(), e);
 			return List.of();
@@ -189,22 +287,24 @@ public class AssessmentController extends AbstractController implements IAssessm
 
 	@Override
 	public void modifyAnnotation(String annatationId, String customMessage, Double customPenalty) {
-		this.annotations.modifyAnnotation(annatationId, customMessage, customPenalty);
+		this.annotations.modify(annatationId, customMessage, customPenalty);
 	}
 
 	@Override
 	public void removeAnnotation(String annotationId) {
-		this.annotations.removeAnnotation(annotationId);
+		this.annotations.remove(annotationId);
 	}
 
 	@Override
 	public void resetAndRestartAssessment(IProjectFileNamingStrategy projectNaming) {
-		this.deleteEclipseProject(projectNaming);
+		// the project is kept, the download resets its clones to the submission and
+		// removes the files that have been changed or added locally
 		this.systemWideController.getArtemisController().startAssessment(this.submission);
 		this.systemWideController.downloadExerciseAndSubmission(this.course, this.exercise, this.submission, projectNaming);
 
-		this.annotations = new AnnotationManagement();
-		this.gradingConfig = this.loadGradingDAO();
+		this.annotations.clear();
+		this.gradingConfigFile = this.loadGradingConfigFile();
+		this.exerciseConfig = null;
 
 		try {
 			this.initializeWithDeserializedAnnotations();
@@ -215,8 +315,11 @@ public class AssessmentController extends AbstractController implements IAssessm
 
 	@Override
 	public double getCurrentPenaltyForRatingGroup(IRatingGroup ratingGroup) {
-		AnnotationMapper mapper = //
-				new AnnotationMapper(this.exercise, this.submission, this.getAnnotations(), this.getRatingGroups(), null, null);
-		return mapper.calculatePointsForRatingGroup(ratingGroup).points();
+		return this.annotations.getPenalty(ratingGroup);
+	}
+
+	@Override
+	public double getCurrentPenaltyForMistakeType(IMistakeType mistakeType) {
+		return this.annotations.getPenalty(mistakeType);
 	}
 }
@@ -0,0 +1,188 @@
+/* Licensed under EPL-2.0 2024. */
+package edu.kit.kastel.eclipse.common.core;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+
+import edu.kit.kastel.eclipse.common.api.controller.IAssessmentController;
+import edu.kit.kastel.eclipse.common.api.controller.IGradingArtemisController;
+import edu.kit.kastel.eclipse.common.api.controller.IViewInteraction;
+import edu.kit.kastel.sdq.artemis4j.api.ArtemisClientException;
+import edu.kit.kastel.sdq.artemis4j.api.artemis.Course;
+import edu.kit.kastel.sdq.artemis4j.api.artemis.Exercise;
+import edu.kit.kastel.sdq.artemis4j.api.artemis.ExerciseStats;
+import edu.kit.kastel.sdq.artemis4j.api.artemis.User;
+import edu.kit.kastel.sdq.artemis4j.api.artemis.assessment.Feedback;
+import edu.kit.kastel.sdq.artemis4j.api.artemis.assessment.Submission;
+
+/**
+ * Caches the results of Artemis requests that are repeated by several code
+ * paths (begun submissions, statistics). Each kind of request has its own TTL,
+ * concurrent requests share one call to Artemis. Locking, saving and submitting
+ * invalidate the cached results of the exercise. All other methods are
+ * delegated.
+ */
+public class CachingGradingArtemisController implements IGradingArtemisController {
+	private static final Duration BEGUN_SUBMISSIONS_TTL = Duration.ofSeconds(30);
+	private static final Duration STATS_TTL = Duration.ofSeconds(15);
+
+	private final IGradingArtemisController delegate;
+	private final ReadThroughCache<Integer, List<Submission>> begunSubmissions = new ReadThroughCache<>("begunSubmissions", BEGUN_SUBMISSIONS_TTL);
+	private final ReadThroughCache<Integer, ExerciseStats> stats = new ReadThroughCache<>("stats", STATS_TTL);
+
+	/**
+	 * Hit and miss counters of one of the caches.
+	 */
+	public record CacheCounters(String name, long hits, long misses) {
+	}
+
+	public CachingGradingArtemisController(IGradingArtemisController delegate) {
+		this.delegate = delegate;
+	}
+
+	public List<CacheCounters> getCacheCounters() {
+		return List.of(counters(this.begunSubmissions), counters(this.stats));
+	}
+
+	private static CacheCounters counters(ReadThroughCache<?, ?> cache) {
+		return new CacheCounters(cache.getName(), cache.getHits(), cache.getMisses());
+	}
+
+	private void invalidate(Exercise exercise) {
+		this.invalidateBegunSubmissions(exercise);
+		this.invalidateStats(exercise);
+	}
+
+	public void invalidateBegunSubmissions(Exercise exercise) {
+		this.begunSubmissions.invalidate(exercise.getExerciseId());
+	}
+
+	public void invalidateStats(Exercise exercise) {
+		this.stats.invalidate(exercise.getExerciseId());
+	}
+
+	@Override
+	public List<Submission> getBegunSubmissions(Exercise exercise) throws ArtemisClientException {
+		// failures are not cached
+		return this.begunSubmissions.get(exercise.getExerciseId(), () -> this.delegate.getBegunSubmissions(exercise));
+	}
+
+	@Override
+	public Submission getSubmission(Exercise exercise, int submissionId) throws ArtemisClientException {
+		return this.delegate.getSubmission(exercise, submissionId);
+	}
+
+	@Override
+	public ExerciseStats getStats(Exercise exercise) throws ArtemisClientException {
+		return this.stats.get(exercise.getExerciseId(), () -> this.delegate.getStats(exercise));
+	}
+
+	@Override
+	public boolean saveAssessment(IAssessmentController assessmentController, Exercise exercise, Submission submission, boolean submit) {
+		boolean saved = this.delegate.saveAssessment(assessmentController, exercise, submission, submit);
+		this.invalidate(exercise);
+		return saved;
+	}
+
+	@Override
+	public void startAssessment(Submission submission) {
+		this.delegate.startAssessment(submission);
+		// the exercise of the submission is not known
+		this.begunSubmissions.invalidateAll();
+		this.stats.invalidateAll();
+	}
+
+	@Override
+	public Optional<Submission> startNextAssessment(Exercise exercise, int correctionRound) {
+		Optional<Submission> submission = this.delegate.startNextAssessment(exercise, correctionRound);
+		this.invalidate(exercise);
+		return submission;
+	}
+
+	@Override
+	public List<Feedback> getAllFeedbacksGottenFromLocking(Submission submission) {
+		return this.delegate.getAllFeedbacksGottenFromLocking(submission);
+	}
+
+	@Override
+	public Optional<Integer> getParticipationId(Submission submission) {
+		return this.delegate.getParticipationId(submission);
+	}
+
+	@Override
+	public String getAuthenticationToken() {
+		return this.delegate.getAuthenticationToken();
+	}
+
+	@Override
+	public Optional<String> getTemplateRepositoryUrl(Exercise exercise) throws ArtemisClientException {
+		return this.delegate.getTemplateRepositoryUrl(exercise);
+	}
+
+	@Override
+	public List<Course> getCourses() {
+		return this.delegate.getCourses();
+	}
+
+	@Override
+	public Optional<Course> getCourse(String courseShortName) {
+		return this.delegate.getCourse(courseShortName);
+	}
+
+	@Override
+	public Optional<Exercise> getExercise(Course course, String exerciseShortName) throws ArtemisClientException {
+		return this.delegate.getExercise(course, exerciseShortName);
+	}
+
+	@Override
+	public List<String> getCourseShortNames() {
+		return this.delegate.getCourseShortNames();
+	}
+
+	@Override
+	public void addCoursesChangedListener(Runnable listener) {
+		this.delegate.addCoursesChangedListener(listener);
+	}
+
+	@Override
+	public List<String> getExamTitles(String courseShortName) {
+		return this.delegate.getExamTitles(courseShortName);
+	}
+
+	@Override
+	public List<Exercise> getExercisesFromExam(String courseShortName, String examTitle) {
+		return this.delegate.getExercisesFromExam(courseShortName, examTitle);
+	}
+
+	@Override
+	public List<String> getExerciseShortNamesFromExam(String courseShortName, String examTitle) {
+		return this.delegate.getExerciseShortNamesFromExam(courseShortName, examTitle);
+	}
+
+	@Override
+	public User getUserLogin() {
+		return this.delegate.getUserLogin();
+	}
+
+	@Override
+	public void refreshCourses() {
+		this.delegate.refreshCourses();
+	}
+
+	@Override
+	public CompletableFuture<Void> whenReady() {
+		return this.delegate.whenReady();
+	}
+
+	@Override
+	public CompletableFuture<Void> whenCoursesLoaded() {
+		return this.delegate.whenCoursesLoaded();
+	}
+
+	@Override
+	public IViewInteraction getViewInteractionHandler() {
+		return this.delegate.getViewInteractionHandler();
+	}
+}
@@ -0,0 +1,133 @@
+/* Licensed under EPL-2.0 2024. */
+package edu.kit.kastel.eclipse.common.core;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+import edu.kit.kastel.sdq.artemis4j.api.grading.IMistakeType;
+import edu.kit.kastel.sdq.artemis4j.api.grading.IRatingGroup;
+import edu.kit.kastel.sdq.artemis4j.grading.config.ExerciseConfig;
+
+/**
+ * An immutable view of the exercise config of one exercise that is prepared for
+ * fast lookups: rating groups and mistake types are indexed by identifier, and
+ * whether a mistake type (or its penalty) is enabled for the exercise is
+ * evaluated once.
+ */
+public final class CompiledExerciseConfig {
+	private final ExerciseConfig config;
+	private final List<IRatingGroup> ratingGroups;
+	private final List<IMistakeType> mistakeTypes;
+	private final Map<String, IRatingGroup> ratingGroupsById;
+	private final Map<String, IMistakeType> mistakeTypesById;
+	private final Map<String, List<IMistakeType>> mistakeTypesByRatingGroup;
+	private final Set<String> enabledMistakeTypes;
+	private final Set<String> enabledPenalties;
+
+	private CompiledExerciseConfig(ExerciseConfig config, List<IRatingGroup> ratingGroups, List<IMistakeType> mistakeTypes) {
+		this.config = config;
+		this.ratingGroups = List.copyOf(ratingGroups);
+		this.mistakeTypes = List.copyOf(mistakeTypes);
+
+		Map<String, IRatingGroup> groups = new HashMap<>();
+		Map<String, List<IMistakeType>> byRatingGroup = new HashMap<>();
+		for (IRatingGroup ratingGroup : this.ratingGroups) {
+			groups.putIfAbsent(ratingGroup.getIdentifier(), ratingGroup);
+			byRatingGroup.putIfAbsent(ratingGroup.getIdentifier(), new ArrayList<>());
+		}
+
+		Map<String, IMistakeType> mistakes = new HashMap<>();
+		Set<String> enabled = new HashSet<>();
+		Set<String> penalties = new HashSet<>();
+		for (IMistakeType mistakeType : this.mistakeTypes) {
+			// like the linear search, the first mistake type with an identifier wins
+			mistakes.putIfAbsent(mistakeType.getIdentifier(), mistakeType);
+			byRatingGroup.computeIfAbsent(mistakeType.getRatingGroup().getIdentifier(), id -> new ArrayList<>()).add(mistakeType);
+			// evaluates the exercise patterns of the config
+			if (mistakeType.isEnabledMistakeType()) {
+				enabled.add(mistakeType.getIdentifier());
+			}
+			if (mistakeType.isEnabledPenalty()) {
+				penalties.add(mistakeType.getIdentifier());
+			}
+		}
+
+		this.ratingGroupsById = Map.copyOf(groups);
+		this.mistakeTypesById = Map.copyOf(mistakes);
+		Map<String, List<IMistakeType>> grouped = new HashMap<>();
+		byRatingGroup.forEach((id, types) -> grouped.put(id, List.copyOf(types)));
+		this.mistakeTypesByRatingGroup = Map.copyOf(grouped);
+		this.enabledMistakeTypes = Set.copyOf(enabled);
+		this.enabledPenalties = Set.copyOf(penalties);
+	}
+
+	/**
+	 * @param config the config of one exercise
+	 */
+	public static CompiledExerciseConfig compile(ExerciseConfig config) throws IOException {
+		return new CompiledExerciseConfig(config, config.getIRatingGroups(), config.getIMistakeTypes());
+	}
+
+	public ExerciseConfig getConfig() {
+		return this.config;
+	}
+
+	public List<IRatingGroup> getRatingGroups() {
+		return this.ratingGroups;
+	}
+
+	public List<IMistakeType> getMistakeTypes() {
+		return this.mistakeTypes;
+	}
+
+	public Optional<IRatingGroup> getRatingGroup(String id) {
+		return Optional.ofNullable(this.ratingGroupsById.get(id));
+	}
+
+	public Optional<IMistakeType> getMistakeType(String id) {
+		return Optional.ofNullable(this.mistakeTypesById.get(id));
+	}
+
+	/**
+	 * @return the mistake types of the rating group in the order of the config
+	 */
+	public List<IMistakeType> getMistakeTypes(IRatingGroup ratingGroup) {
+		return this.mistakeTypesByRatingGroup.getOrDefault(ratingGroup.getIdentifier(), List.of());
+	}
+
+	/**
+	 * @return whether the mistake type is enabled for the exercise (see
+	 *         {@link IMistakeType#isEnabledMistakeType()})
+	 */
+	public boolean isEnabled(IMistakeType mistakeType) {
+		if (!this.isCompiled(mistakeType)) {
+			return mistakeType.isEnabledMistakeType();
+		}
+		return this.enabledMistakeTypes.contains(mistakeType.getIdentifier());
+	}
+
+	/**
+	 * @return whether the penalty of the mistake type is enabled for the exercise
+	 *         (see {@link IMistakeType#isEnabledPenalty()})
+	 */
+	public boolean isPenaltyEnabled(IMistakeType mistakeType) {
+		if (!this.isCompiled(mistakeType)) {
+			return mistakeType.isEnabledPenalty();
+		}
+		return this.enabledPenalties.contains(mistakeType.getIdentifier());
+	}
+
+	/**
+	 * Annotations may still refer to mistake types of an older version of the
+	 * config.
+	 */
+	private boolean isCompiled(IMistakeType mistakeType) {
+		return this.mistakeTypesById.get(mistakeType.getIdentifier()) == mistakeType;
+	}
+}
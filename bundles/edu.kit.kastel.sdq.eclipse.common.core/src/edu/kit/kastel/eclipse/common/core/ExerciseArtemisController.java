@@ -2,62 +2,484 @@
 package edu.kit.kastel.eclipse.common.core;
 
 import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.stream.Stream;
 
+import org.eclipse.core.runtime.ILog;
+import org.eclipse.core.runtime.IProgressMonitor;
+import org.eclipse.core.runtime.IStatus;
+import org.eclipse.core.runtime.Platform;
+import org.eclipse.core.runtime.Status;
+import org.eclipse.core.runtime.jobs.Job;
 import org.eclipse.jface.preference.IPreferenceStore;
+import org.eclipse.jgit.lib.Constants;
+import org.eclipse.jgit.util.FileUtils;
 
 import edu.kit.kastel.eclipse.common.api.PreferenceConstants;
 import edu.kit.kastel.eclipse.common.api.artemis.IProjectFileNamingStrategy;
 import edu.kit.kastel.eclipse.common.api.controller.AbstractController;
+import edu.kit.kastel.eclipse.common.api.controller.IArtemisController;
 import edu.kit.kastel.eclipse.common.api.controller.IExerciseArtemisController;
 import edu.kit.kastel.eclipse.common.api.controller.IViewInteraction;
+import edu.kit.kastel.eclipse.common.client.archive.ArchiveDownloader;
+import edu.kit.kastel.eclipse.common.client.git.CloneProfile;
 import edu.kit.kastel.eclipse.common.client.git.GitCredentials;
 import edu.kit.kastel.eclipse.common.client.git.GitException;
 import edu.kit.kastel.eclipse.common.client.git.GitHandler;
+import edu.kit.kastel.eclipse.common.client.git.GitProgressMonitor;
+import edu.kit.kastel.eclipse.common.core.artemis.RepositoryMirrorCache;
+import edu.kit.kastel.eclipse.common.core.artemis.WorkspaceUtil;
+import edu.kit.kastel.eclipse.common.core.metrics.ImportMetrics;
+import edu.kit.kastel.eclipse.common.core.metrics.ImportMetrics.Phase;
 import edu.kit.kastel.sdq.artemis4j.api.ArtemisClientException;
 import edu.kit.kastel.sdq.artemis4j.api.artemis.Exercise;
 import edu.kit.kastel.sdq.artemis4j.api.artemis.User;
 import edu.kit.kastel.sdq.artemis4j.api.artemis.assessment.Submission;
 
 public class ExerciseArtemisController extends AbstractController implements IExerciseArtemisController {
-	private final String username;
-	private final String gitPassword;
+	private static final ILog LOG = Platform.getLog(ExerciseArtemisController.class);
+	private static final int CLONE_WORK = 1000;
+	private static final List<String> OFFLINE_EXPORT_EXTENSIONS = List.of(".bundle", ".zip");
+	// stored in the config of the test repository of the project
+	private static final String OFFLINE_EXPORT_SECTION = "artemis";
+	private static final String OFFLINE_EXPORT_KEY = "offlineExport";
+	// test repository and submission are cloned at the same time
+	private static final ExecutorService CLONE_EXECUTOR = Executors.newFixedThreadPool(2, runnable -> {
+		Thread thread = new Thread(runnable, "Artemis Git Clone");
+		thread.setDaemon(true);
+		return thread;
+	});
 
-	public ExerciseArtemisController(IViewInteraction viewInteractionHandler, User user, IPreferenceStore preferenceStore) {
+	private final IPreferenceStore preferenceStore;
+	private final IArtemisController artemisController;
+	private final RepositoryMirrorCache mirrorCache = new RepositoryMirrorCache();
+	// by exercise id, taken from the template participation
+	private final Map<Integer, Optional<String>> templateRepositoryUrls = new ConcurrentHashMap<>();
+	private volatile int mirroredExerciseId = -1;
+	private GitCredentials credentials;
+
+	public ExerciseArtemisController(IViewInteraction viewInteractionHandler, IArtemisController artemisController, IPreferenceStore preferenceStore) {
 		super(viewInteractionHandler);
-		this.username = user == null ? null : user.getLogin();
-		String password = preferenceStore.getString(PreferenceConstants.GENERAL_ADVANCED_ARTEMIS_PASSWORD);
-		String gitToken = preferenceStore.getString(PreferenceConstants.GENERAL_ADVANCED_GIT_TOKEN);
-
-		if (gitToken != null && !gitToken.isBlank()) {
-			this.gitPassword = gitToken;
-		} else if (password != null && !password.isBlank()) {
-			this.gitPassword = password;
-		} else if (user != null && user.getVcsAccessToken() != null) {
-			this.gitPassword = user.getVcsAccessToken();
-		} else {
-			this.gitPassword = "";
+		this.artemisController = artemisController;
+		this.preferenceStore = preferenceStore;
+	}
+
+	@Override
+	public synchronized void resetCredentials() {
+		this.credentials = null;
+	}
+
+	/**
+	 * The credentials depend on the user, so they are resolved on first use after
+	 * the login has finished.
+	 */
+	private synchronized GitCredentials getCredentials() {
+		if (this.credentials == null) {
+			User user = this.artemisController.getUserLogin();
+			String username = user == null ? null : user.getLogin();
+			String password = this.preferenceStore.getString(PreferenceConstants.GENERAL_ADVANCED_ARTEMIS_PASSWORD);
+			String gitToken = this.preferenceStore.getString(PreferenceConstants.GENERAL_ADVANCED_GIT_TOKEN);
+
+			String gitPassword;
+			if (gitToken != null && !gitToken.isBlank()) {
+				gitPassword = gitToken;
+			} else if (password != null && !password.isBlank()) {
+				gitPassword = password;
+			} else if (user != null && user.getVcsAccessToken() != null) {
+				gitPassword = user.getVcsAccessToken();
+			} else {
+				gitPassword = "";
+			}
+			this.credentials = new GitCredentials(username, gitPassword);
 		}
+		return this.credentials;
 	}
 
 	@Override
 	public void downloadExerciseAndSubmission(Exercise exercise, Submission submission, File dir, IProjectFileNamingStrategy namingStrategy)
 			throws ArtemisClientException {
 		final File projectDirectory = namingStrategy.getProjectFileInWorkspace(dir, exercise, submission);
-		this.existsAndThrow(projectDirectory);
+		final File assignmentDirectory = namingStrategy.getAssignmentFileInProjectDirectory(projectDirectory);
+		final boolean update = GitHandler.isRepository(projectDirectory);
+		if (!update) {
+			this.existsAndThrow(projectDirectory);
+		}
+
+		Job job = Job.create((update ? "Updating " : "Downloading ") + projectDirectory.getName(), monitor -> {
+			if (update) {
+				return this.update(exercise, submission, projectDirectory, assignmentDirectory, monitor);
+			}
+			return this.download(exercise, submission, projectDirectory, assignmentDirectory, monitor);
+		});
+		// only show a progress dialog if not already running in the background
+		job.setUser(Job.getJobManager().currentJob() == null);
+		job.schedule();
 		try {
-			if (projectDirectory.exists()) {
-				throw new ArtemisClientException("Could not clone project " + projectDirectory.getName() + ", " + "directory already exists!");
+			job.join();
+		} catch (InterruptedException e) {
+			job.cancel();
+			Thread.currentThread().interrupt();
+			throw new ArtemisClientException("Download of " + projectDirectory.getName() + " was interrupted", e);
+		}
+
+		IStatus result = job.getResult();
+		if (result.getSeverity() == IStatus.CANCEL) {
+			throw new ArtemisClientException("Download of " + projectDirectory.getName() + " was cancelled");
+		}
+		if (!result.isOK()) {
+			throw new ArtemisClientException("Unable to download exercise and submission: " + result.getMessage(), result.getException());
+		}
+	}
+
+	/**
+	 * Clones the test repository and downloads the submission at the same time.
+	 * JGit only clones into empty directories, so the submission is downloaded
+	 * next to the project and moved into it afterwards. If one of the clones
+	 * fails or the download is cancelled, the project directory is removed.
+	 */
+	private IStatus download(Exercise exercise, Submission submission, File projectDirectory, File assignmentDirectory, IProgressMonitor monitor) {
+		monitor.beginTask("Downloading " + projectDirectory.getName(), 2 * CLONE_WORK);
+		var credentials = this.getCredentials();
+		File temporaryAssignmentDirectory = new File(projectDirectory.getParentFile(), "." + projectDirectory.getName() + "-" + assignmentDirectory.getName());
+		deleteQuietly(temporaryAssignmentDirectory);
+
+		// Download test repository (shared by all submissions, so use the local mirror)
+		Future<Void> tests = CLONE_EXECUTOR.submit(() -> {
+			long start = System.nanoTime();
+			GitProgressMonitor testsMonitor = new GitProgressMonitor(monitor, CLONE_WORK, "Tests");
+			this.mirrorCache.cloneRepo(projectDirectory, exercise.getTestRepositoryUrl(), credentials, testsMonitor);
+			recordClone(projectDirectory.getName() + " tests", projectDirectory, this.mirrorCache.getMirrorDirectory(exercise.getTestRepositoryUrl()),
+					testsMonitor, start);
+			return null;
+		});
+		// download submission inside the exercise project directory
+		Future<Optional<File>> assignment = CLONE_EXECUTOR.submit(() -> this.downloadSubmission(exercise, submission, temporaryAssignmentDirectory,
+				credentials, monitor));
+
+		Throwable failure = null;
+		try {
+			tests.get();
+			Optional<File> export = assignment.get();
+			Files.move(temporaryAssignmentDirectory.toPath(), assignmentDirectory.toPath());
+			if (export.isPresent()) {
+				GitHandler.setConfigValue(projectDirectory, OFFLINE_EXPORT_SECTION, OFFLINE_EXPORT_KEY, export.get().getAbsolutePath());
+			}
+		} catch (GitException | IOException e) {
+			failure = e;
+			monitor.setCanceled(true);
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			monitor.setCanceled(true);
+		} catch (ExecutionException e) {
+			if (!monitor.isCanceled()) {
+				failure = e.getCause();
+				// abort the other clone
+				monitor.setCanceled(true);
 			}
+		}
 
-			var credentials = new GitCredentials(this.username, this.gitPassword);
-			// Download test repository
-			GitHandler.cloneRepo(projectDirectory, exercise.getTestRepositoryUrl(), credentials);
-			// download submission inside the exercise project directory
-			GitHandler.cloneRepo(namingStrategy.getAssignmentFileInProjectDirectory(projectDirectory), submission.getRepositoryUrl(), credentials);
-		} catch (GitException e) {
-			throw new ArtemisClientException("Unable to download exercise and submission: " + e.getMessage(), e);
+		if (monitor.isCanceled()) {
+			waitQuietly(tests);
+			waitQuietly(assignment);
+			deleteQuietly(projectDirectory);
+			deleteQuietly(temporaryAssignmentDirectory);
+		}
+		monitor.done();
+
+		if (failure != null) {
+			return new Status(IStatus.ERROR, ExerciseArtemisController.class, failure.getMessage(), failure);
+		}
+		return monitor.isCanceled() ? Status.CANCEL_STATUS : Status.OK_STATUS;
+	}
+
+	/**
+	 * Downloads the submission either as archive (without history) or as git
+	 * clone, depending on the preferences. If an offline export of the submission
+	 * exists, it is imported instead.
+	 *
+	 * @return the offline export that has been imported
+	 */
+	private Optional<File> downloadSubmission(Exercise exercise, Submission submission, File destination, GitCredentials credentials,
+			IProgressMonitor monitor) throws GitException, IOException {
+		Optional<File> export = this.findOfflineExport(exercise, submission);
+		if (export.isPresent()) {
+			this.importOfflineExport(export.get(), submission, destination, monitor);
+		} else if (this.preferenceStore.getBoolean(PreferenceConstants.GRADING_DOWNLOAD_AS_ARCHIVE)) {
+			ArchiveDownloader.downloadAndExtract(this.getArchiveUrl(exercise, submission), this.artemisController.getAuthenticationToken(), destination,
+					monitor);
+		} else {
+			this.cloneSubmission(exercise, submission, destination, credentials, new GitProgressMonitor(monitor, CLONE_WORK, "Submission"));
+		}
+		return export;
+	}
+
+	/**
+	 * Clones the submission. For full and single branch clones, the objects of the
+	 * exercise template can be taken from its local mirror (via git alternates),
+	 * so only the objects created by the student are fetched and stored.
+	 */
+	private void cloneSubmission(Exercise exercise, Submission submission, File destination, GitCredentials credentials, GitProgressMonitor monitor)
+			throws GitException {
+		long start = System.nanoTime();
+		CloneProfile profile = this.getCloneProfile(exercise);
+		String templateURL = this.preferenceStore.getBoolean(PreferenceConstants.GRADING_TEMPLATE_ALTERNATES)
+				&& (profile == CloneProfile.FULL || profile == CloneProfile.SINGLE_BRANCH) ? this.getTemplateRepositoryUrl(exercise) : null;
+		if (templateURL != null) {
+			try {
+				File objectStore = this.mirrorCache.getMirror(templateURL, credentials, monitor);
+				GitHandler.cloneWithAlternates(destination, submission.getRepositoryUrl(), credentials, objectStore, profile == CloneProfile.SINGLE_BRANCH,
+						monitor);
+				recordClone("submission " + submission.getSubmissionId(), destination, null, monitor, start);
+				return;
+			} catch (GitException e) {
+				if (monitor.isCancelled()) {
+					throw e;
+				}
+				LOG.warn("Cloning " + submission.getRepositoryUrl() + " with template objects failed, cloning without: " + e.getMessage(), e);
+			}
+		}
+		GitHandler.cloneRepo(destination, submission.getRepositoryUrl(), credentials, profile, monitor);
+		recordClone("submission " + submission.getSubmissionId(), destination, null, monitor, start);
+	}
+
+	/**
+	 * Records the duration of a clone and its transfer and checkout phases. The
+	 * received bytes are approximated by the size of the packs of the clone. Packs
+	 * that have been linked from the local mirror are not received, so they are
+	 * not counted.
+	 *
+	 * @param mirror the mirror the clone has been created from (may be null)
+	 */
+	private static void recordClone(String subject, File repository, File mirror, GitProgressMonitor monitor, long startNanos) {
+		Set<String> mirrorPacks = mirror == null ? Set.of() : packsOf(mirror.toPath().resolve(Constants.OBJECTS)).keySet();
+		long bytes = packsOf(repository.toPath().resolve(Constants.DOT_GIT).resolve(Constants.OBJECTS)).entrySet().stream()
+				.filter(pack -> !mirrorPacks.contains(pack.getKey())).mapToLong(Map.Entry::getValue).sum();
+
+		ImportMetrics metrics = ImportMetrics.getDefault();
+		int objects = monitor.getReceivedObjects();
+		metrics.record(Phase.CLONE, subject, Duration.ofNanos(System.nanoTime() - startNanos), bytes, objects);
+		metrics.record(Phase.GIT_TRANSFER, subject, monitor.getTransferDuration(), bytes, objects);
+		metrics.record(Phase.GIT_CHECKOUT, subject, monitor.getCheckoutDuration());
+	}
+
+	/**
+	 * @return the size of the packs in the object directory by their names (the
+	 *         names of packs are derived from their contents)
+	 */
+	private static Map<String, Long> packsOf(Path objects) {
+		Map<String, Long> packs = new HashMap<>();
+		Path directory = objects.resolve("pack");
+		try (Stream<Path> files = Files.isDirectory(directory) ? Files.list(directory) : Stream.empty()) {
+			for (Path pack : files.filter(f -> f.getFileName().toString().endsWith(".pack")).toList()) {
+				packs.put(pack.getFileName().toString(), Files.size(pack));
+			}
+		} catch (IOException e) {
+			LOG.warn("Could not determine the size of " + directory + ": " + e.getMessage());
+		}
+		return packs;
+	}
+
+	/**
+	 * @return the URL of the template repository of the exercise or null, if it
+	 *         could not be determined
+	 */
+	private String getTemplateRepositoryUrl(Exercise exercise) {
+		Optional<String> templateURL = this.templateRepositoryUrls.get(exercise.getExerciseId());
+		if (templateURL == null) {
+			try {
+				templateURL = this.artemisController.getTemplateRepositoryUrl(exercise);
+				this.templateRepositoryUrls.put(exercise.getExerciseId(), templateURL);
+			} catch (ArtemisClientException e) {
+				// not cached, so the next clone tries again
+				LOG.warn("Could not determine the template repository of " + exercise.getShortName() + ": " + e.getMessage(), e);
+				return null;
+			}
+		}
+		return templateURL.orElse(null);
+	}
+
+	/**
+	 * Searches the offline import directory for a git bundle or ZIP archive of the
+	 * submission. The export has to be named after the participant identifier and
+	 * be located in a directory named after the exercise (e.g.
+	 * {@code final01/uxxxx.bundle}), or its name has to be prefixed with the
+	 * exercise (e.g. {@code final01-uxxxx.zip}). The exercise is identified by its
+	 * short name or its id.
+	 */
+	private Optional<File> findOfflineExport(Exercise exercise, Submission submission) {
+		String directory = this.preferenceStore.getString(PreferenceConstants.GRADING_OFFLINE_IMPORT_DIRECTORY);
+		String participant = submission.getParticipantIdentifier();
+		if (directory.isBlank() || participant == null) {
+			return Optional.empty();
+		}
+
+		File root = new File(directory);
+		for (String exerciseName : List.of(exercise.getShortName(), String.valueOf(exercise.getExerciseId()))) {
+			for (String extension : OFFLINE_EXPORT_EXTENSIONS) {
+				File inDirectory = new File(new File(root, exerciseName), participant + extension);
+				File prefixed = new File(root, exerciseName + "-" + participant + extension);
+				for (File file : List.of(inDirectory, prefixed)) {
+					if (file.isFile()) {
+						return Optional.of(file);
+					}
+				}
+			}
+		}
+		return Optional.empty();
+	}
+
+	private void importOfflineExport(File export, Submission submission, File destination, IProgressMonitor monitor) throws GitException, IOException {
+		LOG.info("Importing submission " + submission.getSubmissionId() + " from " + export);
+		if (export.getName().toLowerCase(Locale.ROOT).endsWith(".zip")) {
+			try (InputStream archive = Files.newInputStream(export.toPath())) {
+				ArchiveDownloader.extract(archive, destination.toPath(), monitor);
+			}
+		} else {
+			GitHandler.cloneBundle(destination, export, submission.getRepositoryUrl(), new GitProgressMonitor(monitor, CLONE_WORK, "Submission"));
+		}
+	}
+
+	private String getArchiveUrl(Exercise exercise, Submission submission) throws IOException {
+		int participationId = this.artemisController.getParticipationId(submission)
+				.orElseThrow(() -> new IOException("Submission " + submission.getSubmissionId() + " has not been locked"));
+		return this.preferenceStore.getString(PreferenceConstants.GRADING_ARCHIVE_URL).replace("{artemisUrl}", this.getArtemisUrl())
+				.replace("{exerciseId}", String.valueOf(exercise.getExerciseId())).replace("{participationId}", String.valueOf(participationId))
+				.replace("{submissionId}", String.valueOf(submission.getSubmissionId()));
+	}
+
+	private String getArtemisUrl() {
+		return this.preferenceStore.getString(PreferenceConstants.GENERAL_ARTEMIS_URL).trim().replaceAll("/+$", "");
+	}
+
+	/**
+	 * Updates the clones of a previously downloaded submission in place, so the
+	 * eclipse project (incl. its maven configuration and JDT index) can be kept.
+	 * Local changes to the submission, including added files, are discarded. The
+	 * test repository is updated from its local mirror.
+	 */
+	private IStatus update(Exercise exercise, Submission submission, File projectDirectory, File assignmentDirectory, IProgressMonitor monitor) {
+		monitor.beginTask("Updating " + projectDirectory.getName(), 2 * CLONE_WORK);
+		var credentials = this.getCredentials();
+		try {
+			GitProgressMonitor testsMonitor = new GitProgressMonitor(monitor, CLONE_WORK, "Tests");
+			File testsMirror = null;
+			try {
+				testsMirror = this.mirrorCache.getMirror(exercise.getTestRepositoryUrl(), credentials, testsMonitor);
+			} catch (GitException e) {
+				if (monitor.isCanceled()) {
+					throw e;
+				}
+				LOG.warn("Updating the mirror of " + exercise.getTestRepositoryUrl() + " failed, fetching from remote: " + e.getMessage(), e);
+			}
+			// the eclipse project files are not tracked, so untracked files are kept
+			boolean testsReset = GitHandler.updateRepo(projectDirectory, exercise.getTestRepositoryUrl(), testsMirror, credentials, false, testsMonitor);
+			Optional<String> importedExport = GitHandler.getConfigValue(projectDirectory, OFFLINE_EXPORT_SECTION, OFFLINE_EXPORT_KEY);
+			if (importedExport.isPresent()) {
+				// reset to the offline export the submission has been imported from
+				File export = new File(importedExport.get());
+				if (!export.isFile()) {
+					throw new IOException("The offline export " + export + " of " + projectDirectory.getName() + " does not exist anymore");
+				}
+				WorkspaceUtil.deleteDirectoryRecursively(assignmentDirectory.toPath());
+				this.importOfflineExport(export, submission, assignmentDirectory, monitor);
+			} else if (!assignmentDirectory.isDirectory()) {
+				// e.g. deleted by the user
+				Optional<File> export = this.downloadSubmission(exercise, submission, assignmentDirectory, credentials, monitor);
+				if (export.isPresent()) {
+					GitHandler.setConfigValue(projectDirectory, OFFLINE_EXPORT_SECTION, OFFLINE_EXPORT_KEY, export.get().getAbsolutePath());
+				}
+			} else if (GitHandler.isRepository(assignmentDirectory)) {
+				boolean assignmentReset = GitHandler.updateRepo(assignmentDirectory, submission.getRepositoryUrl(), null, credentials, true,
+						new GitProgressMonitor(monitor, CLONE_WORK, "Submission"));
+				LOG.info("Updated " + projectDirectory.getName() + " in place (tests reset: " + testsReset + ", submission reset: " + assignmentReset + ")");
+			} else {
+				// downloaded as archive, there is no history to update
+				WorkspaceUtil.deleteDirectoryRecursively(assignmentDirectory.toPath());
+				ArchiveDownloader.downloadAndExtract(this.getArchiveUrl(exercise, submission), this.artemisController.getAuthenticationToken(),
+						assignmentDirectory, monitor);
+			}
+		} catch (GitException | IOException e) {
+			return monitor.isCanceled() ? Status.CANCEL_STATUS : new Status(IStatus.ERROR, ExerciseArtemisController.class, e.getMessage(), e);
+		} finally {
+			monitor.done();
+		}
+		return Status.OK_STATUS;
+	}
+
+	/**
+	 * @return the clone profile configured for the exercise or the default
+	 *         profile.
+	 */
+	private CloneProfile getCloneProfile(Exercise exercise) {
+		String perExercise = this.preferenceStore.getString(PreferenceConstants.GRADING_CLONE_PROFILE_PER_EXERCISE);
+		for (String entry : perExercise.split(";")) {
+			String[] exerciseAndProfile = entry.split("=", 2);
+			if (exerciseAndProfile.length == 2 && exerciseAndProfile[0].trim().equals(exercise.getShortName())) {
+				return CloneProfile.fromName(exerciseAndProfile[1]);
+			}
+		}
+		return CloneProfile.fromName(this.preferenceStore.getString(PreferenceConstants.GRADING_CLONE_PROFILE));
+	}
+
+	private static void waitQuietly(Future<?> future) {
+		try {
+			future.get();
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		} catch (ExecutionException e) {
+			// NOP, the clone was aborted
+		}
+	}
+
+	private static void deleteQuietly(File directory) {
+		try {
+			FileUtils.delete(directory, FileUtils.RECURSIVE | FileUtils.SKIP_MISSING);
+		} catch (IOException e) {
+			LOG.warn("Could not delete " + directory + ": " + e.getMessage());
+		}
+	}
+
+	@Override
+	public void warmRepositoryMirrors(Exercise exercise) throws ArtemisClientException {
+		String templateURL = this.preferenceStore.getBoolean(PreferenceConstants.GRADING_TEMPLATE_ALTERNATES) ? this.getTemplateRepositoryUrl(exercise)
+				: null;
+		if (this.mirroredExerciseId != exercise.getExerciseId()) {
+			// the exercise has changed, so do not rely on recent updates of its mirrors
+			this.mirrorCache.invalidate(exercise.getTestRepositoryUrl());
+			if (templateURL != null) {
+				this.mirrorCache.invalidate(templateURL);
+			}
+			this.mirroredExerciseId = exercise.getExerciseId();
 		}
 
+		GitCredentials credentials = this.getCredentials();
+		try {
+			this.mirrorCache.refresh(exercise.getTestRepositoryUrl(), credentials);
+		} catch (GitException e) {
+			throw new ArtemisClientException("Unable to update test repository mirror: " + e.getMessage(), e);
+		}
+		if (templateURL != null) {
+			try {
+				this.mirrorCache.refresh(templateURL, credentials);
+			} catch (GitException e) {
+				throw new ArtemisClientException("Unable to update template repository mirror: " + e.getMessage(), e);
+			}
+		}
 	}
 
 	private void existsAndThrow(File file) throws ArtemisClientException {
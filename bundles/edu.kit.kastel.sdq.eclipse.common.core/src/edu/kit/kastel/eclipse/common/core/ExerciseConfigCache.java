@@ -0,0 +1,75 @@
+/* Licensed under EPL-2.0 2024. */
+package edu.kit.kastel.eclipse.common.core;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import edu.kit.kastel.sdq.artemis4j.api.artemis.Exercise;
+import edu.kit.kastel.sdq.artemis4j.grading.config.JsonFileConfig;
+
+/**
+ * Caches the parsed and compiled exercise configs for all assessment
+ * controllers. A config is parsed again once the modification time of its file
+ * changes. Concurrent callers wait for the same parse. The cached configs are
+ * shared and must not be modified.
+ */
+public final class ExerciseConfigCache {
+	private static final ExerciseConfigCache DEFAULT = new ExerciseConfigCache();
+
+	private final Map<Key, Entry> configs = new ConcurrentHashMap<>();
+
+	private record Key(String path, int exerciseId) {
+	}
+
+	private record Entry(long lastModified, CompiledExerciseConfig config) {
+	}
+
+	public static ExerciseConfigCache getDefault() {
+		return DEFAULT;
+	}
+
+	ExerciseConfigCache() {
+	}
+
+	/**
+	 * @param configFile the grading config file
+	 * @return the config of the exercise, parsed from the file if it has changed
+	 *         since the last call
+	 */
+	public CompiledExerciseConfig get(File configFile, Exercise exercise) throws IOException {
+		File file = configFile.getAbsoluteFile();
+		long lastModified = file.lastModified();
+		Key key = new Key(file.getPath(), exercise.getExerciseId());
+		Entry cached = this.configs.get(key);
+		if (cached != null && cached.lastModified() == lastModified) {
+			return cached.config();
+		}
+
+		try {
+			// replaces the config of an older version of the file
+			return this.configs.compute(key, (k, previous) -> {
+				if (previous != null && previous.lastModified() == lastModified) {
+					return previous;
+				}
+				try {
+					return new Entry(lastModified, CompiledExerciseConfig.compile(new JsonFileConfig(file).getExerciseConfig(exercise)));
+				} catch (IOException e) {
+					throw new UncheckedIOException(e);
+				}
+			}).config();
+		} catch (UncheckedIOException e) {
+			throw e.getCause();
+		}
+	}
+
+	/**
+	 * Drops all cached configs of the file.
+	 */
+	public void invalidate(File configFile) {
+		String path = configFile.getAbsoluteFile().getPath();
+		this.configs.keySet().removeIf(k -> k.path().equals(path));
+	}
+}
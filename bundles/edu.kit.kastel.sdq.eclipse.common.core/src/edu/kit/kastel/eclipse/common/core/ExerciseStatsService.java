@@ -0,0 +1,181 @@
+/* Licensed under EPL-2.0 2024. */
+package edu.kit.kastel.eclipse.common.core;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.IntSupplier;
+
+import org.eclipse.core.runtime.ILog;
+import org.eclipse.core.runtime.Platform;
+import org.eclipse.core.runtime.jobs.Job;
+
+import edu.kit.kastel.eclipse.common.api.controller.IGradingArtemisController;
+import edu.kit.kastel.sdq.artemis4j.api.ArtemisClientException;
+import edu.kit.kastel.sdq.artemis4j.api.artemis.Exercise;
+import edu.kit.kastel.sdq.artemis4j.api.artemis.ExerciseStats;
+
+/**
+ * Fetches the statistics of the selected exercise in the background. Callers
+ * get the last known statistics right away. They are refreshed periodically
+ * and after changes (e.g. a submitted assessment). Requests that arrive while a
+ * fetch is running share its result. Listeners are notified (from a background
+ * thread) whenever new statistics arrive.
+ */
+public class ExerciseStatsService {
+	private static final ILog LOG = Platform.getLog(ExerciseStatsService.class);
+
+	private final IGradingArtemisController artemisController;
+	private final IntSupplier refreshIntervalSeconds;
+	private final List<Runnable> listeners = new CopyOnWriteArrayList<>();
+	private final Job periodicRefresh;
+
+	private Exercise exercise;
+	private ExerciseStats stats;
+	private Instant fetchedAt;
+	private Job fetchJob;
+	private boolean fetchAgain;
+	private boolean disposed;
+
+	/**
+	 * @param refreshIntervalSeconds the interval of periodic refreshes, 0 disables
+	 *                               them
+	 */
+	public ExerciseStatsService(IGradingArtemisController artemisController, IntSupplier refreshIntervalSeconds) {
+		this.artemisController = artemisController;
+		this.refreshIntervalSeconds = refreshIntervalSeconds;
+		this.periodicRefresh = Job.create("Refreshing exercise statistics", monitor -> this.refreshPeriodically());
+		this.periodicRefresh.setSystem(true);
+	}
+
+	/**
+	 * @return the last known statistics of the exercise. Starts a fetch, if there
+	 *         are none or they are outdated.
+	 */
+	public synchronized Optional<ExerciseStats> get(Exercise exercise) {
+		if (!this.isCurrent(exercise)) {
+			this.exercise = exercise;
+			this.stats = null;
+			this.fetchedAt = null;
+			this.schedulePeriodicRefresh();
+		}
+		if (this.isStale()) {
+			this.fetch();
+		}
+		return Optional.ofNullable(this.stats);
+	}
+
+	/**
+	 * Fetches the statistics again, e.g. after the exercise has been changed by
+	 * locking or submitting. If a fetch is running, another one is started
+	 * afterwards, as the running one may miss the change.
+	 */
+	public synchronized void refresh(Exercise exercise) {
+		if (!this.isCurrent(exercise)) {
+			this.get(exercise);
+			return;
+		}
+		if (this.fetchJob != null) {
+			this.fetchAgain = true;
+		} else {
+			this.fetch();
+		}
+	}
+
+	public void addListener(Runnable listener) {
+		this.listeners.add(listener);
+	}
+
+	/**
+	 * Restarts the periodic refreshes with the current interval, e.g. after it
+	 * has been changed in the preferences.
+	 */
+	public synchronized void onRefreshIntervalChanged() {
+		this.periodicRefresh.cancel();
+		if (this.exercise != null) {
+			this.schedulePeriodicRefresh();
+		}
+	}
+
+	/**
+	 * Stops the periodic refreshes.
+	 */
+	public synchronized void dispose() {
+		this.disposed = true;
+		this.periodicRefresh.cancel();
+	}
+
+	private boolean isStale() {
+		if (this.fetchedAt == null) {
+			return true;
+		}
+		int interval = this.refreshIntervalSeconds.getAsInt();
+		return interval > 0 && !this.fetchedAt.plus(Duration.ofSeconds(interval)).isAfter(Instant.now());
+	}
+
+	private void fetch() {
+		if (this.fetchJob != null) {
+			return;
+		}
+		Exercise target = this.exercise;
+		this.fetchJob = Job.create("Fetching statistics of " + target.getShortName(), monitor -> this.fetchStats(target));
+		this.fetchJob.setSystem(true);
+		this.fetchJob.schedule();
+	}
+
+	private void fetchStats(Exercise target) {
+		ExerciseStats result = null;
+		try {
+			result = this.artemisController.getStats(target);
+		} catch (ArtemisClientException e) {
+			LOG.warn("Fetching statistics of " + target.getShortName() + " failed: " + e.getMessage(), e);
+		}
+
+		synchronized (this) {
+			this.fetchJob = null;
+			if (this.isCurrent(target)) {
+				// also after failures, to not retry on every access
+				this.fetchedAt = Instant.now();
+				if (result != null) {
+					this.stats = result;
+				}
+			}
+			if (this.fetchAgain) {
+				this.fetchAgain = false;
+				if (this.exercise != null) {
+					this.fetch();
+				}
+			}
+		}
+		if (result != null) {
+			this.listeners.forEach(Runnable::run);
+		}
+	}
+
+	private synchronized void refreshPeriodically() {
+		if (this.disposed) {
+			return;
+		}
+		if (this.exercise != null && this.isStale()) {
+			this.fetch();
+		}
+		int interval = this.refreshIntervalSeconds.getAsInt();
+		if (interval > 0) {
+			// scheduling a running job runs it again once it has finished
+			this.periodicRefresh.schedule(interval * 1000L);
+		}
+	}
+
+	private void schedulePeriodicRefresh() {
+		int interval = this.refreshIntervalSeconds.getAsInt();
+		if (!this.disposed && interval > 0 && this.periodicRefresh.getState() == Job.NONE) {
+			this.periodicRefresh.schedule(interval * 1000L);
+		}
+	}
+
+	private boolean isCurrent(Exercise exercise) {
+		return this.exercise != null && this.exercise.getExerciseId() == exercise.getExerciseId();
+	}
+}
@@ -13,6 +13,8 @@ import edu.kit.kastel.eclipse.common.api.controller.IAssessmentController;
 import edu.kit.kastel.eclipse.common.api.controller.IGradingArtemisController;
 import edu.kit.kastel.eclipse.common.api.controller.IViewInteraction;
 import edu.kit.kastel.eclipse.common.api.messages.Messages;
+import edu.kit.kastel.eclipse.common.core.metrics.ImportMetrics;
+import edu.kit.kastel.eclipse.common.core.metrics.ImportMetrics.Phase;
 import edu.kit.kastel.sdq.artemis4j.api.ArtemisClientException;
 import edu.kit.kastel.sdq.artemis4j.api.artemis.Course;
 import edu.kit.kastel.sdq.artemis4j.api.artemis.Exercise;
@@ -32,25 +34,21 @@ public class GradingArtemisController extends ArtemisController implements IGrad
 	}
 
 	@Override
-	public List<String> getExerciseShortNamesFromExam(final String examTitle) {
-		return this.getExercisesFromExam(examTitle).stream().map(Exercise::getShortName).toList();
+	public List<String> getExerciseShortNamesFromExam(final String courseShortName, final String examTitle) {
+		return this.getExercisesFromExam(courseShortName, examTitle).stream().map(Exercise::getShortName).toList();
 	}
 
 	@Override
-	protected List<Course> fetchCourses() {
+	protected List<Course> fetchCourses() throws ArtemisClientException {
 		if (!this.clientManager.isReady()) {
 			return List.of();
 		}
-		try {
-			return this.clientManager.getCourseArtemisClient().getCourses();
-		} catch (ArtemisClientException e) {
-			this.error(e.getMessage(), e);
-			return List.of();
-		}
+		return this.limited("getCourses", () -> this.clientManager.getCourseArtemisClient().getCourses());
 	}
 
 	@Override
 	public boolean saveAssessment(IAssessmentController assessmentController, Exercise exercise, Submission submission, boolean submit) {
+		this.awaitLogin();
 		if (!this.lockResults.containsKey(submission.getSubmissionId())) {
 			throw new IllegalStateException("Assessment not started, yet!");
 		}
@@ -63,7 +61,11 @@ public class GradingArtemisController extends ArtemisController implements IGrad
 		try {
 			AnnotationMapper mapper = //
 					new AnnotationMapper(exercise, submission, annotations, ratingGroups, this.clientManager.getAuthenticationClient().getUser(), lock);
-			this.clientManager.getAssessmentArtemisClient().saveAssessment(participationId, submit, mapper.createAssessmentResult());
+			var assessmentResult = mapper.createAssessmentResult();
+			this.limited("saveAssessment", () -> {
+				this.clientManager.getAssessmentArtemisClient().saveAssessment(participationId, submit, assessmentResult);
+				return null;
+			});
 		} catch (IOException e) {
 			this.error("Local backend failed to format the annotations: " + e.getMessage(), e);
 			return false;
@@ -80,8 +82,10 @@ public class GradingArtemisController extends ArtemisController implements IGrad
 
 	@Override
 	public void startAssessment(Submission submission) {
+		this.awaitLogin();
 		try {
-			this.lockResults.put(submission.getSubmissionId(), this.clientManager.getAssessmentArtemisClient().startAssessment(submission));
+			LockResult lockResult = this.limited("startAssessment", () -> this.clientManager.getAssessmentArtemisClient().startAssessment(submission));
+			this.lockResults.put(submission.getSubmissionId(), lockResult);
 		} catch (ArtemisClientException e) {
 			this.error(Messages.ASSESSMENT_COULD_NOT_BE_STARTED_MESSAGE + e.getMessage(), e);
 		}
@@ -89,14 +93,18 @@ public class GradingArtemisController extends ArtemisController implements IGrad
 
 	@Override
 	public Optional<Submission> startNextAssessment(Exercise exercise, int correctionRound) {
+		this.awaitLogin();
+		long start = System.nanoTime();
 		LockResult lockResult;
 		try {
-			Optional<Integer> submissionId = this.clientManager.getAssessmentArtemisClient().startNextAssessment(exercise, correctionRound);
+			Optional<Integer> submissionId = this.limited("startNextAssessment",
+					() -> this.clientManager.getAssessmentArtemisClient().startNextAssessment(exercise, correctionRound));
 			if (submissionId.isEmpty()) {
 				return Optional.empty();
 			}
 
-			lockResult = this.clientManager.getAssessmentArtemisClient().startAssessment(submissionId.orElseThrow(), correctionRound);
+			lockResult = this.limited("startAssessment",
+					() -> this.clientManager.getAssessmentArtemisClient().startAssessment(submissionId.orElseThrow(), correctionRound));
 		} catch (ArtemisClientException e) {
 			log.error(Messages.ASSESSMENT_COULD_NOT_BE_STARTED_MESSAGE + e.getMessage(), e);
 			return Optional.empty();
@@ -104,16 +112,26 @@ public class GradingArtemisController extends ArtemisController implements IGrad
 
 		this.lockResults.put(lockResult.getSubmissionId(), lockResult);
 		try {
-			return Optional.of(exercise.getSubmission(lockResult.getSubmissionId()));
+			int submissionId = lockResult.getSubmissionId();
+			Submission submission = this.getSubmission(exercise, submissionId);
+			ImportMetrics.getDefault().recordSince(Phase.LOCK, exercise.getShortName() + " submission " + submission.getSubmissionId(), start);
+			return Optional.of(submission);
 		} catch (ArtemisClientException e) {
 			this.error(Messages.ASSESSMENT_COULD_NOT_BE_STARTED_MESSAGE + e.getMessage(), e);
 			return Optional.empty();
 		}
 	}
 
+	@Override
+	public Submission getSubmission(Exercise exercise, int submissionId) throws ArtemisClientException {
+		this.awaitLogin();
+		return this.limited("getSubmission", () -> exercise.getSubmission(submissionId));
+	}
+
 	@Override
 	public ExerciseStats getStats(Exercise exercise) throws ArtemisClientException {
-		return this.clientManager.getAssessmentArtemisClient().getStats(exercise);
+		this.awaitLogin();
+		return this.limited("getStats", () -> this.clientManager.getAssessmentArtemisClient().getStats(exercise));
 	}
 
 }
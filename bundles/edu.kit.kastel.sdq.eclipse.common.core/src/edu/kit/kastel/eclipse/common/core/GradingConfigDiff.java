@@ -0,0 +1,68 @@
+/* Licensed under EPL-2.0 2024. */
+package edu.kit.kastel.eclipse.common.core;
+
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+
+import edu.kit.kastel.eclipse.common.api.controller.GradingConfigChange;
+import edu.kit.kastel.sdq.artemis4j.api.grading.IMistakeType;
+import edu.kit.kastel.sdq.artemis4j.api.grading.IRatingGroup;
+
+/**
+ * Compares two versions of an exercise config by the identifiers of their
+ * rating groups and mistake types and by everything the grading tab shows of
+ * them.
+ */
+final class GradingConfigDiff {
+	// the languages of the view
+	private static final List<String> LANGUAGES = List.of("en", "de");
+
+	static GradingConfigChange compare(CompiledExerciseConfig previous, CompiledExerciseConfig next) {
+		Map<String, String> before = fingerprints(previous);
+		Map<String, String> after = fingerprints(next);
+
+		boolean ratingGroupsChanged = !List.copyOf(before.keySet()).equals(List.copyOf(after.keySet()));
+		Set<String> changed = new HashSet<>();
+		after.forEach((ratingGroup, fingerprint) -> {
+			if (!fingerprint.equals(before.get(ratingGroup))) {
+				changed.add(ratingGroup);
+			}
+		});
+		return new GradingConfigChange(ratingGroupsChanged, Set.copyOf(changed));
+	}
+
+	/**
+	 * @return a description of every rating group including its mistake types, in
+	 *         the order of the config
+	 */
+	private static Map<String, String> fingerprints(CompiledExerciseConfig config) {
+		Map<String, StringBuilder> fingerprints = new LinkedHashMap<>();
+		for (IRatingGroup ratingGroup : config.getRatingGroups()) {
+			StringBuilder fingerprint = new StringBuilder(Objects.toString(ratingGroup.getRange()));
+			LANGUAGES.forEach(language -> fingerprint.append('|').append(ratingGroup.getDisplayName(language)));
+			fingerprints.put(ratingGroup.getIdentifier(), fingerprint);
+		}
+		for (IMistakeType mistakeType : config.getMistakeTypes()) {
+			StringBuilder fingerprint = fingerprints.get(mistakeType.getRatingGroup().getIdentifier());
+			if (fingerprint == null) {
+				continue;
+			}
+			fingerprint.append('\n').append(mistakeType.getIdentifier()).append('|').append(mistakeType.isCustomPenalty()).append('|')
+					.append(config.isEnabled(mistakeType)).append('|').append(config.isPenaltyEnabled(mistakeType));
+			for (String language : LANGUAGES) {
+				fingerprint.append('|').append(mistakeType.getButtonText(language)).append('|').append(mistakeType.getTooltip(language, List.of()));
+			}
+		}
+		Map<String, String> result = new LinkedHashMap<>();
+		fingerprints.forEach((ratingGroup, fingerprint) -> result.put(ratingGroup, fingerprint.toString()));
+		return result;
+	}
+
+	private GradingConfigDiff() {
+		throw new IllegalAccessError();
+	}
+}
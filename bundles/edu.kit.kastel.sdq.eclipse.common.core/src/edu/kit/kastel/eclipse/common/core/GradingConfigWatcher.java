@@ -0,0 +1,99 @@
+/* Licensed under EPL-2.0 2024. */
+package edu.kit.kastel.eclipse.common.core;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.ClosedWatchServiceException;
+import java.nio.file.Path;
+import java.nio.file.StandardWatchEventKinds;
+import java.nio.file.WatchEvent;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import org.eclipse.core.runtime.ILog;
+import org.eclipse.core.runtime.Platform;
+
+/**
+ * Watches the grading config file and notifies the listeners (on the watcher
+ * thread) once it has been changed.
+ */
+public class GradingConfigWatcher {
+	private static final ILog LOG = Platform.getLog(GradingConfigWatcher.class);
+	// editors often write a file in several steps
+	private static final long SETTLE_MILLIS = 300;
+
+	private final List<Runnable> listeners = new CopyOnWriteArrayList<>();
+	private WatchService watchService;
+
+	public void addListener(Runnable listener) {
+		this.listeners.add(listener);
+	}
+
+	/**
+	 * Watches the given file instead of the previous one.
+	 */
+	public synchronized void watch(File configFile) {
+		this.close();
+		Path file = configFile.toPath().toAbsolutePath();
+		Path directory = file.getParent();
+		if (configFile.getPath().isBlank() || directory == null || !directory.toFile().isDirectory()) {
+			return;
+		}
+		try {
+			WatchService service = file.getFileSystem().newWatchService();
+			directory.register(service, StandardWatchEventKinds.ENTRY_CREATE, StandardWatchEventKinds.ENTRY_MODIFY);
+			Thread thread = new Thread(() -> this.run(service, file), "Grading Config Watcher");
+			thread.setDaemon(true);
+			thread.start();
+			this.watchService = service;
+		} catch (IOException e) {
+			LOG.warn("Could not watch the grading config " + file + ": " + e.getMessage(), e);
+		}
+	}
+
+	public synchronized void close() {
+		if (this.watchService == null) {
+			return;
+		}
+		try {
+			this.watchService.close();
+		} catch (IOException e) {
+			LOG.warn("Could not stop watching the grading config: " + e.getMessage(), e);
+		}
+		this.watchService = null;
+	}
+
+	private void run(WatchService service, Path file) {
+		try {
+			while (true) {
+				if (!this.pollChanges(service.take(), file)) {
+					continue;
+				}
+				Thread.sleep(SETTLE_MILLIS);
+				WatchKey pending;
+				while ((pending = service.poll()) != null) {
+					this.pollChanges(pending, file);
+				}
+				LOG.info("Grading config " + file + " has been changed");
+				// the modification time may not have changed within its resolution
+				ExerciseConfigCache.getDefault().invalidate(file.toFile());
+				this.listeners.forEach(Runnable::run);
+			}
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		} catch (ClosedWatchServiceException e) {
+			// watching has been stopped
+		}
+	}
+
+	private boolean pollChanges(WatchKey key, Path file) {
+		boolean changed = false;
+		for (WatchEvent<?> event : key.pollEvents()) {
+			changed |= file.getFileName().equals(event.context());
+		}
+		key.reset();
+		return changed;
+	}
+}
@@ -3,91 +3,196 @@ package edu.kit.kastel.eclipse.common.core;
 
 import java.io.File;
 import java.nio.file.Path;
-import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
-
+import java.util.OptionalInt;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
+
+import org.eclipse.core.resources.IProject;
 import org.eclipse.core.resources.ResourcesPlugin;
 import org.eclipse.core.runtime.CoreException;
+import org.eclipse.core.runtime.ILog;
+import org.eclipse.core.runtime.Platform;
+import org.eclipse.core.runtime.jobs.Job;
 import org.eclipse.jface.preference.IPreferenceStore;
+import org.eclipse.jface.util.IPropertyChangeListener;
 import org.osgi.framework.Version;
 
 import edu.kit.kastel.eclipse.common.api.PreferenceConstants;
 import edu.kit.kastel.eclipse.common.api.artemis.IProjectFileNamingStrategy;
+import edu.kit.kastel.eclipse.common.api.controller.GradingConfigChange;
 import edu.kit.kastel.eclipse.common.api.controller.IArtemisController;
 import edu.kit.kastel.eclipse.common.api.controller.IAssessmentController;
 import edu.kit.kastel.eclipse.common.api.controller.IGradingArtemisController;
 import edu.kit.kastel.eclipse.common.api.controller.IGradingSystemwideController;
 import edu.kit.kastel.eclipse.common.api.controller.IViewInteraction;
+import edu.kit.kastel.eclipse.common.api.controller.RefreshScope;
+import edu.kit.kastel.eclipse.common.core.artemis.BegunSubmissionRegistry;
 import edu.kit.kastel.eclipse.common.core.artemis.WorkspaceUtil;
 import edu.kit.kastel.sdq.artemis4j.api.ArtemisClientException;
 import edu.kit.kastel.sdq.artemis4j.api.artemis.Course;
 import edu.kit.kastel.sdq.artemis4j.api.artemis.Exercise;
 import edu.kit.kastel.sdq.artemis4j.api.artemis.ExerciseStats;
 import edu.kit.kastel.sdq.artemis4j.api.artemis.assessment.Submission;
-import edu.kit.kastel.sdq.artemis4j.api.artemis.exam.Exam;
 
 public class GradingSystemwideController extends SystemwideController implements IGradingSystemwideController {
+	private static final ILog LOG = Platform.getLog(GradingSystemwideController.class);
+
 	private final Map<Integer, IAssessmentController> assessmentControllers = new HashMap<>();
-	private IGradingArtemisController artemisController;
+	private CachingGradingArtemisController artemisController;
+	private final SubmissionPrefetchQueue prefetchQueue;
+	private final ExerciseStatsService statsService;
+	private final BegunSubmissionRegistry begunSubmissions;
+	private final GradingConfigWatcher configWatcher = new GradingConfigWatcher();
+	private final List<Consumer<GradingConfigChange>> configListeners = new CopyOnWriteArrayList<>();
+	private final IPropertyChangeListener preferenceListener;
 
-	private Submission submission;
+	private volatile Submission submission;
+	private volatile CompletableFuture<Boolean> pipeline;
 
 	public GradingSystemwideController(Version pluginVersion, final IPreferenceStore preferenceStore, IViewInteraction handler) {
 		super(pluginVersion, preferenceStore, handler);
 		this.preferenceStore = preferenceStore;
+		this.prefetchQueue = new SubmissionPrefetchQueue(this.artemisController, this.exerciseController, this.projectFileNamingStrategy);
+		this.statsService = new ExerciseStatsService(this.artemisController,
+				() -> preferenceStore.getInt(PreferenceConstants.GRADING_STATS_REFRESH_INTERVAL));
+		this.begunSubmissions = new BegunSubmissionRegistry(this.projectFileNamingStrategy);
+
+		this.configWatcher.addListener(this::onGradingConfigChanged);
+		this.configWatcher.watch(new File(preferenceStore.getString(PreferenceConstants.GRADING_ABSOLUTE_CONFIG_PATH)));
+		this.preferenceListener = event -> {
+			if (PreferenceConstants.GRADING_ABSOLUTE_CONFIG_PATH.equals(event.getProperty())) {
+				this.configWatcher.watch(new File(preferenceStore.getString(PreferenceConstants.GRADING_ABSOLUTE_CONFIG_PATH)));
+			} else if (PreferenceConstants.GRADING_STATS_REFRESH_INTERVAL.equals(event.getProperty())) {
+				this.statsService.onRefreshIntervalChanged();
+			}
+		};
+		preferenceStore.addPropertyChangeListener(this.preferenceListener);
+	}
+
+	/**
+	 * Called on the watcher thread, so the configs are parsed in the background.
+	 */
+	private void onGradingConfigChanged() {
+		List<IAssessmentController> controllers;
+		synchronized (this.assessmentControllers) {
+			controllers = List.copyOf(this.assessmentControllers.values());
+		}
+		Submission currentSubmission = this.submission;
+		GradingConfigChange currentChange = GradingConfigChange.NONE;
+		for (IAssessmentController controller : controllers) {
+			GradingConfigChange change = controller.reloadGradingConfig();
+			if (currentSubmission != null && controller.getSubmission().getSubmissionId() == currentSubmission.getSubmissionId()) {
+				currentChange = change;
+			}
+		}
+		if (!currentChange.isEmpty()) {
+			GradingConfigChange change = currentChange;
+			this.configListeners.forEach(listener -> listener.accept(change));
+		}
+	}
+
+	@Override
+	public void addGradingConfigListener(Consumer<GradingConfigChange> listener) {
+		this.configListeners.add(listener);
+	}
+
+	@Override
+	public void dispose() {
+		this.configWatcher.close();
+		this.statsService.dispose();
+		this.preferenceStore.removePropertyChangeListener(this.preferenceListener);
 	}
 
 	@Override
 	protected IArtemisController createController(Version pluginVersion, IPreferenceStore preferenceStore, IViewInteraction handler) {
-		this.artemisController = new GradingArtemisController(pluginVersion, preferenceStore.getString(PreferenceConstants.GENERAL_ARTEMIS_URL),
-				preferenceStore.getString(PreferenceConstants.GENERAL_ADVANCED_ARTEMIS_USER),
-				preferenceStore.getString(PreferenceConstants.GENERAL_ADVANCED_ARTEMIS_PASSWORD), handler);
+		this.artemisController = new CachingGradingArtemisController(
+				new GradingArtemisController(pluginVersion, preferenceStore.getString(PreferenceConstants.GENERAL_ARTEMIS_URL),
+						preferenceStore.getString(PreferenceConstants.GENERAL_ADVANCED_ARTEMIS_USER),
+						preferenceStore.getString(PreferenceConstants.GENERAL_ADVANCED_ARTEMIS_PASSWORD), handler));
 		return this.artemisController;
 	}
 
 	private IAssessmentController getAssessmentController(Submission submission, Course course, Exercise exercise) {
-		// not equivalent to putIfAbsent!
-		this.assessmentControllers.computeIfAbsent(submission.getSubmissionId(),
-				submissionIDParam -> new AssessmentController(this, course, exercise, submission));
-		return this.assessmentControllers.get(submission.getSubmissionId());
+		synchronized (this.assessmentControllers) {
+			// not equivalent to putIfAbsent!
+			this.assessmentControllers.computeIfAbsent(submission.getSubmissionId(),
+					submissionIDParam -> new AssessmentController(this, course, exercise, submission));
+			return this.assessmentControllers.get(submission.getSubmissionId());
+		}
 	}
 
-	private List<Submission> getBegunSubmissions() {
-		if (this.nullCheckMembersAndNotify(true, true, false)) {
-			return List.of();
+	/**
+	 * Adds the begun submissions of the exercise to the registry. Errors are
+	 * reported and the registry stays incomplete, so the submissions are fetched
+	 * again on the next access.
+	 */
+	private void seedBegunSubmissions(Exercise exercise) {
+		try {
+			this.begunSubmissions.seed(exercise, this.getArtemisController().getBegunSubmissions(exercise));
+		} catch (ArtemisClientException e) {
+			this.error(e.getMessage(), e);
 		}
+	}
 
-		return this.getArtemisController().getBegunSubmissions(this.exercise);
+	/**
+	 * Additionally drops the cached begun submissions and statistics of the
+	 * selected exercise.
+	 */
+	@Override
+	public void refresh(Set<RefreshScope> scopes) {
+		super.refresh(scopes);
+		Exercise currentExercise = this.exercise;
+		if (currentExercise == null) {
+			return;
+		}
+		if (scopes.contains(RefreshScope.SUBMISSIONS)) {
+			this.artemisController.invalidateBegunSubmissions(currentExercise);
+			this.begunSubmissions.invalidate(currentExercise);
+		}
+		if (scopes.contains(RefreshScope.STATS)) {
+			this.artemisController.invalidateStats(currentExercise);
+			this.statsService.refresh(currentExercise);
+		}
 	}
 
 	@Override
-	public ExerciseStats getStats() {
+	public Optional<ExerciseStats> getStats() {
 		if (this.nullCheckMembersAndNotify(true, true, false)) {
-			return new ExerciseStats(0, 0, 0, 0);
-		}
-		try {
-			return this.getArtemisController().getStats(this.exercise);
-		} catch (ArtemisClientException e) {
-			this.error(e.getMessage(), e);
-			return new ExerciseStats(0, 0, 0, 0);
+			return Optional.empty();
 		}
+		return this.statsService.get(this.exercise);
 	}
 
 	@Override
-	public List<String> getBegunSubmissionsProjectNames() {
+	public void addStatsListener(Runnable listener) {
+		this.statsService.addListener(listener);
+	}
+
+	@Override
+	public CompletableFuture<List<String>> getBegunSubmissionsProjectNames() {
 		// Special Case: refresh
 		if (this.course == null || this.exercise == null) {
 			this.info("You need to choose a" + (this.course == null ? "course" : "") + (this.course == null && this.exercise == null ? " and an " : "")
 					+ (this.exercise == null ? "exercise" : "."));
-			return List.of();
+			return CompletableFuture.completedFuture(List.of());
 		}
 
-		return this.getBegunSubmissions().stream().map(
-				sub -> this.projectFileNamingStrategy.getProjectFileInWorkspace(WorkspaceUtil.getWorkspaceFile(), this.getCurrentExercise(), sub).getName())
-				.sorted().toList();
+		Exercise currentExercise = this.exercise;
+		if (this.begunSubmissions.isComplete(currentExercise)) {
+			return CompletableFuture.completedFuture(this.begunSubmissions.getProjectNames(currentExercise));
+		}
+		return CompletableFuture.supplyAsync(() -> {
+			this.seedBegunSubmissions(currentExercise);
+			return this.begunSubmissions.getProjectNames(currentExercise);
+		}, new JobExecutor("Fetching begun submissions"));
 	}
 
 	@Override
@@ -123,117 +228,267 @@ public class GradingSystemwideController extends SystemwideController implements
 	}
 
 	@Override
-	public void loadAgain() {
-		if (this.nullCheckMembersAndNotify(true, true, true)) {
-			return;
+	public CompletableFuture<Boolean> loadAgain() {
+		if (this.nullCheckMembersAndNotify(true, true, true) || this.isPipelineRunning()) {
+			return CompletableFuture.completedFuture(false);
 		}
 
-		this.artemisController.startAssessment(this.submission);
-		this.downloadExerciseAndSubmission(this.course, this.exercise, this.submission, this.projectFileNamingStrategy);
+		Course currentCourse = this.course;
+		Exercise currentExercise = this.exercise;
+		Submission currentSubmission = this.submission;
+		return this.track(CompletableFuture //
+				.runAsync(() -> this.artemisController.startAssessment(currentSubmission), new JobExecutor("Locking submission"))
+				.thenApplyAsync(v -> this.download(currentExercise, currentSubmission, this.projectFileNamingStrategy),
+						new JobExecutor("Downloading submission"))
+				.thenApplyAsync(downloaded -> downloaded && this.importProject(currentExercise, currentSubmission, this.projectFileNamingStrategy),
+						new JobExecutor("Importing submission"))
+				.thenApplyAsync(imported -> imported && this.loadAnnotations(currentCourse, currentExercise, currentSubmission),
+						new JobExecutor("Loading annotations")));
 	}
 
 	@Override
 	public void setExerciseId(final String exerciseShortName) throws ArtemisClientException {
-		// Normal exercises
-		List<Exercise> exercises = new ArrayList<>(this.course.getExercises());
-		// exam exercises
-		for (Exam ex : this.course.getExams()) {
-			ex.getExerciseGroups().forEach(g -> exercises.addAll(g.getExercises()));
+		// normal and exam exercises
+		Optional<Exercise> found = this.getArtemisController().getExercise(this.course, exerciseShortName);
+		if (found.isEmpty()) {
+			this.error("No Exercise with the given shortName \"" + exerciseShortName + "\" found.", null);
+			return;
 		}
 
-		for (Exercise ex : exercises) {
-			if (ex.getShortName().equals(exerciseShortName)) {
-				this.exercise = ex;
-				return;
-			}
+		Exercise ex = found.get();
+		if (this.exercise != null && this.exercise.getExerciseId() != ex.getExerciseId()) {
+			this.prefetchQueue.reset();
 		}
-		this.error("No Exercise with the given shortName \"" + exerciseShortName + "\" found.", null);
+		this.exercise = ex;
+		this.begunSubmissions.seedFromWorkspace(ex,
+				Arrays.stream(ResourcesPlugin.getWorkspace().getRoot().getProjects()).map(IProject::getName).toList());
+		this.warmRepositoryMirrors(ex);
 	}
 
-	@Override
-	public void reloadAssessment() {
-		if (this.nullCheckMembersAndNotify(true, true, true)) {
+	private void warmRepositoryMirrors(Exercise exercise) {
+		if (exercise.getTestRepositoryUrl() == null) {
 			return;
 		}
-		this.getCurrentAssessmentController().resetAndRestartAssessment(this.projectFileNamingStrategy);
+		Job job = Job.create("Updating repositories of " + exercise.getShortName(), monitor -> {
+			try {
+				this.exerciseController.warmRepositoryMirrors(exercise);
+			} catch (ArtemisClientException e) {
+				// not critical, the repositories will be cloned from the remote
+				LOG.warn(e.getMessage(), e);
+			}
+		});
+		job.setPriority(Job.LONG);
+		job.schedule();
 	}
 
 	@Override
-	public void saveAssessment() {
-		if (this.nullCheckMembersAndNotify(true, true, true)) {
-			return;
+	public CompletableFuture<Boolean> reloadAssessment() {
+		if (this.nullCheckMembersAndNotify(true, true, true) || this.isPipelineRunning()) {
+			return CompletableFuture.completedFuture(false);
 		}
-
-		this.artemisController.saveAssessment(this.getCurrentAssessmentController(), this.exercise, this.submission, false);
+		IAssessmentController assessmentController = this.getCurrentAssessmentController();
+		return this.track(CompletableFuture.supplyAsync(() -> {
+			assessmentController.resetAndRestartAssessment(this.projectFileNamingStrategy);
+			return true;
+		}, new JobExecutor("Reloading submission")));
 	}
 
 	@Override
-	public void setAssessedSubmissionByProjectName(String projectName) {
-
-		for (var submission : this.getBegunSubmissions()) {
-			String currentProjectName = this.projectFileNamingStrategy
-					.getProjectFileInWorkspace(WorkspaceUtil.getWorkspaceFile(), this.getCurrentExercise(), submission).getName();
-			if (currentProjectName.equals(projectName)) {
-				this.submission = submission;
-				return;
-			}
+	public CompletableFuture<Boolean> saveAssessment() {
+		if (this.nullCheckMembersAndNotify(true, true, true)) {
+			return CompletableFuture.completedFuture(false);
 		}
 
-		this.error("Assessed submission with projectName=\"" + projectName + "\" not found!", null);
+		IAssessmentController assessmentController = this.getCurrentAssessmentController();
+		Exercise currentExercise = this.exercise;
+		Submission currentSubmission = this.submission;
+		return this.sendAssessment(CompletableFuture.supplyAsync(() -> this.artemisController.saveAssessment(assessmentController, currentExercise,
+				currentSubmission, false), new JobExecutor("Saving assessment")));
+	}
+
+	/**
+	 * Reports unexpected errors of saving or submitting. Expected errors are
+	 * reported by the Artemis controller.
+	 */
+	private CompletableFuture<Boolean> sendAssessment(CompletableFuture<Boolean> request) {
+		return request.exceptionally(e -> {
+			Throwable cause = e instanceof CompletionException && e.getCause() != null ? e.getCause() : e;
+			this.error("Sending the assessment failed: " + cause.getMessage(), cause);
+			return false;
+		});
 	}
 
 	@Override
-	public List<String> setCourseIdAndGetExerciseShortNames(final String courseShortName) throws ArtemisClientException {
+	public CompletableFuture<Boolean> setAssessedSubmissionByProjectName(String projectName) {
+		Exercise currentExercise = this.getCurrentExercise();
+		if (currentExercise == null) {
+			return CompletableFuture.completedFuture(false);
+		}
 
-		for (Course c : this.getArtemisController().getCourses()) {
-			if (c.getShortName().equals(courseShortName)) {
-				this.course = c;
-				return c.getExercises().stream().filter(it -> !it.isAutomaticAssessment()).map(Exercise::getShortName).toList();
+		Optional<Submission> known = this.begunSubmissions.getSubmission(currentExercise, projectName);
+		if (known.isPresent()) {
+			this.submission = known.get();
+			return CompletableFuture.completedFuture(true);
+		}
+		return CompletableFuture.supplyAsync(() -> {
+			try {
+				Optional<Submission> found = this.findBegunSubmission(currentExercise, projectName);
+				if (found.isEmpty()) {
+					this.error("Assessed submission with projectName=\"" + projectName + "\" not found!", null);
+					return false;
+				}
+				this.submission = found.get();
+				return true;
+			} catch (ArtemisClientException e) {
+				this.error(e.getMessage(), e);
+				return false;
 			}
+		}, new JobExecutor("Fetching submission " + projectName));
+	}
+
+	/**
+	 * Fetches a submission that is not in the registry yet: by its id, if the
+	 * project is known from the workspace or has been submitted, and otherwise
+	 * with all begun submissions of the exercise.
+	 */
+	private Optional<Submission> findBegunSubmission(Exercise exercise, String projectName) throws ArtemisClientException {
+		OptionalInt submissionId = this.begunSubmissions.getSubmissionId(exercise, projectName);
+		if (submissionId.isPresent()) {
+			Submission fetched = this.artemisController.getSubmission(exercise, submissionId.getAsInt());
+			this.begunSubmissions.put(exercise, fetched);
+			return Optional.of(fetched);
+		}
+		if (!this.begunSubmissions.isComplete(exercise)) {
+			this.begunSubmissions.seed(exercise, this.getArtemisController().getBegunSubmissions(exercise));
 		}
-		this.error("No Course with the given shortName \"" + courseShortName + "\" found.", null);
-		return List.of();
+		return this.begunSubmissions.getSubmission(exercise, projectName);
 	}
 
-	private boolean startAssessment(int correctionRound) {
-		if (this.nullCheckMembersAndNotify(true, true, false)) {
-			return false;
+	@Override
+	public List<String> setCourseIdAndGetExerciseShortNames(final String courseShortName) throws ArtemisClientException {
+		Optional<Course> c = this.getArtemisController().getCourse(courseShortName);
+		if (c.isEmpty()) {
+			this.error("No Course with the given shortName \"" + courseShortName + "\" found.", null);
+			return List.of();
 		}
+		this.course = c.get();
+		return c.get().getExercises().stream().filter(it -> !it.isAutomaticAssessment()).map(Exercise::getShortName).toList();
+	}
 
-		Optional<Submission> optionalSubmission = this.artemisController.startNextAssessment(this.exercise, correctionRound);
-		if (optionalSubmission.isEmpty()) {
-			// revert!
-			this.info("No more submissions available for Correction Round " + (correctionRound + 1) + "!");
-			return false;
+	/**
+	 * Starts the next assessment as a pipeline of stages (lock, download, import,
+	 * annotation load) that run in Eclipse jobs. Each stage only starts once the
+	 * previous one succeeded.
+	 */
+	private CompletableFuture<Boolean> startAssessment(int correctionRound) {
+		if (this.nullCheckMembersAndNotify(true, true, false) || this.isPipelineRunning()) {
+			return CompletableFuture.completedFuture(false);
 		}
-		this.submission = optionalSubmission.get();
 
-		// perform download. Revert state if that fails.
-		if (!this.downloadExerciseAndSubmission(this.course, this.exercise, this.submission, this.projectFileNamingStrategy)) {
-			return false;
+		Course currentCourse = this.course;
+		Exercise currentExercise = this.exercise;
+
+		var prefetched = this.prefetchQueue.poll(currentExercise, correctionRound);
+		if (prefetched.isPresent()) {
+			Submission prefetchedSubmission = prefetched.get().submission();
+			this.submission = prefetchedSubmission;
+			this.begunSubmissions.put(currentExercise, prefetchedSubmission);
+			prefetched.get().imported().thenAccept(this::notifyBuildCompleted);
+			this.prefetchNextSubmissions(correctionRound);
+			return this.track(CompletableFuture.supplyAsync(() -> this.loadAnnotations(currentCourse, currentExercise, prefetchedSubmission),
+					new JobExecutor("Loading annotations")));
 		}
+
+		return this.track(CompletableFuture //
+				.supplyAsync(() -> this.artemisController.startNextAssessment(currentExercise, correctionRound), new JobExecutor("Locking submission"))
+				.thenApplyAsync(locked -> {
+					if (locked.isEmpty()) {
+						this.info("No more submissions available for Correction Round " + (correctionRound + 1) + "!");
+						return false;
+					}
+					this.submission = locked.get();
+					this.begunSubmissions.put(currentExercise, locked.get());
+					this.statsService.refresh(currentExercise);
+					return this.download(currentExercise, locked.get(), this.projectFileNamingStrategy);
+				}, new JobExecutor("Downloading submission"))
+				.thenApplyAsync(downloaded -> downloaded && this.importProject(currentExercise, this.submission, this.projectFileNamingStrategy),
+						new JobExecutor("Importing submission"))
+				.thenApplyAsync(imported -> {
+					if (!imported) {
+						return false;
+					}
+					this.prefetchNextSubmissions(correctionRound);
+					return this.loadAnnotations(currentCourse, currentExercise, this.submission);
+				}, new JobExecutor("Loading annotations")));
+	}
+
+	/**
+	 * Creates the assessment controller of the submission, which loads the
+	 * grading config and the annotations stored in Artemis.
+	 */
+	private boolean loadAnnotations(Course course, Exercise exercise, Submission submission) {
+		this.getAssessmentController(submission, course, exercise);
 		return true;
 	}
 
+	private boolean isPipelineRunning() {
+		if (this.pipeline != null && !this.pipeline.isDone()) {
+			this.warn("A submission is being loaded. Please wait until it has been loaded.");
+			return true;
+		}
+		return false;
+	}
+
+	private CompletableFuture<Boolean> track(CompletableFuture<Boolean> stages) {
+		CompletableFuture<Boolean> result = stages.exceptionally(e -> {
+			Throwable cause = e instanceof CompletionException && e.getCause() != null ? e.getCause() : e;
+			this.error("Loading the submission failed: " + cause.getMessage(), cause);
+			return false;
+		});
+		this.pipeline = result;
+		return result;
+	}
+
+	private void prefetchNextSubmissions(int correctionRound) {
+		int depth = this.preferenceStore.getInt(PreferenceConstants.GRADING_PREFETCH_DEPTH);
+		this.prefetchQueue.fill(this.exercise, correctionRound, depth);
+	}
+
+	private void notifyBuildCompleted(IProject project) {
+		this.buildCompletedCallbacks.forEach(c -> c.onPhaseCompleted(project));
+	}
+
 	@Override
-	public boolean startCorrectionRound1() {
+	public CompletableFuture<Boolean> startCorrectionRound1() {
 		return this.startAssessment(0);
 	}
 
 	@Override
-	public boolean startCorrectionRound2() {
+	public CompletableFuture<Boolean> startCorrectionRound2() {
 		return this.startAssessment(1);
 	}
 
 	@Override
-	public void submitAssessment() {
+	public CompletableFuture<Boolean> submitAssessment() {
 		if (this.nullCheckMembersAndNotify(true, true, true)) {
-			return;
+			return CompletableFuture.completedFuture(false);
 		}
 
-		if (this.artemisController.saveAssessment(this.getCurrentAssessmentController(), this.exercise, this.submission, true)) {
-			this.closeAssessment();
-		}
+		IAssessmentController assessmentController = this.getCurrentAssessmentController();
+		Exercise currentExercise = this.exercise;
+		Submission currentSubmission = this.submission;
+		return this.sendAssessment(CompletableFuture.supplyAsync(() -> {
+			if (!this.artemisController.saveAssessment(assessmentController, currentExercise, currentSubmission, true)) {
+				return false;
+			}
+			this.begunSubmissions.markSubmitted(currentExercise, currentSubmission);
+			// unless another submission has been selected meanwhile
+			if (this.submission == currentSubmission) {
+				this.closeAssessment();
+			}
+			this.statsService.refresh(currentExercise);
+			return true;
+		}, new JobExecutor("Submitting assessment")));
 	}
 
 	@Override
@@ -243,7 +498,9 @@ public class GradingSystemwideController extends SystemwideController implements
 		}
 
 		this.getCurrentAssessmentController().deleteEclipseProject(this.projectFileNamingStrategy);
-		this.assessmentControllers.remove(this.submission.getSubmissionId());
+		synchronized (this.assessmentControllers) {
+			this.assessmentControllers.remove(this.submission.getSubmissionId());
+		}
 		this.submission = null;
 	}
 
@@ -258,20 +515,34 @@ public class GradingSystemwideController extends SystemwideController implements
 
 	@Override
 	public boolean downloadExerciseAndSubmission(Course course, Exercise exercise, Submission submission, IProjectFileNamingStrategy projectNaming) {
-		final File eclipseWorkspaceRoot = ResourcesPlugin.getWorkspace().getRoot().getLocation().toFile();
+		if (!this.download(exercise, submission, projectNaming)) {
+			return false;
+		}
+		this.importProject(exercise, submission, projectNaming);
+		return true;
+	}
 
+	private boolean download(Exercise exercise, Submission submission, IProjectFileNamingStrategy projectNaming) {
 		try {
-			this.exerciseController.downloadExerciseAndSubmission(exercise, submission, eclipseWorkspaceRoot, projectNaming);
+			this.exerciseController.downloadExerciseAndSubmission(exercise, submission, WorkspaceUtil.getWorkspaceFile(), projectNaming);
+			return true;
 		} catch (ArtemisClientException e) {
 			this.error(e.getMessage(), e);
 			return false;
 		}
+	}
+
+	private boolean importProject(Exercise exercise, Submission submission, IProjectFileNamingStrategy projectNaming) {
 		try {
-			WorkspaceUtil.createEclipseProject(projectNaming.getProjectFileInWorkspace(eclipseWorkspaceRoot, exercise, submission),
-					this.buildCompletedCallbacks);
+			File projectDirectory = projectNaming.getProjectFileInWorkspace(WorkspaceUtil.getWorkspaceFile(), exercise, submission);
+			// keep existing projects, their clones have been updated in place
+			if (!WorkspaceUtil.refreshEclipseProject(projectDirectory.getName(), this.buildCompletedCallbacks)) {
+				WorkspaceUtil.createEclipseProject(projectDirectory, this.buildCompletedCallbacks);
+			}
 		} catch (CoreException e) {
 			this.error("Project could not be created: " + e.getMessage(), null);
 		}
+		// the submission can be assessed even if the project could not be created
 		return true;
 	}
 
@@ -294,6 +565,21 @@ public class GradingSystemwideController extends SystemwideController implements
 		return this.preferenceStore;
 	}
 
+	@Override
+	public int getPrefetchedSubmissionCount() {
+		return this.prefetchQueue.getReadyCount();
+	}
+
+	@Override
+	public int getPrefetchDepth() {
+		return this.prefetchQueue.getDepth();
+	}
+
+	@Override
+	public void addPrefetchListener(Runnable listener) {
+		this.prefetchQueue.addListener(listener);
+	}
+
 	@Override
 	public Path getCurrentProjectPath() {
 		return this.projectFileNamingStrategy.getProjectFileInWorkspace(WorkspaceUtil.getWorkspaceFile(), this.exercise, this.submission).toPath();
@@ -0,0 +1,26 @@
+/* Licensed under EPL-2.0 2024. */
+package edu.kit.kastel.eclipse.common.core;
+
+import java.util.concurrent.Executor;
+
+import org.eclipse.core.runtime.jobs.Job;
+
+/**
+ * Runs the stages of a {@link java.util.concurrent.CompletableFuture} pipeline
+ * as Eclipse jobs. The stages do not block the UI thread and are shown in the
+ * progress view under the given name.
+ */
+public class JobExecutor implements Executor {
+	private final String name;
+
+	public JobExecutor(String name) {
+		this.name = name;
+	}
+
+	@Override
+	public void execute(Runnable command) {
+		Job job = Job.create(this.name, monitor -> command.run());
+		job.setPriority(Job.LONG);
+		job.schedule();
+	}
+}
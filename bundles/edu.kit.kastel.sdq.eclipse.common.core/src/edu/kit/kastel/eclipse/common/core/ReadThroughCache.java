@@ -0,0 +1,102 @@
+/* Licensed under EPL-2.0 2024. */
+package edu.kit.kastel.eclipse.common.core;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+import edu.kit.kastel.sdq.artemis4j.api.ArtemisClientException;
+
+/**
+ * Caches the results of an Artemis request per key for a fixed time. Concurrent
+ * requests for the same key share one call to Artemis (single flight). Failed
+ * requests are not cached.
+ */
+class ReadThroughCache<K, V> {
+	private final String name;
+	private final Duration ttl;
+	private final ConcurrentMap<K, CompletableFuture<Entry<V>>> entries = new ConcurrentHashMap<>();
+	private final AtomicLong hits = new AtomicLong();
+	private final AtomicLong misses = new AtomicLong();
+
+	@FunctionalInterface
+	interface Loader<V> {
+		V load() throws ArtemisClientException;
+	}
+
+	private record Entry<V>(V value, long loadedAt) {
+	}
+
+	ReadThroughCache(String name, Duration ttl) {
+		this.name = name;
+		this.ttl = ttl;
+	}
+
+	V get(K key, Loader<V> loader) throws ArtemisClientException {
+		CompletableFuture<Entry<V>> created = new CompletableFuture<>();
+		CompletableFuture<Entry<V>> current = this.entries.compute(key, (k, existing) -> this.isUsable(existing) ? existing : created);
+		if (current != created) {
+			this.hits.incrementAndGet();
+			return this.await(current);
+		}
+
+		this.misses.incrementAndGet();
+		try {
+			V value = loader.load();
+			created.complete(new Entry<>(value, System.nanoTime()));
+			return value;
+		} catch (ArtemisClientException | RuntimeException e) {
+			this.entries.remove(key, created);
+			created.completeExceptionally(e);
+			throw e;
+		}
+	}
+
+	void invalidate(K key) {
+		this.entries.remove(key);
+	}
+
+	void invalidateAll() {
+		this.entries.clear();
+	}
+
+	String getName() {
+		return this.name;
+	}
+
+	long getHits() {
+		return this.hits.get();
+	}
+
+	long getMisses() {
+		return this.misses.get();
+	}
+
+	private boolean isUsable(CompletableFuture<Entry<V>> entry) {
+		if (entry == null || entry.isCompletedExceptionally()) {
+			return false;
+		}
+		// in flight
+		if (!entry.isDone()) {
+			return true;
+		}
+		return System.nanoTime() - entry.join().loadedAt() < this.ttl.toNanos();
+	}
+
+	private V await(CompletableFuture<Entry<V>> entry) throws ArtemisClientException {
+		try {
+			return entry.join().value();
+		} catch (CompletionException e) {
+			if (e.getCause() instanceof ArtemisClientException artemisException) {
+				throw artemisException;
+			}
+			if (e.getCause() instanceof RuntimeException runtimeException) {
+				throw runtimeException;
+			}
+			throw e;
+		}
+	}
+}
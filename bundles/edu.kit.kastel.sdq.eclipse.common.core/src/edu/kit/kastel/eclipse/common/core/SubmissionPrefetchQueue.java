@@ -0,0 +1,222 @@
+/* Licensed under EPL-2.0 2024. */
+package edu.kit.kastel.eclipse.common.core;
+
+import java.io.File;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import org.eclipse.core.resources.IProject;
+import org.eclipse.core.runtime.CoreException;
+import org.eclipse.core.runtime.ILog;
+import org.eclipse.core.runtime.IProgressMonitor;
+import org.eclipse.core.runtime.Platform;
+import org.eclipse.core.runtime.jobs.Job;
+
+import edu.kit.kastel.eclipse.common.api.artemis.IProjectFileNamingStrategy;
+import edu.kit.kastel.eclipse.common.api.controller.IExerciseArtemisController;
+import edu.kit.kastel.eclipse.common.api.controller.IGradingArtemisController;
+import edu.kit.kastel.eclipse.common.core.artemis.WorkspaceUtil;
+import edu.kit.kastel.sdq.artemis4j.api.ArtemisClientException;
+import edu.kit.kastel.sdq.artemis4j.api.artemis.Exercise;
+import edu.kit.kastel.sdq.artemis4j.api.artemis.assessment.Submission;
+
+/**
+ * Locks, downloads and imports the next submissions of a correction round in
+ * the background while the current one is being graded. Starting the next
+ * assessment can then take an already imported project from this queue instead
+ * of waiting for clone and maven import.
+ * <p>
+ * Prefetched submissions are locked in Artemis. If the queue is reset (e.g.
+ * because another exercise was selected), they stay locked and can be loaded
+ * from the backlog.
+ */
+public class SubmissionPrefetchQueue {
+	private static final ILog LOG = Platform.getLog(SubmissionPrefetchQueue.class);
+
+	private final IGradingArtemisController artemisController;
+	private final IExerciseArtemisController exerciseController;
+	private final IProjectFileNamingStrategy projectNaming;
+
+	private final Deque<PrefetchedSubmission> entries = new ArrayDeque<>();
+	private final List<Runnable> listeners = new CopyOnWriteArrayList<>();
+
+	private Exercise exercise;
+	private int correctionRound;
+	private int depth;
+	private boolean exhausted;
+	private Job fillJob;
+
+	public SubmissionPrefetchQueue(IGradingArtemisController artemisController, IExerciseArtemisController exerciseController,
+			IProjectFileNamingStrategy projectNaming) {
+		this.artemisController = artemisController;
+		this.exerciseController = exerciseController;
+		this.projectNaming = projectNaming;
+	}
+
+	/**
+	 * Takes the oldest prefetched submission for the given exercise and correction
+	 * round. The returned entry may still be importing, see
+	 * {@link PrefetchedSubmission#imported()}.
+	 */
+	public synchronized Optional<PrefetchedSubmission> poll(Exercise exercise, int correctionRound) {
+		if (!this.isCurrent(exercise, correctionRound)) {
+			return Optional.empty();
+		}
+		Optional<PrefetchedSubmission> entry = Optional.ofNullable(this.entries.pollFirst());
+		entry.ifPresent(e -> this.notifyListeners());
+		return entry;
+	}
+
+	/**
+	 * Fills the queue up to the given depth in the background. Switching to
+	 * another exercise or correction round drops the current entries.
+	 */
+	public synchronized void fill(Exercise exercise, int correctionRound, int depth) {
+		if (!this.isCurrent(exercise, correctionRound)) {
+			this.reset();
+			this.exercise = exercise;
+			this.correctionRound = correctionRound;
+		}
+		this.depth = Math.max(0, depth);
+		if (this.depth == 0 || this.exhausted || (this.fillJob != null && this.fillJob.getState() != Job.NONE)) {
+			return;
+		}
+
+		this.fillJob = Job.create("Prefetching next submissions", this::fillQueue);
+		this.fillJob.setPriority(Job.LONG);
+		this.fillJob.schedule();
+	}
+
+	/**
+	 * Drops all entries and stops prefetching.
+	 */
+	public synchronized void reset() {
+		if (this.fillJob != null) {
+			this.fillJob.cancel();
+			this.fillJob = null;
+		}
+		if (!this.entries.isEmpty()) {
+			LOG.info("Dropping " + this.entries.size() + " prefetched submissions. They stay locked and are available in the backlog.");
+		}
+		this.entries.clear();
+		this.exercise = null;
+		this.exhausted = false;
+		this.notifyListeners();
+	}
+
+	/**
+	 * @return the number of prefetched submissions whose import has completed.
+	 */
+	public synchronized int getReadyCount() {
+		return (int) this.entries.stream().filter(e -> e.imported().isDone()).count();
+	}
+
+	/**
+	 * @return the number of prefetched submissions, including those still being
+	 *         imported.
+	 */
+	public synchronized int size() {
+		return this.entries.size();
+	}
+
+	public synchronized int getDepth() {
+		return this.depth;
+	}
+
+	public void addListener(Runnable listener) {
+		this.listeners.add(listener);
+	}
+
+	private void fillQueue(IProgressMonitor monitor) {
+		while (!monitor.isCanceled()) {
+			Exercise currentExercise;
+			int currentRound;
+			synchronized (this) {
+				if (this.exercise == null || this.exhausted || this.entries.size() >= this.depth) {
+					return;
+				}
+				currentExercise = this.exercise;
+				currentRound = this.correctionRound;
+			}
+
+			Optional<Submission> next = this.artemisController.startNextAssessment(currentExercise, currentRound);
+			if (next.isEmpty()) {
+				synchronized (this) {
+					if (this.isCurrent(currentExercise, currentRound)) {
+						this.exhausted = true;
+					}
+				}
+				return;
+			}
+
+			Optional<PrefetchedSubmission> entry = this.download(currentExercise, next.get());
+			if (entry.isEmpty()) {
+				return;
+			}
+			synchronized (this) {
+				if (!this.isCurrent(currentExercise, currentRound)) {
+					LOG.info("Exercise changed while prefetching. Submission " + next.get().getSubmissionId() + " is available in the backlog.");
+					return;
+				}
+				this.entries.addLast(entry.get());
+			}
+			this.notifyListeners();
+		}
+	}
+
+	private Optional<PrefetchedSubmission> download(Exercise exercise, Submission submission) {
+		File workspace = WorkspaceUtil.getWorkspaceFile();
+		File projectDirectory = this.projectNaming.getProjectFileInWorkspace(workspace, exercise, submission);
+		try {
+			this.exerciseController.downloadExerciseAndSubmission(exercise, submission, workspace, this.projectNaming);
+		} catch (ArtemisClientException e) {
+			LOG.error("Prefetching submission " + submission.getSubmissionId() + " failed: " + e.getMessage(), e);
+			return Optional.empty();
+		}
+
+		PrefetchedSubmission entry = new PrefetchedSubmission(submission, new CompletableFuture<>());
+		entry.imported().whenComplete((project, e) -> {
+			if (e != null) {
+				this.drop(entry);
+			}
+			this.notifyListeners();
+		});
+		try {
+			WorkspaceUtil.createEclipseProject(projectDirectory, List.of(entry.imported()::complete));
+		} catch (CoreException e) {
+			LOG.error("Importing prefetched submission " + submission.getSubmissionId() + " failed: " + e.getMessage() + ". It is available in the backlog.",
+					e);
+			entry.imported().completeExceptionally(e);
+			return Optional.empty();
+		}
+		return Optional.of(entry);
+	}
+
+	private synchronized void drop(PrefetchedSubmission entry) {
+		this.entries.remove(entry);
+	}
+
+	private boolean isCurrent(Exercise exercise, int correctionRound) {
+		return this.exercise != null && this.exercise.getExerciseId() == exercise.getExerciseId() && this.correctionRound == correctionRound;
+	}
+
+	private void notifyListeners() {
+		this.listeners.forEach(Runnable::run);
+	}
+
+	/**
+	 * A locked and downloaded submission.
+	 *
+	 * @param submission the locked submission
+	 * @param imported   completes with the eclipse project once the maven update
+	 *                   &amp; build has completed, or exceptionally if the
+	 *                   project could not be created. Failed entries are dropped
+	 *                   from the queue.
+	 */
+	public record PrefetchedSubmission(Submission submission, CompletableFuture<IProject> imported) {
+	}
+}
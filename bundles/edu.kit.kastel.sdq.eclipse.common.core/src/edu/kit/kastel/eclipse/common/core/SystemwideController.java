@@ -3,6 +3,7 @@ package edu.kit.kastel.eclipse.common.core;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Set;
 
 import org.eclipse.jface.preference.IPreferenceStore;
 import org.osgi.framework.Version;
@@ -13,6 +14,7 @@ import edu.kit.kastel.eclipse.common.api.controller.IArtemisController;
 import edu.kit.kastel.eclipse.common.api.controller.IExerciseArtemisController;
 import edu.kit.kastel.eclipse.common.api.controller.ISubmissionLifecycleCallback;
 import edu.kit.kastel.eclipse.common.api.controller.ISystemwideController;
+import edu.kit.kastel.eclipse.common.api.controller.RefreshScope;
 import edu.kit.kastel.eclipse.common.api.controller.IViewInteraction;
 import edu.kit.kastel.eclipse.common.core.artemis.naming.ProjectFileNamingStrategies;
 import edu.kit.kastel.sdq.artemis4j.api.artemis.Course;
@@ -32,7 +34,7 @@ public abstract class SystemwideController extends AbstractController implements
 		this.buildCompletedCallbacks = new ArrayList<>();
 		this.projectFileNamingStrategy = ProjectFileNamingStrategies.DEFAULT.get();
 		var loginController = this.createController(pluginVersion, preferenceStore, handler);
-		this.exerciseController = new ExerciseArtemisController(handler, loginController.getUserLogin(), preferenceStore);
+		this.exerciseController = new ExerciseArtemisController(handler, loginController, preferenceStore);
 	}
 
 	protected abstract IArtemisController createController(Version pluginVersion, IPreferenceStore preferenceStore, IViewInteraction handler);
@@ -55,6 +57,16 @@ public abstract class SystemwideController extends AbstractController implements
 		return somethingNull;
 	}
 
+	@Override
+	public void refresh(Set<RefreshScope> scopes) {
+		if (scopes.contains(RefreshScope.COURSES)) {
+			this.getArtemisController().refreshCourses();
+		}
+		if (scopes.contains(RefreshScope.CREDENTIALS)) {
+			this.exerciseController.resetCredentials();
+		}
+	}
+
 	@Override
 	public void addSubmissionBuildListener(ISubmissionLifecycleCallback callback) {
 		this.buildCompletedCallbacks.add(callback);
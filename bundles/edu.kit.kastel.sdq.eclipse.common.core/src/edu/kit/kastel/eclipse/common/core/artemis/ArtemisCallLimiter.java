@@ -0,0 +1,181 @@
+/* Licensed under EPL-2.0 2024. */
+package edu.kit.kastel.eclipse.common.core.artemis;
+
+import java.time.Duration;
+import java.util.OptionalInt;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+import org.eclipse.core.runtime.ILog;
+import org.eclipse.core.runtime.Platform;
+
+import edu.kit.kastel.eclipse.common.api.messages.Messages;
+import edu.kit.kastel.sdq.artemis4j.api.ArtemisClientException;
+
+/**
+ * Limits the requests to Artemis, so that many tutors retrying at the same time
+ * (e.g. on exam day) do not overload the server.
+ * <ul>
+ * <li>A token bucket limits the request rate, allowing short bursts.</li>
+ * <li>The number of concurrent requests is adapted (additive increase,
+ * multiplicative decrease): it grows slowly while requests succeed and is
+ * halved if Artemis reports an overload (status 429 or 503). Other failures
+ * leave it unchanged.</li>
+ * <li>After an overload, no request is sent for a backoff time, which doubles
+ * on repeated overloads.</li>
+ * </ul>
+ * Requests may have to wait, so they must not be made on the UI thread.
+ */
+public final class ArtemisCallLimiter {
+	private static final ILog LOG = Platform.getLog(ArtemisCallLimiter.class);
+
+	private static final double TOKENS_PER_SECOND = 5;
+	private static final double BURST = 10;
+	private static final double INITIAL_CONCURRENCY = 4;
+	private static final double MAX_CONCURRENCY = 8;
+	private static final Duration MIN_BACKOFF = Duration.ofSeconds(1);
+	private static final Duration MAX_BACKOFF = Duration.ofSeconds(30);
+	private static final Set<Integer> OVERLOAD_STATUS = Set.of(429, 503);
+
+	private static final ArtemisCallLimiter DEFAULT = new ArtemisCallLimiter();
+
+	private final ReentrantLock lock = new ReentrantLock();
+	private final Condition changed = this.lock.newCondition();
+
+	private double tokens = BURST;
+	private long lastRefill = System.nanoTime();
+	private double concurrencyLimit = INITIAL_CONCURRENCY;
+	private int inFlight;
+	private long backoffNanos;
+	private long backoffUntil = System.nanoTime();
+
+	private long calls;
+	private long overloads;
+	private long waitNanos;
+
+	@FunctionalInterface
+	public interface Call<T> {
+		T execute() throws ArtemisClientException;
+	}
+
+	/**
+	 * @param concurrencyLimit the current number of concurrent requests
+	 * @param inFlight         the number of running requests
+	 * @param calls            the number of requests so far
+	 * @param overloads        the number of requests rejected by Artemis due to
+	 *                         overload
+	 * @param waited           the total time requests have been delayed
+	 * @param backoff          the remaining time until requests are sent again
+	 */
+	public record Metrics(double concurrencyLimit, int inFlight, long calls, long overloads, Duration waited, Duration backoff) {
+	}
+
+	public static ArtemisCallLimiter getDefault() {
+		return DEFAULT;
+	}
+
+	ArtemisCallLimiter() {
+	}
+
+	/**
+	 * Waits for a free slot and executes the call.
+	 */
+	public <T> T call(Call<T> call) throws ArtemisClientException {
+		this.acquire();
+		boolean succeeded = false;
+		boolean overloaded = false;
+		try {
+			T result = call.execute();
+			succeeded = true;
+			return result;
+		} catch (ArtemisClientException e) {
+			overloaded = isOverload(e);
+			throw e;
+		} finally {
+			this.release(succeeded, overloaded);
+		}
+	}
+
+	static boolean isOverload(ArtemisClientException e) {
+		OptionalInt status = getStatus(e);
+		return status.isPresent() && OVERLOAD_STATUS.contains(status.getAsInt());
+	}
+
+	/**
+	 * @return the status code of the failed request, see
+	 *         {@link Messages#getStatus(String)}
+	 */
+	static OptionalInt getStatus(ArtemisClientException e) {
+		return Messages.getStatus(e.getMessage());
+	}
+
+	public Metrics getMetrics() {
+		this.lock.lock();
+		try {
+			return new Metrics(this.concurrencyLimit, this.inFlight, this.calls, this.overloads, Duration.ofNanos(this.waitNanos),
+					Duration.ofNanos(Math.max(0, this.backoffUntil - System.nanoTime())));
+		} finally {
+			this.lock.unlock();
+		}
+	}
+
+	private void acquire() throws ArtemisClientException {
+		long start = System.nanoTime();
+		this.lock.lock();
+		try {
+			while (true) {
+				long now = System.nanoTime();
+				this.refill(now);
+				long wait;
+				if (now < this.backoffUntil) {
+					wait = this.backoffUntil - now;
+				} else if (this.inFlight >= (int) this.concurrencyLimit) {
+					// signalled on release
+					wait = TimeUnit.SECONDS.toNanos(1);
+				} else if (this.tokens < 1) {
+					wait = (long) ((1 - this.tokens) / TOKENS_PER_SECOND * TimeUnit.SECONDS.toNanos(1));
+				} else {
+					this.tokens--;
+					this.inFlight++;
+					this.calls++;
+					this.waitNanos += now - start;
+					return;
+				}
+				this.changed.awaitNanos(wait);
+			}
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new ArtemisClientException("Interrupted while waiting for Artemis");
+		} finally {
+			this.lock.unlock();
+		}
+	}
+
+	private void release(boolean succeeded, boolean overloaded) {
+		this.lock.lock();
+		try {
+			this.inFlight--;
+			if (overloaded) {
+				this.overloads++;
+				this.concurrencyLimit = Math.max(1, this.concurrencyLimit / 2);
+				this.backoffNanos = Math.min(Math.max(this.backoffNanos * 2, MIN_BACKOFF.toNanos()), MAX_BACKOFF.toNanos());
+				this.backoffUntil = System.nanoTime() + this.backoffNanos;
+				LOG.warn("Artemis is overloaded, waiting " + Duration.ofNanos(this.backoffNanos).toMillis() + " ms, concurrency limit "
+						+ (int) this.concurrencyLimit);
+			} else if (succeeded) {
+				this.concurrencyLimit = Math.min(MAX_CONCURRENCY, this.concurrencyLimit + 1 / this.concurrencyLimit);
+				this.backoffNanos = 0;
+			}
+			this.changed.signalAll();
+		} finally {
+			this.lock.unlock();
+		}
+	}
+
+	private void refill(long now) {
+		this.tokens = Math.min(BURST, this.tokens + (now - this.lastRefill) * TOKENS_PER_SECOND / TimeUnit.SECONDS.toNanos(1));
+		this.lastRefill = now;
+	}
+}
@@ -0,0 +1,180 @@
+/* Licensed under EPL-2.0 2024. */
+package edu.kit.kastel.eclipse.common.core.artemis;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.OptionalInt;
+import java.util.Set;
+
+import edu.kit.kastel.eclipse.common.api.artemis.IProjectFileNamingStrategy;
+import edu.kit.kastel.sdq.artemis4j.api.artemis.Exercise;
+import edu.kit.kastel.sdq.artemis4j.api.artemis.assessment.Submission;
+
+/**
+ * Keeps the submissions the user has begun to assess, indexed by submission id
+ * and by project name. The registry is seeded from Artemis once per exercise
+ * (and from the projects in the workspace) and afterwards updated when
+ * submissions are locked or submitted, so looking up a project name needs
+ * neither a request nor a recomputation of all project names. Submissions whose
+ * assessment has been submitted are only fetched again by their id when they
+ * are selected.
+ */
+public class BegunSubmissionRegistry {
+	private final IProjectFileNamingStrategy namingStrategy;
+	private final Map<Integer, Entries> exercises = new HashMap<>();
+
+	private static final class Entries {
+		private final Map<Integer, Submission> submissions = new HashMap<>();
+		private final Map<String, Integer> idsByProjectName = new HashMap<>();
+		private final Map<Integer, String> projectNamesById = new HashMap<>();
+		// submitted since they were fetched, so they have to be fetched again
+		private final Set<Integer> outdated = new HashSet<>();
+		// whether the submissions have been fetched from Artemis
+		private boolean complete;
+
+		private void add(int submissionId, String projectName) {
+			String previous = this.projectNamesById.put(submissionId, projectName);
+			if (previous != null) {
+				this.idsByProjectName.remove(previous);
+			}
+			this.idsByProjectName.put(projectName, submissionId);
+		}
+
+		private void remove(int submissionId) {
+			this.submissions.remove(submissionId);
+			this.outdated.remove(submissionId);
+			String projectName = this.projectNamesById.remove(submissionId);
+			if (projectName != null) {
+				this.idsByProjectName.remove(projectName);
+			}
+		}
+	}
+
+	public BegunSubmissionRegistry(IProjectFileNamingStrategy namingStrategy) {
+		this.namingStrategy = namingStrategy;
+	}
+
+	/**
+	 * @return whether the begun submissions of the exercise have been fetched from
+	 *         Artemis since the last {@link #invalidate(Exercise)}
+	 */
+	public synchronized boolean isComplete(Exercise exercise) {
+		Entries entries = this.exercises.get(exercise.getExerciseId());
+		return entries != null && entries.complete;
+	}
+
+	/**
+	 * Replaces the submissions of the exercise with the ones fetched from Artemis.
+	 */
+	public synchronized void seed(Exercise exercise, List<Submission> submissions) {
+		Entries entries = new Entries();
+		submissions.forEach(submission -> this.put(entries, exercise, submission));
+		entries.complete = true;
+		this.exercises.put(exercise.getExerciseId(), entries);
+	}
+
+	/**
+	 * Adds the projects of the exercise that are in the workspace. Their
+	 * submissions are only known by id until they are fetched. Once the
+	 * submissions have been fetched from Artemis, projects of other submissions
+	 * (e.g. submitted ones) are ignored.
+	 */
+	public synchronized void seedFromWorkspace(Exercise exercise, Collection<String> projectNames) {
+		Entries entries = this.entries(exercise);
+		if (entries.complete) {
+			return;
+		}
+		for (String projectName : projectNames) {
+			OptionalInt submissionId = this.namingStrategy.getSubmissionId(exercise, projectName);
+			if (submissionId.isPresent() && !entries.submissions.containsKey(submissionId.getAsInt())) {
+				entries.add(submissionId.getAsInt(), projectName);
+			}
+		}
+	}
+
+	/**
+	 * Adds a submission that has been locked.
+	 */
+	public synchronized void put(Exercise exercise, Submission submission) {
+		this.put(this.entries(exercise), exercise, submission);
+	}
+
+	/**
+	 * Moves a submission that has been submitted to its new project name. The
+	 * submission is fetched again by its id once it is looked up, the other
+	 * submissions are kept.
+	 */
+	public synchronized void markSubmitted(Exercise exercise, Submission submission) {
+		Entries entries = this.entries(exercise);
+		String projectName = this.namingStrategy.getSubmittedProjectFileInWorkspace(WorkspaceUtil.getWorkspaceFile(), exercise, submission).getName();
+		entries.submissions.put(submission.getSubmissionId(), submission);
+		entries.outdated.add(submission.getSubmissionId());
+		entries.add(submission.getSubmissionId(), projectName);
+	}
+
+	/**
+	 * The submissions of the exercise are fetched again on the next access.
+	 */
+	public synchronized void invalidate(Exercise exercise) {
+		this.entries(exercise).complete = false;
+	}
+
+	/**
+	 * @return the project names of the begun submissions. Projects only known from
+	 *         the workspace are included until the submissions have been fetched
+	 *         from Artemis.
+	 */
+	public synchronized List<String> getProjectNames(Exercise exercise) {
+		Entries entries = this.entries(exercise);
+		return entries.idsByProjectName.entrySet().stream().filter(entry -> isBegun(entries, entry.getValue())).map(Map.Entry::getKey).sorted()
+				.toList();
+	}
+
+	/**
+	 * @return the submission, if it has been fetched already and not been
+	 *         submitted since
+	 */
+	public synchronized Optional<Submission> getSubmission(Exercise exercise, String projectName) {
+		Entries entries = this.entries(exercise);
+		Integer submissionId = entries.idsByProjectName.get(projectName);
+		if (submissionId == null || entries.outdated.contains(submissionId)) {
+			return Optional.empty();
+		}
+		return Optional.ofNullable(entries.submissions.get(submissionId));
+	}
+
+	/**
+	 * @return the id of the submission of the project, also if only known from the
+	 *         workspace (as long as the submissions have not been fetched from
+	 *         Artemis)
+	 */
+	public synchronized OptionalInt getSubmissionId(Exercise exercise, String projectName) {
+		Entries entries = this.entries(exercise);
+		Integer submissionId = entries.idsByProjectName.get(projectName);
+		return submissionId == null || !isBegun(entries, submissionId) ? OptionalInt.empty() : OptionalInt.of(submissionId);
+	}
+
+	/**
+	 * Projects only known from the workspace may belong to submissions that are
+	 * not begun (anymore), so they are dropped once the begun submissions are
+	 * known.
+	 */
+	private static boolean isBegun(Entries entries, int submissionId) {
+		return !entries.complete || entries.submissions.containsKey(submissionId);
+	}
+
+	private void put(Entries entries, Exercise exercise, Submission submission) {
+		String projectName = this.namingStrategy.getProjectFileInWorkspace(WorkspaceUtil.getWorkspaceFile(), exercise, submission).getName();
+		entries.submissions.put(submission.getSubmissionId(), submission);
+		entries.outdated.remove(submission.getSubmissionId());
+		entries.add(submission.getSubmissionId(), projectName);
+	}
+
+	private Entries entries(Exercise exercise) {
+		return this.exercises.computeIfAbsent(exercise.getExerciseId(), id -> new Entries());
+	}
+}
@@ -0,0 +1,112 @@
+/* Licensed under EPL-2.0 2024. */
+package edu.kit.kastel.eclipse.common.core.artemis;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+import edu.kit.kastel.sdq.artemis4j.api.ArtemisClientException;
+import edu.kit.kastel.sdq.artemis4j.api.artemis.Course;
+import edu.kit.kastel.sdq.artemis4j.api.artemis.Exercise;
+import edu.kit.kastel.sdq.artemis4j.api.artemis.exam.Exam;
+import edu.kit.kastel.sdq.artemis4j.api.artemis.exam.ExerciseGroup;
+
+/**
+ * Index of the courses, exams and exercises available in Artemis for lookups by
+ * short name or title. The exams of a course are fetched on first access and
+ * indexed afterwards.
+ */
+public class CourseIndex {
+	private final List<Course> courses;
+	private final Map<String, Course> coursesByShortName = new HashMap<>();
+	private final Set<String> ambiguousShortNames = new HashSet<>();
+
+	// per course short name, in the order of Artemis
+	private final Map<String, Map<String, Exam>> examsByCourse = new HashMap<>();
+	private final Map<String, Map<String, Exercise>> exercisesByCourse = new HashMap<>();
+
+	public CourseIndex(List<Course> courses) {
+		this.courses = List.copyOf(courses);
+		for (Course course : courses) {
+			if (this.coursesByShortName.putIfAbsent(course.getShortName(), course) != null) {
+				this.ambiguousShortNames.add(course.getShortName());
+			}
+		}
+	}
+
+	public List<Course> getCourses() {
+		return this.courses;
+	}
+
+	public List<String> getCourseShortNames() {
+		return this.courses.stream().map(Course::getShortName).toList();
+	}
+
+	/**
+	 * @return the course with the given short name, or empty if there is no or
+	 *         more than one such course.
+	 */
+	public Optional<Course> getCourse(String courseShortName) {
+		if (this.ambiguousShortNames.contains(courseShortName)) {
+			return Optional.empty();
+		}
+		return Optional.ofNullable(this.coursesByShortName.get(courseShortName));
+	}
+
+	public boolean isAmbiguous(String courseShortName) {
+		return this.ambiguousShortNames.contains(courseShortName);
+	}
+
+	public synchronized Collection<Exam> getExams(Course course) throws ArtemisClientException {
+		return this.getExamsByTitle(course).values();
+	}
+
+	/**
+	 * Searches the exams of the course. Exam titles are only unique within a
+	 * course.
+	 */
+	public synchronized Optional<Exam> getExam(Course course, String examTitle) throws ArtemisClientException {
+		return Optional.ofNullable(this.getExamsByTitle(course).get(examTitle));
+	}
+
+	/**
+	 * Searches the exercises of the course and of its exams.
+	 */
+	public synchronized Optional<Exercise> getExercise(Course course, String exerciseShortName) throws ArtemisClientException {
+		Map<String, Exercise> exercises = this.exercisesByCourse.get(course.getShortName());
+		if (exercises == null) {
+			exercises = new HashMap<>();
+			for (Exercise exercise : course.getExercises()) {
+				exercises.putIfAbsent(exercise.getShortName(), exercise);
+			}
+			for (Exam exam : this.getExamsByTitle(course).values()) {
+				for (Exercise exercise : getExercises(exam)) {
+					exercises.putIfAbsent(exercise.getShortName(), exercise);
+				}
+			}
+			this.exercisesByCourse.put(course.getShortName(), exercises);
+		}
+		return Optional.ofNullable(exercises.get(exerciseShortName));
+	}
+
+	public static List<Exercise> getExercises(Exam exam) {
+		return exam.getExerciseGroups().stream().map(ExerciseGroup::getExercises).flatMap(Collection::stream).toList();
+	}
+
+	private Map<String, Exam> getExamsByTitle(Course course) throws ArtemisClientException {
+		Map<String, Exam> exams = this.examsByCourse.get(course.getShortName());
+		if (exams == null) {
+			exams = new LinkedHashMap<>();
+			for (Exam exam : course.getExams()) {
+				exams.putIfAbsent(exam.getTitle(), exam);
+			}
+			this.examsByCourse.put(course.getShortName(), exams);
+		}
+		return exams;
+	}
+}
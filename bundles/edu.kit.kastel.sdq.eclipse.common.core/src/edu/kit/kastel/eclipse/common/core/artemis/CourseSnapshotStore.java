@@ -0,0 +1,146 @@
+/* Licensed under EPL-2.0 2024. */
+package edu.kit.kastel.eclipse.common.core.artemis;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Optional;
+
+import org.eclipse.core.runtime.ILog;
+import org.eclipse.core.runtime.Platform;
+import org.osgi.framework.FrameworkUtil;
+
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * Persists the names of the courses (and of their exams, once they have been
+ * fetched), so the course selection can be filled before the courses have been
+ * fetched from Artemis. A snapshot is used while it is younger than the TTL and
+ * revalidated in the background: if the names fetched from Artemis have the
+ * same hash, only the timestamp of the snapshot is updated.
+ */
+public class CourseSnapshotStore {
+	private static final ILog LOG = Platform.getLog(CourseSnapshotStore.class);
+	private static final ObjectMapper MAPPER = new ObjectMapper().configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false);
+
+	private final File file;
+	private final Duration ttl;
+	private Snapshot snapshot;
+
+	/**
+	 * @param courses    the courses in the order of Artemis
+	 * @param fetchedAt  the time of the last revalidation (epoch milliseconds)
+	 * @param hash       hash of the course short names
+	 */
+	public record Snapshot(List<CourseNames> courses, long fetchedAt, String hash) {
+	}
+
+	/**
+	 * @param examTitles the exam titles or null, if the exams have not been
+	 *                   fetched
+	 */
+	public record CourseNames(String shortName, List<String> examTitles) {
+	}
+
+	/**
+	 * @param key identifies the snapshot in the state location, e.g. Artemis URL
+	 *            and user
+	 */
+	public static CourseSnapshotStore forKey(String key, Duration ttl) {
+		File file = Platform.getStateLocation(FrameworkUtil.getBundle(CourseSnapshotStore.class)).append("courses-" + hash(List.of(key)) + ".json")
+				.toFile();
+		return new CourseSnapshotStore(file, ttl);
+	}
+
+	public CourseSnapshotStore(File file, Duration ttl) {
+		this.file = file;
+		this.ttl = ttl;
+	}
+
+	/**
+	 * @return the snapshot, if one exists that is younger than the TTL.
+	 */
+	public synchronized Optional<Snapshot> getFresh() {
+		if (this.snapshot == null && this.file.isFile()) {
+			try {
+				this.snapshot = MAPPER.readValue(this.file, Snapshot.class);
+			} catch (IOException e) {
+				LOG.warn("Could not read course snapshot " + this.file + ": " + e.getMessage());
+			}
+		}
+		if (this.snapshot == null || this.snapshot.fetchedAt() + this.ttl.toMillis() < System.currentTimeMillis()) {
+			return Optional.empty();
+		}
+		return Optional.of(this.snapshot);
+	}
+
+	public Optional<List<String>> getExamTitles(String courseShortName) {
+		return this.getFresh().flatMap(s -> s.courses().stream().filter(c -> c.shortName().equals(courseShortName)).findFirst())
+				.map(CourseNames::examTitles);
+	}
+
+	/**
+	 * Revalidates the snapshot with the course names fetched from Artemis.
+	 *
+	 * @return whether the course names have changed
+	 */
+	public synchronized boolean revalidate(List<String> courseShortNames) {
+		String hash = hash(courseShortNames);
+		Snapshot old = this.getFresh().orElse(this.snapshot);
+		boolean changed = old == null || !hash.equals(old.hash());
+		List<CourseNames> courses;
+		if (changed) {
+			courses = courseShortNames.stream().map(name -> new CourseNames(name, null)).toList();
+		} else {
+			courses = old.courses();
+		}
+		this.write(new Snapshot(courses, System.currentTimeMillis(), hash));
+		return changed;
+	}
+
+	/**
+	 * Stores the exam titles of a course of the snapshot.
+	 */
+	public synchronized void updateExamTitles(String courseShortName, List<String> examTitles) {
+		if (this.snapshot == null) {
+			return;
+		}
+		List<CourseNames> courses = new ArrayList<>();
+		for (CourseNames course : this.snapshot.courses()) {
+			courses.add(course.shortName().equals(courseShortName) ? new CourseNames(courseShortName, List.copyOf(examTitles)) : course);
+		}
+		if (!courses.equals(this.snapshot.courses())) {
+			this.write(new Snapshot(courses, this.snapshot.fetchedAt(), this.snapshot.hash()));
+		}
+	}
+
+	private void write(Snapshot newSnapshot) {
+		this.snapshot = newSnapshot;
+		try {
+			this.file.getParentFile().mkdirs();
+			MAPPER.writeValue(this.file, newSnapshot);
+		} catch (IOException e) {
+			LOG.warn("Could not write course snapshot " + this.file + ": " + e.getMessage());
+		}
+	}
+
+	private static String hash(List<String> values) {
+		try {
+			MessageDigest digest = MessageDigest.getInstance("SHA-256");
+			for (String value : values) {
+				digest.update(value.getBytes(StandardCharsets.UTF_8));
+				digest.update((byte) 0);
+			}
+			return HexFormat.of().formatHex(digest.digest(), 0, 8);
+		} catch (NoSuchAlgorithmException e) {
+			return Integer.toHexString(values.hashCode());
+		}
+	}
+}
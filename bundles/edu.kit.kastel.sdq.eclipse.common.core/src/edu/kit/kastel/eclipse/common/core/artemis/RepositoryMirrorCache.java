@@ -0,0 +1,127 @@
+/* Licensed under EPL-2.0 2024. */
+package edu.kit.kastel.eclipse.common.core.artemis;
+
+import java.io.File;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.HexFormat;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.eclipse.core.runtime.ILog;
+import org.eclipse.core.runtime.Platform;
+import org.eclipse.jgit.lib.NullProgressMonitor;
+import org.eclipse.jgit.lib.ProgressMonitor;
+import org.osgi.framework.FrameworkUtil;
+
+import edu.kit.kastel.eclipse.common.client.git.GitCredentials;
+import edu.kit.kastel.eclipse.common.client.git.GitException;
+import edu.kit.kastel.eclipse.common.client.git.GitHandler;
+
+/**
+ * Keeps local bare mirrors of repositories that are shared by all submissions
+ * of an exercise (e.g. the test repository). Checkouts are created from the
+ * mirror with hardlinked objects, so the repository is only transferred once
+ * and afterwards updated with incremental fetches.
+ */
+public class RepositoryMirrorCache {
+	private static final ILog LOG = Platform.getLog(RepositoryMirrorCache.class);
+	private static final Duration REFRESH_INTERVAL = Duration.ofMinutes(5);
+
+	private final File baseDirectory;
+	private final Map<String, Object> locks = new ConcurrentHashMap<>();
+	private final Map<String, Instant> lastRefresh = new ConcurrentHashMap<>();
+
+	public RepositoryMirrorCache() {
+		this(Platform.getStateLocation(FrameworkUtil.getBundle(RepositoryMirrorCache.class)).append("mirrors").toFile());
+	}
+
+	public RepositoryMirrorCache(File baseDirectory) {
+		this.baseDirectory = baseDirectory;
+	}
+
+	/**
+	 * Creates or updates the mirror of the given repository. Updates are skipped
+	 * if the mirror has been updated recently.
+	 */
+	public void refresh(String repoURL, GitCredentials credentials) throws GitException {
+		this.refresh(repoURL, credentials, NullProgressMonitor.INSTANCE);
+	}
+
+	private void refresh(String repoURL, GitCredentials credentials, ProgressMonitor monitor) throws GitException {
+		synchronized (this.lockFor(repoURL)) {
+			Instant last = this.lastRefresh.get(repoURL);
+			if (last != null && last.plus(REFRESH_INTERVAL).isAfter(Instant.now())) {
+				return;
+			}
+			File mirror = this.getMirrorDirectory(repoURL);
+			LOG.info("Updating mirror of " + repoURL + " in " + mirror);
+			GitHandler.mirrorRepo(mirror, repoURL, credentials, monitor);
+			this.lastRefresh.put(repoURL, Instant.now());
+		}
+	}
+
+	/**
+	 * Creates or updates the mirror of the given repository and returns its
+	 * directory, e.g. to reference its objects from other clones.
+	 */
+	public File getMirror(String repoURL, GitCredentials credentials, ProgressMonitor monitor) throws GitException {
+		this.refresh(repoURL, credentials, monitor);
+		return this.getMirrorDirectory(repoURL);
+	}
+
+	/**
+	 * Forces an update of the mirror on the next access. The mirror itself is
+	 * kept, since existing clones may reference its objects.
+	 */
+	public void invalidate(String repoURL) {
+		this.lastRefresh.remove(repoURL);
+	}
+
+	/**
+	 * Clones the given repository to the destination using the local mirror. If
+	 * the mirror cannot be used, the repository is cloned from the remote.
+	 */
+	public void cloneRepo(File destination, String repoURL, GitCredentials credentials, ProgressMonitor monitor) throws GitException {
+		synchronized (this.lockFor(repoURL)) {
+			try {
+				this.refresh(repoURL, credentials, monitor);
+				GitHandler.cloneFromMirror(destination, this.getMirrorDirectory(repoURL), repoURL);
+				return;
+			} catch (GitException e) {
+				if (monitor.isCancelled()) {
+					throw e;
+				}
+				LOG.warn("Cloning " + repoURL + " from local mirror failed, cloning from remote: " + e.getMessage(), e);
+				this.lastRefresh.remove(repoURL);
+			}
+		}
+		GitHandler.cloneRepo(destination, repoURL, credentials, monitor);
+	}
+
+	/**
+	 * @return the directory of the mirror of the given repository, which may not
+	 *         exist yet
+	 */
+	public File getMirrorDirectory(String repoURL) {
+		String name = repoURL.replaceAll("/+$", "");
+		name = name.substring(name.lastIndexOf('/') + 1).replaceAll("[^A-Za-z0-9._-]", "_");
+		return new File(this.baseDirectory, name + "-" + hash(repoURL));
+	}
+
+	private Object lockFor(String repoURL) {
+		return this.locks.computeIfAbsent(repoURL, url -> new Object());
+	}
+
+	private static String hash(String value) {
+		try {
+			byte[] digest = MessageDigest.getInstance("SHA-256").digest(value.getBytes(StandardCharsets.UTF_8));
+			return HexFormat.of().formatHex(digest, 0, 8);
+		} catch (NoSuchAlgorithmException e) {
+			return Integer.toHexString(value.hashCode());
+		}
+	}
+}
@@ -14,6 +14,7 @@ import org.eclipse.core.internal.events.BuildCommand;
 import org.eclipse.core.resources.ICommand;
 import org.eclipse.core.resources.IProject;
 import org.eclipse.core.resources.IProjectDescription;
+import org.eclipse.core.resources.IResource;
 import org.eclipse.core.resources.ResourcesPlugin;
 import org.eclipse.core.runtime.CoreException;
 import org.eclipse.core.runtime.ILog;
@@ -25,6 +26,8 @@ import org.eclipse.m2e.core.internal.IMavenConstants;
 import org.eclipse.m2e.core.ui.internal.UpdateMavenProjectJob;
 
 import edu.kit.kastel.eclipse.common.api.controller.ISubmissionLifecycleCallback;
+import edu.kit.kastel.eclipse.common.core.metrics.ImportMetrics;
+import edu.kit.kastel.eclipse.common.core.metrics.ImportMetrics.Phase;
 
 @SuppressWarnings("restriction")
 public class WorkspaceUtil {
@@ -47,6 +50,7 @@ public class WorkspaceUtil {
 	 * @param buildCallbacks Are called when the triggered build has completed
 	 */
 	public static void createEclipseProject(final String projectName, List<ISubmissionLifecycleCallback> buildCallbacks) throws CoreException {
+		long start = System.nanoTime();
 		final IProjectDescription description = ResourcesPlugin.getWorkspace().newProjectDescription(projectName);
 
 		final String[] natures = { JavaCore.NATURE_ID, IMavenConstants.NATURE_ID };
@@ -61,11 +65,14 @@ public class WorkspaceUtil {
 		project.create(null);
 		project.open(null);
 		project.setDescription(description, null);
+		ImportMetrics.getDefault().recordSince(Phase.CREATE_PROJECT, projectName, start);
 
+		long buildStart = System.nanoTime();
 		var job = new UpdateMavenProjectJob(List.of(project));
 		job.addJobChangeListener(new JobChangeAdapter() {
 			@Override
 			public void done(IJobChangeEvent e) {
+				ImportMetrics.getDefault().recordSince(Phase.MAVEN_UPDATE_BUILD, projectName, buildStart);
 				LOG.info("Maven update & build completed. Notifying " + buildCallbacks.size() + " listeners");
 				buildCallbacks.forEach(c -> c.onPhaseCompleted(project));
 			}
@@ -73,6 +80,28 @@ public class WorkspaceUtil {
 		job.schedule();
 	}
 
+	/**
+	 * Refreshes an EXISTING eclipse project after its files have been updated
+	 * outside of eclipse. The project configuration is kept, changed files are
+	 * built incrementally.
+	 *
+	 * @param buildCallbacks Are called when the project has been refreshed
+	 * @return false, if the workspace contains no project with the given name
+	 */
+	public static boolean refreshEclipseProject(final String projectName, List<ISubmissionLifecycleCallback> buildCallbacks) throws CoreException {
+		IProject project = ResourcesPlugin.getWorkspace().getRoot().getProject(projectName);
+		if (!project.exists()) {
+			return false;
+		}
+		if (!project.isOpen()) {
+			project.open(null);
+		}
+		project.refreshLocal(IResource.DEPTH_INFINITE, null);
+		LOG.info("Project refreshed. Notifying " + buildCallbacks.size() + " listeners");
+		buildCallbacks.forEach(c -> c.onPhaseCompleted(project));
+		return true;
+	}
+
 	private static ICommand createBuildCommand(String name) {
 		BuildCommand command = new BuildCommand();
 		command.setBuilderName(name);
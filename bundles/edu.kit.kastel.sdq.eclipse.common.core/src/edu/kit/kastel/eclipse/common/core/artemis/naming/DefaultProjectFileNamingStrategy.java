@@ -2,6 +2,9 @@
 package edu.kit.kastel.eclipse.common.core.artemis.naming;
 
 import java.io.File;
+import java.util.OptionalInt;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
 
 import edu.kit.kastel.eclipse.common.api.artemis.IProjectFileNamingStrategy;
 import edu.kit.kastel.sdq.artemis4j.api.artemis.Exercise;
@@ -16,6 +19,8 @@ import edu.kit.kastel.sdq.artemis4j.api.artemis.assessment.Submission;
  *
  */
 public class DefaultProjectFileNamingStrategy implements IProjectFileNamingStrategy {
+	private static final Pattern SUBMISSION_SUFFIX = Pattern.compile("-submission-(\\d{1,9})(-locked)?$");
+
 	/**
 	 * Create the Strategy.
 	 */
@@ -29,17 +34,34 @@ public class DefaultProjectFileNamingStrategy implements IProjectFileNamingStrat
 
 	@Override
 	public File getProjectFileInWorkspace(File workspaceDirectory, Exercise exercise, Submission submission) {
+		var result = submission == null ? null : submission.getResult(submission.getCorrectionRound());
+		return this.getProjectFile(workspaceDirectory, exercise, submission, result != null && result.completionDate != null);
+	}
+
+	@Override
+	public File getSubmittedProjectFileInWorkspace(File workspaceDirectory, Exercise exercise, Submission submission) {
+		return this.getProjectFile(workspaceDirectory, exercise, submission, true);
+	}
+
+	private File getProjectFile(File workspaceDirectory, Exercise exercise, Submission submission, boolean completed) {
 		String projectName = "";
 		projectName += "exercise-" + exercise.getExerciseId() + "-" + exercise.getShortName();
 		if (submission != null) {
-			var result = submission.getResult(submission.getCorrectionRound());
-
 			projectName += "-" + submission.getParticipantIdentifier();
 			projectName += "-round-" + (submission.getCorrectionRound() + 1);
 			projectName += "-submission-" + submission.getSubmissionId();
-			projectName += (result != null && result.completionDate != null) ? "" : "-locked";
+			projectName += completed ? "" : "-locked";
 		}
 		return new File(workspaceDirectory, projectName);
 	}
 
+	@Override
+	public OptionalInt getSubmissionId(Exercise exercise, String projectName) {
+		if (!projectName.startsWith("exercise-" + exercise.getExerciseId() + "-" + exercise.getShortName() + "-")) {
+			return OptionalInt.empty();
+		}
+		Matcher matcher = SUBMISSION_SUFFIX.matcher(projectName);
+		return matcher.find() ? OptionalInt.of(Integer.parseInt(matcher.group(1))) : OptionalInt.empty();
+	}
+
 }
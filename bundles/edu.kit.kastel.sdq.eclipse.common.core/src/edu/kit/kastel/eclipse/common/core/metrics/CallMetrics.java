@@ -0,0 +1,144 @@
+/* Licensed under EPL-2.0 2024. */
+package edu.kit.kastel.eclipse.common.core.metrics;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Records the latency of the requests to Artemis per endpoint in histograms
+ * with fixed buckets, so recording a request does not allocate. Additionally,
+ * errors and the number of returned items (e.g. submissions or courses) are
+ * counted.
+ */
+public final class CallMetrics {
+	// upper bounds of the buckets, the last bucket is unbounded
+	private static final long[] BUCKET_BOUNDS_MILLIS = { 5, 10, 25, 50, 100, 250, 500, 1000, 2500, 5000, 10000, 30000 };
+
+	private static final CallMetrics DEFAULT = new CallMetrics();
+
+	private final ConcurrentMap<String, Histogram> endpoints = new ConcurrentHashMap<>();
+
+	/**
+	 * The state of one endpoint at the time of the snapshot.
+	 *
+	 * @param buckets the number of requests per bucket, see
+	 *                {@link CallMetrics#getBucketBounds()}
+	 */
+	public record EndpointSnapshot(String endpoint, long calls, long errors, long items, Duration total, Duration max, long[] buckets) {
+		public Duration mean() {
+			return this.calls == 0 ? Duration.ZERO : this.total.dividedBy(this.calls);
+		}
+
+		/**
+		 * @return the upper bound of the bucket containing the percentile, or the
+		 *         maximum for the last bucket
+		 */
+		public Duration percentile(double percentile) {
+			long rank = (long) Math.ceil(this.calls * percentile / 100);
+			long count = 0;
+			for (int i = 0; i < BUCKET_BOUNDS_MILLIS.length; i++) {
+				count += this.buckets[i];
+				if (count >= rank && count > 0) {
+					return Duration.ofMillis(Math.min(BUCKET_BOUNDS_MILLIS[i], this.max.toMillis()));
+				}
+			}
+			return this.max;
+		}
+	}
+
+	public static CallMetrics getDefault() {
+		return DEFAULT;
+	}
+
+	/**
+	 * @return the upper bounds of the buckets in milliseconds (exclusive the last,
+	 *         unbounded bucket)
+	 */
+	public static List<Long> getBucketBounds() {
+		return Arrays.stream(BUCKET_BOUNDS_MILLIS).boxed().toList();
+	}
+
+	/**
+	 * @param items the number of items returned by the request, or 0
+	 */
+	public void record(String endpoint, long durationNanos, boolean failed, long items) {
+		Histogram histogram = this.endpoints.get(endpoint);
+		if (histogram == null) {
+			histogram = this.endpoints.computeIfAbsent(endpoint, e -> new Histogram());
+		}
+		histogram.record(durationNanos, failed, items);
+	}
+
+	public List<EndpointSnapshot> getSnapshot() {
+		return this.endpoints.entrySet().stream().map(entry -> entry.getValue().snapshot(entry.getKey()))
+				.sorted(Comparator.comparing(EndpointSnapshot::endpoint)).toList();
+	}
+
+	public void reset() {
+		this.endpoints.clear();
+	}
+
+	/**
+	 * @return the snapshot as CSV, one line per endpoint
+	 */
+	public String toCsv() {
+		StringBuilder csv = new StringBuilder("endpoint,calls,errors,items,meanMillis,p50Millis,p90Millis,p99Millis,maxMillis");
+		for (long bound : BUCKET_BOUNDS_MILLIS) {
+			csv.append(",lt").append(bound);
+		}
+		csv.append(",inf").append(System.lineSeparator());
+		for (EndpointSnapshot snapshot : this.getSnapshot()) {
+			csv.append(snapshot.endpoint()).append(',').append(snapshot.calls()).append(',').append(snapshot.errors()).append(',').append(snapshot.items());
+			for (Duration duration : List.of(snapshot.mean(), snapshot.percentile(50), snapshot.percentile(90), snapshot.percentile(99), snapshot.max())) {
+				csv.append(',').append(duration.toMillis());
+			}
+			for (long count : snapshot.buckets()) {
+				csv.append(',').append(count);
+			}
+			csv.append(System.lineSeparator());
+		}
+		return csv.toString();
+	}
+
+	private static final class Histogram {
+		private final AtomicLongArray buckets = new AtomicLongArray(BUCKET_BOUNDS_MILLIS.length + 1);
+		private final LongAdder calls = new LongAdder();
+		private final LongAdder errors = new LongAdder();
+		private final LongAdder items = new LongAdder();
+		private final LongAdder totalNanos = new LongAdder();
+		private final AtomicLong maxNanos = new AtomicLong();
+
+		void record(long durationNanos, boolean failed, long itemCount) {
+			long millis = TimeUnit.NANOSECONDS.toMillis(durationNanos);
+			int bucket = 0;
+			while (bucket < BUCKET_BOUNDS_MILLIS.length && millis >= BUCKET_BOUNDS_MILLIS[bucket]) {
+				bucket++;
+			}
+			this.buckets.incrementAndGet(bucket);
+			this.calls.increment();
+			if (failed) {
+				this.errors.increment();
+			}
+			this.items.add(itemCount);
+			this.totalNanos.add(durationNanos);
+			this.maxNanos.accumulateAndGet(durationNanos, Math::max);
+		}
+
+		EndpointSnapshot snapshot(String endpoint) {
+			long[] counts = new long[this.buckets.length()];
+			for (int i = 0; i < counts.length; i++) {
+				counts[i] = this.buckets.get(i);
+			}
+			return new EndpointSnapshot(endpoint, this.calls.sum(), this.errors.sum(), this.items.sum(), Duration.ofNanos(this.totalNanos.sum()),
+					Duration.ofNanos(this.maxNanos.get()), counts);
+		}
+	}
+}
@@ -0,0 +1,119 @@
+/* Licensed under EPL-2.0 2024. */
+package edu.kit.kastel.eclipse.common.core.metrics;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.List;
+import java.util.Locale;
+
+import org.eclipse.core.runtime.ILog;
+import org.eclipse.core.runtime.Platform;
+import org.osgi.framework.FrameworkUtil;
+
+/**
+ * Records how long the phases of starting an assessment take (locking, git
+ * transfer and checkout, project creation, maven update &amp; build). The last
+ * samples are kept in memory, all samples are appended to a CSV file in the
+ * state location of the plugin. The file is rolled over once it gets too
+ * large, keeping one old file.
+ */
+public final class ImportMetrics {
+	private static final ILog LOG = Platform.getLog(ImportMetrics.class);
+	private static final int CAPACITY = 500;
+	private static final long MAX_FILE_SIZE = 1024 * 1024;
+	private static final String HEADER = "timestamp,phase,subject,durationMillis,bytes,objects,objectsPerSecond";
+
+	private static ImportMetrics instance;
+
+	private final Path file;
+	private final Deque<Sample> samples = new ArrayDeque<>();
+
+	public enum Phase {
+		LOCK, CLONE, GIT_TRANSFER, GIT_CHECKOUT, CREATE_PROJECT, MAVEN_UPDATE_BUILD
+	}
+
+	/**
+	 * A single measurement.
+	 *
+	 * @param bytes   bytes received, or 0 if unknown
+	 * @param objects git objects received, or 0 if unknown
+	 */
+	public record Sample(Instant timestamp, Phase phase, String subject, Duration duration, long bytes, long objects) {
+		public double objectsPerSecond() {
+			long nanos = this.duration.toNanos();
+			return nanos <= 0 ? 0 : this.objects * 1e9 / nanos;
+		}
+
+		private String toCsv() {
+			return String.join(",", this.timestamp.toString(), this.phase.name(), '"' + this.subject.replace("\"", "\"\"") + '"',
+					String.valueOf(this.duration.toMillis()), String.valueOf(this.bytes), String.valueOf(this.objects),
+					String.format(Locale.ROOT, "%.1f", this.objectsPerSecond()));
+		}
+	}
+
+	public static synchronized ImportMetrics getDefault() {
+		if (instance == null) {
+			instance = new ImportMetrics(
+					Platform.getStateLocation(FrameworkUtil.getBundle(ImportMetrics.class)).append("import-metrics.csv").toFile().toPath());
+		}
+		return instance;
+	}
+
+	public ImportMetrics(Path file) {
+		this.file = file;
+	}
+
+	public void record(Phase phase, String subject, Duration duration) {
+		this.record(phase, subject, duration, 0, 0);
+	}
+
+	/**
+	 * Records the duration of a phase that started at the given
+	 * {@link System#nanoTime()}.
+	 */
+	public void recordSince(Phase phase, String subject, long startNanos) {
+		this.record(phase, subject, Duration.ofNanos(System.nanoTime() - startNanos));
+	}
+
+	public synchronized void record(Phase phase, String subject, Duration duration, long bytes, long objects) {
+		Sample sample = new Sample(Instant.now(), phase, subject, duration, bytes, objects);
+		if (this.samples.size() >= CAPACITY) {
+			this.samples.removeFirst();
+		}
+		this.samples.addLast(sample);
+		LOG.info("%s of %s took %d ms".formatted(phase, subject, duration.toMillis()));
+		this.append(sample);
+	}
+
+	/**
+	 * @return the most recent samples, oldest first.
+	 */
+	public synchronized List<Sample> getSamples() {
+		return List.copyOf(this.samples);
+	}
+
+	private void append(Sample sample) {
+		try {
+			Files.createDirectories(this.file.getParent());
+			if (Files.exists(this.file) && Files.size(this.file) > MAX_FILE_SIZE) {
+				Path old = this.file.resolveSibling(this.file.getFileName() + ".1");
+				Files.move(this.file, old, StandardCopyOption.REPLACE_EXISTING);
+			}
+			String line = sample.toCsv() + System.lineSeparator();
+			if (!Files.exists(this.file)) {
+				line = HEADER + System.lineSeparator() + line;
+			}
+			Files.writeString(this.file, line, StandardCharsets.UTF_8, StandardOpenOption.CREATE, StandardOpenOption.APPEND);
+		} catch (IOException e) {
+			LOG.warn("Could not write import metrics to " + this.file + ": " + e.getMessage());
+		}
+	}
+}
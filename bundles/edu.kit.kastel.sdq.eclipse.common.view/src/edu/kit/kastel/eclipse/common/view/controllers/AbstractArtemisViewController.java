@@ -2,10 +2,13 @@
 package edu.kit.kastel.eclipse.common.view.controllers;
 
 import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
 
 import edu.kit.kastel.eclipse.common.api.controller.IArtemisController;
 import edu.kit.kastel.eclipse.common.api.controller.ISystemwideController;
 import edu.kit.kastel.eclipse.common.api.controller.IViewInteraction;
+import edu.kit.kastel.eclipse.common.api.controller.RefreshScope;
 import edu.kit.kastel.sdq.artemis4j.api.ArtemisClientException;
 
 /**
@@ -29,6 +32,31 @@ public abstract class AbstractArtemisViewController<C extends ISystemwideControl
 		this.artemisController = this.systemwideController.getArtemisController();
 	}
 
+	/**
+	 * @return a future that completes once the login and the loading of the
+	 *         courses have finished
+	 */
+	public CompletableFuture<Void> whenReady() {
+		return this.artemisController.whenReady();
+	}
+
+	/**
+	 * @return a future that completes once the courses have been fetched. The
+	 *         methods that need them (e.g. {@link #getExerciseShortNames(String)})
+	 *         must not be called on the UI thread before.
+	 */
+	public CompletableFuture<Void> whenCoursesLoaded() {
+		return this.artemisController.whenCoursesLoaded();
+	}
+
+	/**
+	 * Revalidates the given parts of the state, see
+	 * {@link ISystemwideController#refresh(Set)}.
+	 */
+	public void refresh(Set<RefreshScope> scopes) {
+		this.systemwideController.refresh(scopes);
+	}
+
 	/**
 	 * @return the name of all courses
 	 */
@@ -36,6 +64,14 @@ public abstract class AbstractArtemisViewController<C extends ISystemwideControl
 		return this.artemisController.getCourseShortNames();
 	}
 
+	/**
+	 * @param listener is notified (from any thread) if the course names returned
+	 *                 by {@link #getCourseShortNames()} were outdated
+	 */
+	public void addCoursesChangedListener(Runnable listener) {
+		this.artemisController.addCoursesChangedListener(listener);
+	}
+
 	/**
 	 * @param courseTitle (of the selected course in the combo)
 	 * @return all exams of the given course
@@ -58,11 +94,12 @@ public abstract class AbstractArtemisViewController<C extends ISystemwideControl
 	}
 
 	/**
+	 * @param courseName    (selected course in the combo)
 	 * @param examShortName (of the selected exam in the combo)
 	 * @return all exercises of the given exam
 	 */
-	public List<String> getExercisesShortNamesForExam(String examShortName) {
-		return this.artemisController.getExerciseShortNamesFromExam(examShortName);
+	public List<String> getExercisesShortNamesForExam(String courseName, String examShortName) {
+		return this.artemisController.getExerciseShortNamesFromExam(courseName, examShortName);
 	}
 
 	/**
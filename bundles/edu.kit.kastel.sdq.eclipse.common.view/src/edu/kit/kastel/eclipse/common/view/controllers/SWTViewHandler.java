@@ -4,13 +4,15 @@ package edu.kit.kastel.eclipse.common.view.controllers;
 import org.eclipse.core.runtime.ILog;
 import org.eclipse.core.runtime.Platform;
 import org.eclipse.jface.dialogs.MessageDialog;
+import org.eclipse.swt.widgets.Display;
 
 import edu.kit.kastel.eclipse.common.api.controller.IViewInteraction;
 import edu.kit.kastel.eclipse.common.view.utilities.AssessmentUtilities;
 
 /**
  * this class displays all messages from the backend in the view. It always
- * opens a dialog. An info, error or warning can be displayed.
+ * opens a dialog. An info, error or warning can be displayed. Messages may be
+ * sent from any thread, the dialogs are opened in the UI thread.
  *
  */
 public final class SWTViewHandler implements IViewInteraction {
@@ -20,24 +22,24 @@ public final class SWTViewHandler implements IViewInteraction {
 	@Override
 	public void error(String errorMsg) {
 		log.error(errorMsg);
-		MessageDialog.openError(AssessmentUtilities.getWindowsShell(), "Error", errorMsg);
+		Display.getDefault().syncExec(() -> MessageDialog.openError(AssessmentUtilities.getWindowsShell(), "Error", errorMsg));
 	}
 
 	@Override
 	public void error(String errorMsg, Throwable cause) {
 		log.error(errorMsg, cause);
-		MessageDialog.openError(AssessmentUtilities.getWindowsShell(), "Error", errorMsg);
+		Display.getDefault().syncExec(() -> MessageDialog.openError(AssessmentUtilities.getWindowsShell(), "Error", errorMsg));
 	}
 
 	@Override
 	public void info(String infoMsg) {
 		log.info(infoMsg);
-		MessageDialog.openInformation(AssessmentUtilities.getWindowsShell(), "Info", infoMsg);
+		Display.getDefault().syncExec(() -> MessageDialog.openInformation(AssessmentUtilities.getWindowsShell(), "Info", infoMsg));
 	}
 
 	@Override
 	public void warn(String warningMsg) {
 		log.warn(warningMsg);
-		MessageDialog.openWarning(AssessmentUtilities.getWindowsShell(), "Warning", warningMsg);
+		Display.getDefault().syncExec(() -> MessageDialog.openWarning(AssessmentUtilities.getWindowsShell(), "Warning", warningMsg));
 	}
 }
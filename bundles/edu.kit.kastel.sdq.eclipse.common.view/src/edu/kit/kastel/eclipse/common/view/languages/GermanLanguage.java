@@ -60,6 +60,66 @@ class GermanLanguage implements I18N {
 		return "Anzahl der Bewertungs-Knöpfe pro Zeile";
 	}
 
+	@Override
+	public String settingsPrefetchDepth() {
+		return "Im Hintergrund vorgeladene Einreichungen (0 = deaktiviert)";
+	}
+
+	@Override
+	public String settingsStatsRefreshInterval() {
+		return "Aktualisierungsintervall der Statistik in Sekunden (0 = nur nach Änderungen)";
+	}
+
+	@Override
+	public String settingsCloneProfile() {
+		return "Herunterladen von Einreichungen";
+	}
+
+	@Override
+	public String settingsCloneProfileFull() {
+		return "Alle Branches und Historie";
+	}
+
+	@Override
+	public String settingsCloneProfileSingleBranch() {
+		return "Nur Standard-Branch";
+	}
+
+	@Override
+	public String settingsCloneProfileShallow() {
+		return "Nur letzter Commit";
+	}
+
+	@Override
+	public String settingsCloneProfileSparse() {
+		return "Nur letzter Commit, nur src und pom.xml";
+	}
+
+	@Override
+	public String settingsCloneProfilePerExercise() {
+		return "Herunterladen pro Aufgabe (z.B. final01=SHALLOW;final02=SPARSE)";
+	}
+
+	@Override
+	public String settingsDownloadAsArchive() {
+		return "Einreichungen als Archiv herunterladen (ohne Git-Historie)";
+	}
+
+	@Override
+	public String settingsArchiveUrl() {
+		return "Archiv-URL";
+	}
+
+	@Override
+	public String settingsTemplateAlternates() {
+		return "Objekte der Aufgabenvorlage zwischen Einreichungen teilen";
+	}
+
+	@Override
+	public String settingsOfflineImportDirectory() {
+		return "Einreichungen importieren aus (Git-Bundles oder ZIP-Archive)";
+	}
+
 	@Override
 	public String tabAssessment() {
 		return "Bewertung";
@@ -75,6 +135,37 @@ class GermanLanguage implements I18N {
 		return String.format("Einreichungen: %d/%d  Gesperrt: %d  Deine Bewertungen: %d", totalAssessments, totalSubmissions, locked, submittedByTutor);
 	}
 
+	@Override
+	public String tabAssessmentLoading() {
+		return "Lade Einreichung ...";
+	}
+
+	@Override
+	public String tabAssessmentConnecting() {
+		return "Verbinde mit Artemis ...";
+	}
+
+	@Override
+	public String tabAssessmentSending() {
+		return "Sende Bewertung ...";
+	}
+
+	@Override
+	public String tabAssessmentSubmitInvalidTitle() {
+		return "Bewertung abschicken?";
+	}
+
+	@Override
+	public String tabAssessmentSubmitInvalid(String annotations) {
+		return "Diese Anmerkungen passen nicht zur geänderten Bewertungskonfiguration und behalten ihren bisherigen Fehlertyp:\n\n" + annotations
+				+ "\n\nTrotzdem abschicken?";
+	}
+
+	@Override
+	public String tabAssessmentPrefetched(int ready, int depth) {
+		return String.format("%d/%d bereit", ready, depth);
+	}
+
 	@Override
 	public String submission() {
 		return "Abgabe";
@@ -190,6 +281,11 @@ class GermanLanguage implements I18N {
 		return "Statistiken";
 	}
 
+	@Override
+	public String prefetch() {
+		return "Vorgeladen: ";
+	}
+
 	@Override
 	public String resetPluginState() {
 		return "Plugin zurücksetzen";
@@ -250,6 +346,41 @@ class GermanLanguage implements I18N {
 		return "Bewertung";
 	}
 
+	@Override
+	public String diagnosticsRefresh() {
+		return "Aktualisieren";
+	}
+
+	@Override
+	public String diagnosticsReset() {
+		return "Zurücksetzen";
+	}
+
+	@Override
+	public String diagnosticsExport() {
+		return "Exportieren ...";
+	}
+
+	@Override
+	public String diagnosticsExportFailed() {
+		return "Export fehlgeschlagen";
+	}
+
+	@Override
+	public String[] diagnosticsColumns() {
+		return new String[] { "Endpunkt", "Anfragen", "Fehler", "Elemente", "Mittel", "p50", "p90", "p99", "Max" };
+	}
+
+	@Override
+	public String diagnosticsLimiter(int concurrencyLimit, int inFlight, long overloads, long waitedMillis) {
+		return String.format("Parallele Anfragen: %d  Laufend: %d  Überlastungen: %d  Verzögert: %d ms", concurrencyLimit, inFlight, overloads, waitedMillis);
+	}
+
+	@Override
+	public String diagnosticsCache(String name, long hits, long misses) {
+		return String.format("Cache %s: %d Treffer, %d Fehlschläge", name, hits, misses);
+	}
+
 	@Override
 	public String key() {
 		return "de";
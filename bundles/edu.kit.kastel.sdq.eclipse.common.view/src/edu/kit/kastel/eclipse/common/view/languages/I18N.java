@@ -60,6 +60,54 @@ public interface I18N {
 		return "Amount of Grading Buttons in one row";
 	}
 
+	default String settingsPrefetchDepth() {
+		return "Submissions to prefetch in the background (0 = disabled)";
+	}
+
+	default String settingsStatsRefreshInterval() {
+		return "Refresh interval of the statistics in seconds (0 = only after changes)";
+	}
+
+	default String settingsCloneProfile() {
+		return "Download of submissions";
+	}
+
+	default String settingsCloneProfileFull() {
+		return "All branches and history";
+	}
+
+	default String settingsCloneProfileSingleBranch() {
+		return "Default branch only";
+	}
+
+	default String settingsCloneProfileShallow() {
+		return "Latest commit only";
+	}
+
+	default String settingsCloneProfileSparse() {
+		return "Latest commit, only src and pom.xml";
+	}
+
+	default String settingsCloneProfilePerExercise() {
+		return "Download per exercise (e.g. final01=SHALLOW;final02=SPARSE)";
+	}
+
+	default String settingsDownloadAsArchive() {
+		return "Download submissions as archive (without git history)";
+	}
+
+	default String settingsArchiveUrl() {
+		return "Archive URL";
+	}
+
+	default String settingsTemplateAlternates() {
+		return "Share the objects of the exercise template between submission clones";
+	}
+
+	default String settingsOfflineImportDirectory() {
+		return "Import submissions from (git bundles or ZIP archives)";
+	}
+
 	default String tabAssessment() {
 		return "Assessment";
 	}
@@ -83,6 +131,40 @@ public interface I18N {
 		return String.format("Submissions: %d/%d  Locked: %d  Your Assessments: %d", totalAssessments, totalSubmissions, locked, submittedByTutor);
 	}
 
+	/**
+	 * @param ready the amount of prefetched submissions that are ready
+	 * @param depth the amount of submissions that shall be prefetched
+	 * @return the prefetch message with the correct amounts
+	 */
+	default String tabAssessmentPrefetched(int ready, int depth) {
+		return String.format("%d/%d ready", ready, depth);
+	}
+
+	default String tabAssessmentLoading() {
+		return "Loading submission ...";
+	}
+
+	default String tabAssessmentConnecting() {
+		return "Connecting to Artemis ...";
+	}
+
+	default String tabAssessmentSending() {
+		return "Sending assessment ...";
+	}
+
+	default String tabAssessmentSubmitInvalidTitle() {
+		return "Submit assessment?";
+	}
+
+	/**
+	 * @param annotations the annotations that do not match the config, one per
+	 *                    line
+	 */
+	default String tabAssessmentSubmitInvalid(String annotations) {
+		return "These annotations do not match the changed grading config and keep their previous mistake type:\n\n" + annotations
+				+ "\n\nSubmit anyway?";
+	}
+
 	default String backlog() {
 		return "Backlog";
 	}
@@ -195,6 +277,10 @@ public interface I18N {
 		return "Statistics: ";
 	}
 
+	default String prefetch() {
+		return "Prefetched: ";
+	}
+
 	default String resetPluginState() {
 		return "Reset Plugin State";
 	}
@@ -251,6 +337,51 @@ public interface I18N {
 		return "Autograder";
 	}
 
+	default String diagnosticsRefresh() {
+		return "Refresh";
+	}
+
+	default String diagnosticsReset() {
+		return "Reset";
+	}
+
+	default String diagnosticsExport() {
+		return "Export ...";
+	}
+
+	default String diagnosticsExportFailed() {
+		return "Export failed";
+	}
+
+	/**
+	 * @return the headers of the columns of the request metrics (endpoint, calls,
+	 *         errors, items, mean and the percentiles of the latency, maximum)
+	 */
+	default String[] diagnosticsColumns() {
+		return new String[] { "Endpoint", "Calls", "Errors", "Items", "Mean", "p50", "p90", "p99", "Max" };
+	}
+
+	/**
+	 * @param concurrencyLimit the current limit of concurrent requests
+	 * @param inFlight         the amount of running requests
+	 * @param overloads        the amount of requests rejected due to overload
+	 * @param waitedMillis     the total time requests have been delayed
+	 * @return the state of the request limiter
+	 */
+	default String diagnosticsLimiter(int concurrencyLimit, int inFlight, long overloads, long waitedMillis) {
+		return String.format("Concurrency limit: %d  Running: %d  Overloads: %d  Delayed: %d ms", concurrencyLimit, inFlight, overloads, waitedMillis);
+	}
+
+	/**
+	 * @param name   the name of the cache
+	 * @param hits   the amount of cache hits
+	 * @param misses the amount of cache misses
+	 * @return the hit and miss counters of a cache
+	 */
+	default String diagnosticsCache(String name, long hits, long misses) {
+		return String.format("Cache %s: %d hits, %d misses", name, hits, misses);
+	}
+
 	//
 	// internal
 	//
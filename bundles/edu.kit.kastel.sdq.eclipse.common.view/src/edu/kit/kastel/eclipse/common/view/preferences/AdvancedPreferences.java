@@ -6,6 +6,7 @@ import static edu.kit.kastel.eclipse.common.view.languages.LanguageSettings.I18N
 import org.eclipse.jface.preference.BooleanFieldEditor;
 import org.eclipse.jface.preference.ColorFieldEditor;
 import org.eclipse.jface.preference.ComboFieldEditor;
+import org.eclipse.jface.preference.DirectoryFieldEditor;
 import org.eclipse.jface.preference.FieldEditorPreferencePage;
 import org.eclipse.jface.preference.IntegerFieldEditor;
 import org.eclipse.jface.preference.StringFieldEditor;
@@ -60,6 +61,28 @@ public class AdvancedPreferences extends FieldEditorPreferencePage implements IW
 		columnsForGradingButtons.setEmptyStringAllowed(false);
 		columnsForGradingButtons.setValidRange(1, 10);
 
+		var prefetchDepth = new IntegerFieldEditor(PreferenceConstants.GRADING_PREFETCH_DEPTH, I18N().settingsPrefetchDepth(), parent);
+		prefetchDepth.setEmptyStringAllowed(false);
+		prefetchDepth.setValidRange(0, 5);
+
+		var statsRefreshInterval = new IntegerFieldEditor(PreferenceConstants.GRADING_STATS_REFRESH_INTERVAL, I18N().settingsStatsRefreshInterval(), parent);
+		statsRefreshInterval.setEmptyStringAllowed(false);
+		statsRefreshInterval.setValidRange(0, 3600);
+
+		var cloneProfile = new ComboFieldEditor(PreferenceConstants.GRADING_CLONE_PROFILE, I18N().settingsCloneProfile(),
+				new String[][] { { I18N().settingsCloneProfileFull(), PreferenceConstants.GRADING_CLONE_PROFILE_FULL },
+						{ I18N().settingsCloneProfileSingleBranch(), PreferenceConstants.GRADING_CLONE_PROFILE_SINGLE_BRANCH },
+						{ I18N().settingsCloneProfileShallow(), PreferenceConstants.GRADING_CLONE_PROFILE_SHALLOW },
+						{ I18N().settingsCloneProfileSparse(), PreferenceConstants.GRADING_CLONE_PROFILE_SPARSE } },
+				parent);
+		var cloneProfilePerExercise = new StringFieldEditor(PreferenceConstants.GRADING_CLONE_PROFILE_PER_EXERCISE, I18N().settingsCloneProfilePerExercise(),
+				parent);
+		var downloadAsArchive = new BooleanFieldEditor(PreferenceConstants.GRADING_DOWNLOAD_AS_ARCHIVE, I18N().settingsDownloadAsArchive(), parent);
+		var archiveUrl = new StringFieldEditor(PreferenceConstants.GRADING_ARCHIVE_URL, I18N().settingsArchiveUrl(), parent);
+		var templateAlternates = new BooleanFieldEditor(PreferenceConstants.GRADING_TEMPLATE_ALTERNATES, I18N().settingsTemplateAlternates(), parent);
+		var offlineImportDirectory = new DirectoryFieldEditor(PreferenceConstants.GRADING_OFFLINE_IMPORT_DIRECTORY, I18N().settingsOfflineImportDirectory(),
+				parent);
+
 		var openFiles = new ComboFieldEditor(PreferenceConstants.OPEN_FILES_ON_ASSESSMENT_START, I18N().settingsOpenFilesOnAssessmentStart(),
 				new String[][] { { I18N().settingsOpenFilesOnAssessmentStartNone(), PreferenceConstants.OPEN_FILES_ON_ASSESSMENT_START_NONE },
 						{ I18N().settingsOpenFilesOnAssessmentStartMain(), PreferenceConstants.OPEN_FILES_ON_ASSESSMENT_START_MAIN },
@@ -76,6 +99,14 @@ public class AdvancedPreferences extends FieldEditorPreferencePage implements IW
 		this.addField(gitToken);
 
 		this.addField(columnsForGradingButtons);
+		this.addField(prefetchDepth);
+		this.addField(statsRefreshInterval);
+		this.addField(cloneProfile);
+		this.addField(cloneProfilePerExercise);
+		this.addField(downloadAsArchive);
+		this.addField(archiveUrl);
+		this.addField(templateAlternates);
+		this.addField(offlineImportDirectory);
 		this.addField(userPrefersLargePenaltyText);
 		this.addField(userPrefersTextWrappingInPenaltyText);
 		this.addField(overrideDefaultPreferences);
@@ -25,6 +25,15 @@ public class PreferenceInitializer extends AbstractPreferenceInitializer {
 		store.setDefault(PreferenceConstants.GRADING_VIEW_BUTTONS_IN_COLUMN, 3);
 		store.setDefault(PreferenceConstants.GRADING_VIEW_PREFERS_LARGE_PENALTY_TEXT_PATH, false);
 		store.setDefault(PreferenceConstants.GRADING_VIEW_PREFERS_TEXT_WRAPPING_IN_PENALTY_TEXT_PATH, false);
+		store.setDefault(PreferenceConstants.GRADING_PREFETCH_DEPTH, 0);
+		store.setDefault(PreferenceConstants.GRADING_STATS_REFRESH_INTERVAL, 60);
+		store.setDefault(PreferenceConstants.GRADING_CLONE_PROFILE, PreferenceConstants.GRADING_CLONE_PROFILE_FULL);
+		store.setDefault(PreferenceConstants.GRADING_CLONE_PROFILE_PER_EXERCISE, "");
+		store.setDefault(PreferenceConstants.GRADING_DOWNLOAD_AS_ARCHIVE, false);
+		store.setDefault(PreferenceConstants.GRADING_ARCHIVE_URL,
+				"{artemisUrl}/api/programming-exercises/{exerciseId}/export-student-repository/{participationId}");
+		store.setDefault(PreferenceConstants.GRADING_OFFLINE_IMPORT_DIRECTORY, "");
+		store.setDefault(PreferenceConstants.GRADING_TEMPLATE_ALTERNATES, false);
 		store.setDefault(PreferenceConstants.GENERAL_OVERRIDE_DEFAULT_PREFERENCES, true);
 		store.setDefault(PreferenceConstants.GENERAL_PREFERRED_LANGUAGE, LanguageSettings.getDefaultLanguage().languageDisplayName());
 		store.setDefault(PreferenceConstants.SEARCH_IN_MISTAKE_MESSAGES, true);
@@ -8,6 +8,7 @@ import java.util.Scanner;
 
 import org.eclipse.core.resources.IFile;
 import org.eclipse.core.resources.IMarker;
+import org.eclipse.core.resources.IResource;
 import org.eclipse.core.resources.IWorkspace;
 import org.eclipse.core.resources.ResourcesPlugin;
 import org.eclipse.core.runtime.CoreException;
@@ -307,6 +308,17 @@ public final class AssessmentUtilities {
 		}
 	}
 
+	/**
+	 * Deletes all assessment markers of the given project.
+	 */
+	public static void deleteAssessmentMarkers(String currentProjectName) {
+		try {
+			ResourcesPlugin.getWorkspace().getRoot().getProject(currentProjectName).deleteMarkers(MARKER_CLASS_NAME, true, IResource.DEPTH_INFINITE);
+		} catch (CoreException e) {
+			LOG.error("Unable to delete markers of " + currentProjectName, e);
+		}
+	}
+
 	/**
 	 * Checks whether the given annotation is present in the currently opened
 	 * project (An annotation is identified by its ID)
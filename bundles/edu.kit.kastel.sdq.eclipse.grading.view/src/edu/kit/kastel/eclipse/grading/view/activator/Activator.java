@@ -54,6 +54,9 @@ public class Activator extends AbstractUIPlugin {
 	 * Creates a new instance of the SystemWideController
 	 */
 	public IGradingSystemwideController createNewSystemwideController() {
+		if (this.systemwideController != null) {
+			this.systemwideController.dispose();
+		}
 		this.systemwideController = new GradingSystemwideController(Activator.getDefault().getBundle().getVersion(),
 				CommonActivator.getDefault().getPreferenceStore(), new SWTViewHandler());
 		return this.systemwideController;
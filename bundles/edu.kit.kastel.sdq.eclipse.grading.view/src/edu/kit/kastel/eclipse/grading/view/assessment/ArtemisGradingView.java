@@ -4,9 +4,13 @@ package edu.kit.kastel.eclipse.grading.view.assessment;
 import static edu.kit.kastel.eclipse.common.view.languages.LanguageSettings.I18N;
 
 import java.util.Arrays;
+import java.util.EnumSet;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.stream.Collectors;
 
 import org.eclipse.core.resources.IProject;
 import org.eclipse.core.runtime.ILog;
@@ -14,6 +18,8 @@ import org.eclipse.core.runtime.Platform;
 import org.eclipse.jdt.core.ICompilationUnit;
 import org.eclipse.jdt.core.JavaModelException;
 import org.eclipse.jface.dialogs.MessageDialog;
+import org.eclipse.jface.util.IPropertyChangeListener;
+import org.eclipse.jface.util.PropertyChangeEvent;
 import org.eclipse.jface.viewers.StructuredSelection;
 import org.eclipse.swt.SWT;
 import org.eclipse.swt.graphics.RGB;
@@ -22,6 +28,7 @@ import org.eclipse.swt.layout.GridLayout;
 import org.eclipse.swt.widgets.Button;
 import org.eclipse.swt.widgets.Combo;
 import org.eclipse.swt.widgets.Composite;
+import org.eclipse.swt.widgets.Control;
 import org.eclipse.swt.widgets.Display;
 import org.eclipse.swt.widgets.Group;
 import org.eclipse.swt.widgets.Label;
@@ -35,7 +42,9 @@ import org.eclipse.ui.part.ViewPart;
 import org.eclipse.wb.swt.SWTResourceManager;
 
 import edu.kit.kastel.eclipse.common.api.PreferenceConstants;
+import edu.kit.kastel.eclipse.common.api.controller.GradingConfigChange;
 import edu.kit.kastel.eclipse.common.api.controller.IGradingSystemwideController;
+import edu.kit.kastel.eclipse.common.api.controller.RefreshScope;
 import edu.kit.kastel.eclipse.common.view.activator.CommonActivator;
 import edu.kit.kastel.eclipse.common.view.marker.AssessmentMarkerView;
 import edu.kit.kastel.eclipse.common.view.utilities.AssessmentUtilities;
@@ -62,6 +71,9 @@ public class ArtemisGradingView extends ViewPart {
 	private static final String DELETE_ANNOTATION_COMMAND = "edu.kit.kastel.eclipse.grading.assessment.keybindings.deleteAnnotation";
 
 	private static final ILog LOG = Platform.getLog(ArtemisGradingView.class);
+	// changes of these preferences require a new login
+	private static final Set<String> CONNECTION_PREFERENCES = Set.of(PreferenceConstants.GENERAL_ARTEMIS_URL,
+			PreferenceConstants.GENERAL_ADVANCED_ARTEMIS_USER, PreferenceConstants.GENERAL_ADVANCED_ARTEMIS_PASSWORD);
 
 	private AssessmentViewController viewController;
 	private final Map<String, Group> ratingGroupViewElements;
@@ -74,13 +86,33 @@ public class ArtemisGradingView extends ViewPart {
 
 	private ResultTab result;
 
+	private final IPropertyChangeListener preferenceListener = this::onPreferenceChanged;
+	private volatile boolean connectionPreferencesChanged;
+
 	public ArtemisGradingView() {
 		this.viewController = new AssessmentViewController();
+		this.viewController.addCoursesChangedListener(this::onCoursesChanged);
 		this.ratingGroupViewElements = new HashMap<>();
 		this.mistakeButtons = new HashMap<>();
 		this.initializeAnnotationEditing();
 		this.addListenerForMarkerDeletion();
 		Activator.getDefault().getSystemwideController().addSubmissionBuildListener(this::openPackagesAndFiles);
+		Activator.getDefault().getSystemwideController().addPrefetchListener(this::onPrefetchQueueChanged);
+		Activator.getDefault().getSystemwideController().addStatsListener(this::onStatsChanged);
+		Activator.getDefault().getSystemwideController().addGradingConfigListener(this::onGradingConfigChanged);
+		CommonActivator.getDefault().getPreferenceStore().addPropertyChangeListener(this.preferenceListener);
+	}
+
+	@Override
+	public void dispose() {
+		CommonActivator.getDefault().getPreferenceStore().removePropertyChangeListener(this.preferenceListener);
+		super.dispose();
+	}
+
+	private void onPreferenceChanged(PropertyChangeEvent event) {
+		if (CONNECTION_PREFERENCES.contains(event.getProperty())) {
+			this.connectionPreferencesChanged = true;
+		}
 	}
 
 	@Override
@@ -120,10 +152,9 @@ public class ArtemisGradingView extends ViewPart {
 			if (backlogCombo.getSelectionIndex() < 0) {
 				return;
 			}
-			this.viewController.setAssessedSubmission(backlogCombo.getItem(backlogCombo.getSelectionIndex()));
-			this.viewController.onLoadAgain();
-			this.prepareNewAssessment();
-			this.updateState();
+			String projectName = backlogCombo.getItem(backlogCombo.getSelectionIndex());
+			this.loadInBackground(this.viewController.setAssessedSubmission(projectName)
+					.thenCompose(found -> found ? this.viewController.onLoadAgain() : CompletableFuture.completedFuture(false)));
 		});
 	}
 
@@ -133,47 +164,49 @@ public class ArtemisGradingView extends ViewPart {
 
 	private void addSelectionListenerForReloadButton(Button btnReloadA) {
 		btnReloadA.addListener(SWT.Selection, e -> {
-			this.viewController.onReloadAssessment();
-			this.prepareNewAssessment();
-			this.updateState();
+			// the project is kept on reload, so the markers of the discarded annotations
+			// have to be removed
+			this.viewController.deleteAnnotationsMarkers();
+			this.loadInBackground(this.viewController.onReloadAssessment());
 		});
 	}
 
 	private void addSelectionListenerForSaveButton(Button btnSave) {
-		btnSave.addListener(SWT.Selection, e -> {
-			this.viewController.onSaveAssessment();
-			this.updateState();
-		});
+		btnSave.addListener(SWT.Selection, e -> this.sendInBackground(this.viewController.onSaveAssessment(), () -> {
+		}));
 	}
 
 	private void addSelectionListenerForStartFirstRound(Button btnStartRound1) {
-		btnStartRound1.addListener(SWT.Selection, e -> {
-			boolean started = this.viewController.onStartCorrectionRound1();
-			if (started) {
-				this.prepareNewAssessment();
-			}
-			this.updateState();
-		});
+		btnStartRound1.addListener(SWT.Selection, e -> this.loadInBackground(this.viewController.onStartCorrectionRound1()));
 	}
 
 	private void addSelectionListenerForStartSecondRound(Button btnStartRound2) {
-		btnStartRound2.addListener(SWT.Selection, e -> {
-			boolean started = this.viewController.onStartCorrectionRound2();
-			if (started) {
-				this.prepareNewAssessment();
-			}
-			this.updateState();
-		});
+		btnStartRound2.addListener(SWT.Selection, e -> this.loadInBackground(this.viewController.onStartCorrectionRound2()));
 	}
 
 	private void addSelectionListenerForSubmitButton(Button btnSubmit) {
 		btnSubmit.addListener(SWT.Selection, e -> {
-			this.viewController.onSubmitAssessment();
-			this.updateState();
-			this.result.reset();
+			if (this.confirmSubmitOfInvalidAnnotations()) {
+				this.sendInBackground(this.viewController.onSubmitAssessment(), this.result::reset);
+			}
 		});
 	}
 
+	/**
+	 * Annotations that do not match a reloaded config keep their previous mistake
+	 * type, so the tutor has to confirm that they are submitted like this.
+	 */
+	private boolean confirmSubmitOfInvalidAnnotations() {
+		List<IAnnotation> invalid = this.viewController.getInvalidAnnotations();
+		if (invalid.isEmpty()) {
+			return true;
+		}
+		String annotations = invalid.stream().map(annotation -> annotation.getClassFilePath() + " " + annotation.getStartLine() + " "
+				+ annotation.getMistakeType().getButtonText(I18N().key())).collect(Collectors.joining("\n"));
+		return MessageDialog.openConfirm(AssessmentUtilities.getWindowsShell(), I18N().tabAssessmentSubmitInvalidTitle(),
+				I18N().tabAssessmentSubmitInvalid(annotations));
+	}
+
 	private void addSelectionListenerForRerunAutograder(Button btnRerunAutograder) {
 		btnRerunAutograder.addListener(SWT.Selection, e -> {
 			boolean userWantsRerun = MessageDialog.openConfirm(AssessmentUtilities.getWindowsShell(), "Rerun Autograder?",
@@ -186,6 +219,41 @@ public class ArtemisGradingView extends ViewPart {
 		});
 	}
 
+	/**
+	 * Shows the busy state until the submission has been loaded by the background
+	 * jobs of the given pipeline. Afterwards the grading tab, the markers and the
+	 * autograder are prepared on the UI thread.
+	 */
+	private void loadInBackground(CompletableFuture<Boolean> loading) {
+		this.assessmentTab.setBusy(I18N().tabAssessmentLoading());
+		loading.whenCompleteAsync((loaded, error) -> {
+			if (this.assessmentTab.isDisposed()) {
+				return;
+			}
+			if (error != null) {
+				LOG.error("Loading the submission failed: " + error.getMessage(), error);
+			} else if (Boolean.TRUE.equals(loaded)) {
+				this.prepareNewAssessment();
+			}
+			this.updateState();
+		}, Display.getDefault()::asyncExec);
+	}
+
+	/**
+	 * Shows the busy state until the assessment has been sent by the background
+	 * job, so it cannot be sent twice meanwhile.
+	 */
+	private void sendInBackground(CompletableFuture<Boolean> sending, Runnable afterwards) {
+		this.assessmentTab.setBusy(I18N().tabAssessmentSending());
+		sending.whenCompleteAsync((sent, error) -> {
+			if (this.assessmentTab.isDisposed()) {
+				return;
+			}
+			afterwards.run();
+			this.updateState();
+		}, Display.getDefault()::asyncExec);
+	}
+
 	private void createBacklog() {
 		var backlogCombo = this.assessmentTab.comboBacklogSubmission;
 		var refreshButton = this.assessmentTab.btnBacklogRefreshSubmissions;
@@ -219,19 +287,41 @@ public class ArtemisGradingView extends ViewPart {
 		this.viewController.getExerciseShortNames(courseCombo.getItem(courseCombo.getSelectionIndex())).forEach(examExerciseCombo::add);
 		examCombo.add("None");
 		this.viewController.getExamShortNames(courseCombo.getItem(courseCombo.getSelectionIndex())).forEach(examCombo::add);
-		examCombo.addListener(SWT.Selection, e -> {
+		examCombo.addListener(SWT.Selection, e -> this.whenCoursesLoaded(() -> {
 			examExerciseCombo.removeAll();
 			if ("None".equals(examCombo.getItem(examCombo.getSelectionIndex()))) {
 				this.viewController.getExerciseShortNames(courseCombo.getItem(courseCombo.getSelectionIndex())).forEach(examExerciseCombo::add);
 			} else {
-				this.viewController.getExercisesShortNamesForExam(examCombo.getItem(examCombo.getSelectionIndex())).forEach(examExerciseCombo::add);
+				String course = courseCombo.getItem(courseCombo.getSelectionIndex());
+				this.viewController.getExercisesShortNamesForExam(course, examCombo.getItem(examCombo.getSelectionIndex())).forEach(examExerciseCombo::add);
 			}
 			this.updateState();
-		});
-		examExerciseCombo.addListener(SWT.Selection, e -> {
+		}));
+		examExerciseCombo.addListener(SWT.Selection, e -> this.whenCoursesLoaded(() -> {
 			this.viewController.setExerciseId(examExerciseCombo.getItem(examExerciseCombo.getSelectionIndex()));
 			this.updateState();
-		});
+		}));
+	}
+
+	/**
+	 * Runs the given action on the UI thread once the courses have been fetched,
+	 * since the exams and exercises are looked up in them. Meanwhile, the busy
+	 * state is shown, so the selection cannot change.
+	 */
+	private void whenCoursesLoaded(Runnable action) {
+		AssessmentViewController controller = this.viewController;
+		CompletableFuture<Void> loaded = controller.whenCoursesLoaded();
+		if (loaded.isDone()) {
+			action.run();
+			return;
+		}
+		this.assessmentTab.setBusy(I18N().tabAssessmentConnecting());
+		loaded.thenRunAsync(() -> {
+			if (this.assessmentTab.isDisposed() || this.viewController != controller) {
+				return;
+			}
+			action.run();
+		}, Display.getDefault()::asyncExec);
 	}
 
 	private void createAssessmentTab(TabFolder tabFolder) {
@@ -292,42 +382,74 @@ public class ArtemisGradingView extends ViewPart {
 			rgDisplay.setLayout(gridLayout);
 			final GridData gridData = new GridData(SWT.FILL, SWT.CENTER, true, false, 1, 1);
 			rgDisplay.setLayoutData(gridData);
-			this.viewController.getMistakeTypes().forEach(mistake -> {
-				// TODO Check
-				if (mistake.getRatingGroup().equals(ratingGroup)) {
-					if (mistake.isCustomPenalty()) {
-						this.createCustomButton(ratingGroup, rgDisplay, mistake);
-						return;
-					}
-					final Button mistakeButton = new Button(rgDisplay, SWT.PUSH);
-					mistakeButton.setText(mistake.getButtonText(I18N().key()));
-					mistakeButton.setLayoutData(new GridData(SWT.FILL, SWT.CENTER, false, false, 1, 1));
-					this.mistakeButtons.put(mistake.getIdentifier(), mistakeButton);
-
-					this.updateMistakeButtonToolTips(mistake);
-					this.updateMistakeButtonColor(mistake);
-
-					KeyboardAwareMouseListener listener = new KeyboardAwareMouseListener();
-					// Normal click
-					listener.setClickHandler(
-							() -> AssessmentUtilities.createAssessmentAnnotation(this.viewController.getAssessmentController(), mistake, null, null),
-							SWT.BUTTON1);
-					// shift-click and middle-click
-					listener.setClickHandler(() -> this.createMistakePenaltyWithCustomMessageDialog(mistake), SWT.SHIFT, SWT.BUTTON2);
-					// every click
-					listener.setClickHandlerForEveryClick(() -> {
-						this.updatePenalty(mistake.getRatingGroup().getIdentifier());
-						this.updateMistakeButtonToolTips(mistake);
-						this.updateMistakeButtonColor(mistake);
-					});
-					mistakeButton.addMouseListener(listener);
-				}
-			});
+			this.fillRatingGroup(ratingGroup, rgDisplay);
 		});
 
 		UIUtilities.initializeTabAfterFilling(container, this.gradingButtonComposite);
 	}
 
+	private void fillRatingGroup(IRatingGroup ratingGroup, Group rgDisplay) {
+		this.viewController.getMistakeTypes(ratingGroup).forEach(mistake -> {
+			if (mistake.isCustomPenalty()) {
+				this.createCustomButton(ratingGroup, rgDisplay, mistake);
+				return;
+			}
+			final Button mistakeButton = new Button(rgDisplay, SWT.PUSH);
+			mistakeButton.setText(mistake.getButtonText(I18N().key()));
+			mistakeButton.setLayoutData(new GridData(SWT.FILL, SWT.CENTER, false, false, 1, 1));
+			this.mistakeButtons.put(mistake.getIdentifier(), mistakeButton);
+
+			this.updateMistakeButtonToolTips(mistake);
+			this.updateMistakeButtonColor(mistake);
+
+			KeyboardAwareMouseListener listener = new KeyboardAwareMouseListener();
+			// Normal click
+			listener.setClickHandler(() -> AssessmentUtilities.createAssessmentAnnotation(this.viewController.getAssessmentController(), mistake, null, null),
+					SWT.BUTTON1);
+			// shift-click and middle-click
+			listener.setClickHandler(() -> this.createMistakePenaltyWithCustomMessageDialog(mistake), SWT.SHIFT, SWT.BUTTON2);
+			// every click
+			listener.setClickHandlerForEveryClick(() -> {
+				this.updatePenalty(mistake.getRatingGroup().getIdentifier());
+				this.updateMistakeButtonToolTips(mistake);
+				this.updateMistakeButtonColor(mistake);
+			});
+			mistakeButton.addMouseListener(listener);
+		});
+	}
+
+	/**
+	 * Rebuilds the buttons of the rating groups that have been changed in the
+	 * grading config. The whole tab is only rebuilt if rating groups have been
+	 * added, removed or reordered.
+	 */
+	private void onGradingConfigChanged(GradingConfigChange change) {
+		Display.getDefault().asyncExec(() -> {
+			if (this.gradingButtonComposite == null || this.gradingButtonComposite.isDisposed() || !this.viewController.isAssessmentStarted()) {
+				return;
+			}
+			if (change.ratingGroupsChanged()) {
+				this.fillGradingTab();
+			} else {
+				for (String ratingGroupId : change.changedRatingGroups()) {
+					Group rgDisplay = this.ratingGroupViewElements.get(ratingGroupId);
+					IRatingGroup ratingGroup = this.viewController.getRatingGroupById(ratingGroupId);
+					if (rgDisplay == null || rgDisplay.isDisposed() || ratingGroup == null) {
+						continue;
+					}
+					Arrays.stream(rgDisplay.getChildren()).forEach(Control::dispose);
+					this.mistakeButtons.values().removeIf(Button::isDisposed);
+					this.fillRatingGroup(ratingGroup, rgDisplay);
+				}
+				this.gradingButtonComposite.layout(true, true);
+				UIUtilities.initializeTabAfterFilling(this.gradingTabComposite.gradingCompositeContainerScrollable, this.gradingButtonComposite);
+			}
+			this.viewController.getRatingGroups().forEach(ratingGroup -> this.updatePenalty(ratingGroup.getIdentifier()));
+			this.updateAllToolTips();
+			this.updateAllMistakeButtonColors();
+		});
+	}
+
 	private RGB loadButtonsColor(String preferenceKey) {
 		int[] rgb = Arrays.stream(CommonActivator.getDefault().getPreferenceStore().getString(preferenceKey).split(",")).mapToInt(Integer::parseInt).toArray();
 		return new RGB(rgb[0], rgb[1], rgb[2]);
@@ -358,6 +480,23 @@ public class ArtemisGradingView extends ViewPart {
 		this.createResultTab(tabFolder);
 		this.createBacklog();
 		this.updateState();
+		this.enableWhenReady();
+	}
+
+	/**
+	 * Shows the busy state until the login and the loading of the courses have
+	 * finished in the background. Afterwards the courses are filled in.
+	 */
+	private void enableWhenReady() {
+		AssessmentViewController controller = this.viewController;
+		this.assessmentTab.setBusy(I18N().tabAssessmentConnecting());
+		controller.whenReady().thenRunAsync(() -> {
+			if (this.assessmentTab.isDisposed() || this.viewController != controller) {
+				return;
+			}
+			this.resetCombos();
+			this.updateState();
+		}, Display.getDefault()::asyncExec);
 	}
 
 	private void createGradingTab(TabFolder tabFolder) {
@@ -365,17 +504,36 @@ public class ArtemisGradingView extends ViewPart {
 		this.setVersionText(this.gradingTabComposite.lblPluginVersion);
 	}
 
+	/**
+	 * Fills the backlog once the begun submissions have been fetched in the
+	 * background. Meanwhile, the busy state is shown.
+	 */
 	private void fillBacklogComboWithData(Combo backlogCombo) {
-		backlogCombo.removeAll();
-		this.viewController.getSubmissionsForBacklog().forEach(backlogCombo::add);
+		AssessmentViewController controller = this.viewController;
+		CompletableFuture<List<String>> projectNames = controller.getSubmissionsForBacklog();
+		if (!projectNames.isDone()) {
+			this.assessmentTab.setBusy(I18N().tabAssessmentLoading());
+		}
+		projectNames.whenCompleteAsync((names, error) -> {
+			if (this.assessmentTab.isDisposed() || this.viewController != controller) {
+				return;
+			}
+			backlogCombo.removeAll();
+			if (error != null) {
+				LOG.error("Fetching the begun submissions failed: " + error.getMessage(), error);
+			} else {
+				names.forEach(backlogCombo::add);
+			}
+			this.updateState();
+		}, Display.getDefault()::asyncExec);
 	}
 
 	private void loadExamComboEntries(Combo examCourseCombo, Combo examCombo, Combo examExerciseCombo) {
-		this.viewController.getCourseShortNames().forEach(examCourseCombo::add);
-		examCourseCombo.addListener(SWT.Selection, e -> {
+		// the courses are added once the view controller is ready
+		examCourseCombo.addListener(SWT.Selection, e -> this.whenCoursesLoaded(() -> {
 			this.fillExamComboList(this.assessmentTab.comboCourse, examCombo, examExerciseCombo);
 			this.updateState();
-		});
+		}));
 
 	}
 
@@ -406,10 +564,10 @@ public class ArtemisGradingView extends ViewPart {
 	private void updateMistakeButtonColor(IMistakeType mistakeType) {
 		Button button = this.mistakeButtons.get(mistakeType.getIdentifier());
 		if (button != null) {
-			final boolean enabled = mistakeType.isEnabledMistakeType();
+			final boolean enabled = this.viewController.isMistakeTypeEnabled(mistakeType);
 			final RGB color;
 
-			if (enabled && mistakeType.isEnabledPenalty()) {
+			if (enabled && this.viewController.isPenaltyEnabled(mistakeType)) {
 				List<IAnnotation> filteredAnnotations = this.viewController.getAnnotationsByMistakeType(mistakeType);
 				if (filteredAnnotations != null && mistakeType.limitReached(filteredAnnotations)) {
 					color = loadButtonsColor(PreferenceConstants.GRADING_VIEW_BUTTONS_COLOR_LIMIT_REACHED);
@@ -486,6 +644,36 @@ public class ArtemisGradingView extends ViewPart {
 		this.assessmentTab.setAssessmentInProgress(courseSelected, examSelected, exerciseSelected, assessmentStarted, secondCorrectionRound);
 
 		this.updateCorrectedSubmissionCount();
+		this.updatePrefetchInformation();
+	}
+
+	private void onPrefetchQueueChanged() {
+		Display.getDefault().asyncExec(() -> {
+			if (this.assessmentTab != null && !this.assessmentTab.isDisposed()) {
+				this.updatePrefetchInformation();
+			}
+		});
+	}
+
+	/**
+	 * Updates the text that shows how many submissions of the current correction
+	 * round are already locked and imported in the background.
+	 */
+	private void updatePrefetchInformation() {
+		IGradingSystemwideController sc = Activator.getDefault().getSystemwideController();
+		if (sc.getPrefetchDepth() > 0) {
+			this.assessmentTab.lblPrefetchInformation.setText(I18N().tabAssessmentPrefetched(sc.getPrefetchedSubmissionCount(), sc.getPrefetchDepth()));
+		} else {
+			this.assessmentTab.lblPrefetchInformation.setText("");
+		}
+	}
+
+	private void onStatsChanged() {
+		Display.getDefault().asyncExec(() -> {
+			if (this.assessmentTab != null && !this.assessmentTab.isDisposed()) {
+				this.updateCorrectedSubmissionCount();
+			}
+		});
 	}
 
 	/**
@@ -499,21 +687,56 @@ public class ArtemisGradingView extends ViewPart {
 	private void updateCorrectedSubmissionCount() {
 		if (this.assessmentTab.comboExercise.getSelectionIndex() != -1) {
 			IGradingSystemwideController sc = Activator.getDefault().getSystemwideController();
+			// the statistics are fetched in the background, see onStatsChanged
 			var stats = sc.getStats();
-			this.assessmentTab.lblStatisticsInformation.setText(
-					I18N().tabAssessmentStartedSubmitted(stats.totalAssessments(), stats.totalSubmissions(), stats.locked(), stats.submittedByTutor()));
+			this.assessmentTab.lblStatisticsInformation.setText(stats.map(
+					s -> I18N().tabAssessmentStartedSubmitted(s.totalAssessments(), s.totalSubmissions(), s.locked(), s.submittedByTutor())).orElse(""));
 		} else {
 			this.assessmentTab.lblStatisticsInformation.setText("");
 		}
 	}
 
+	/**
+	 * Revalidates the courses, submissions, statistics and credentials. The
+	 * controllers are only created again (with a new login) if the connection
+	 * preferences have been changed.
+	 */
 	private void refreshArtemisState() {
+		if (this.connectionPreferencesChanged) {
+			this.connectionPreferencesChanged = false;
+			this.restartArtemisState();
+			return;
+		}
+		this.viewController.refresh(EnumSet.allOf(RefreshScope.class));
+		this.updateState();
+	}
+
+	private void restartArtemisState() {
 		this.viewController = new AssessmentViewController();
+		this.viewController.addCoursesChangedListener(this::onCoursesChanged);
 		Activator.getDefault().getSystemwideController().addSubmissionBuildListener(this::openPackagesAndFiles);
+		Activator.getDefault().getSystemwideController().addPrefetchListener(this::onPrefetchQueueChanged);
+		Activator.getDefault().getSystemwideController().addStatsListener(this::onStatsChanged);
+		Activator.getDefault().getSystemwideController().addGradingConfigListener(this::onGradingConfigChanged);
 		this.result.setController(Activator.getDefault().getSystemwideController());
 		this.result.reset();
-		this.resetCombos();
+		this.assessmentTab.resetCombos();
 		this.updateState();
+		this.enableWhenReady();
+	}
+
+	/**
+	 * The course combo may have been filled from an outdated snapshot. Refill it
+	 * once the courses have been fetched, unless the user has selected a course
+	 * already.
+	 */
+	private void onCoursesChanged() {
+		this.viewController.whenCoursesLoaded().thenRunAsync(() -> {
+			if (this.assessmentTab != null && !this.assessmentTab.isDisposed() && this.assessmentTab.comboCourse.getSelectionIndex() < 0) {
+				this.resetCombos();
+				this.updateState();
+			}
+		}, Display.getDefault()::asyncExec);
 	}
 
 	private void resetCombos() {
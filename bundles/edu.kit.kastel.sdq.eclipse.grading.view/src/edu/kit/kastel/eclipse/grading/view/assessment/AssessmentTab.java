@@ -4,6 +4,7 @@ package edu.kit.kastel.eclipse.grading.view.assessment;
 import static edu.kit.kastel.eclipse.common.view.languages.LanguageSettings.I18N;
 
 import org.eclipse.swt.SWT;
+import org.eclipse.swt.widgets.Control;
 import org.eclipse.swt.widgets.TabFolder;
 
 import edu.kit.kastel.eclipse.common.view.utilities.UIUtilities;
@@ -47,4 +48,17 @@ public class AssessmentTab extends AssessmentTabComposite {
 
 	}
 
+	/**
+	 * Disables all controls while a submission is loaded in the background. They
+	 * are enabled again by
+	 * {@link #setAssessmentInProgress(boolean, boolean, boolean, boolean, boolean)}.
+	 */
+	public void setBusy(String message) {
+		for (Control control : new Control[] { comboCourse, comboExam, comboExercise, btnReload, btnSave, btnSubmit, btnCloseAssessment, btnRerunAutograder,
+				btnStartRoundOne, btnStartRoundTwo, btnResetPluginState, comboBacklogSubmission, btnBacklogRefreshSubmissions, btnBacklogLoadSubmission }) {
+			control.setEnabled(false);
+		}
+		lblPrefetchInformation.setText(message);
+	}
+
 }
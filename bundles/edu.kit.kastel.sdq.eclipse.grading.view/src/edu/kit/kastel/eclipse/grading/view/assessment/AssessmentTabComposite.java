@@ -30,6 +30,7 @@ public class AssessmentTabComposite extends Composite {
 	protected final Button btnCloseAssessment;
 	protected final Button btnResetPluginState;
 	protected final Label lblStatisticsInformation;
+	protected final Label lblPrefetchInformation;
 	protected final Label lblPluginVersion;
 	protected final Button btnHelp;
 	protected final Button btnRerunAutograder;
@@ -129,6 +130,12 @@ public class AssessmentTabComposite extends Composite {
 		lblStatisticsInformation = new Label(grpMetaInformation, SWT.NONE);
 		lblStatisticsInformation.setLayoutData(new GridData(SWT.FILL, SWT.CENTER, true, false, 1, 1));
 
+		Label lblPrefetch = new Label(grpMetaInformation, SWT.NONE);
+		lblPrefetch.setText(I18N().prefetch());
+
+		lblPrefetchInformation = new Label(grpMetaInformation, SWT.NONE);
+		lblPrefetchInformation.setLayoutData(new GridData(SWT.FILL, SWT.CENTER, true, false, 1, 1));
+
 		Group grpBacklog = new Group(this, SWT.NONE);
 		grpBacklog.setLayout(new GridLayout(2, false));
 		grpBacklog.setLayoutData(new GridData(SWT.FILL, SWT.CENTER, true, false, 2, 1));
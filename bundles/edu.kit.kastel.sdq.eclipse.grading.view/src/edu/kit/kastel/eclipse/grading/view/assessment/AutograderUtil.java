@@ -103,7 +103,7 @@ public class AutograderUtil {
 				for (AutograderAnnotation annotation : annotations) {
 					var type = mapAnnotation(assessmentController, annotation, config);
 					if (type.isPresent()) {
-						if (!type.get().isEnabledMistakeType()) {
+						if (!assessmentController.isMistakeTypeEnabled(type.get())) {
 							LOG.info("Skipping annotation " + annotation.type() + " because button is disabled");
 							continue;
 						}
@@ -186,8 +186,7 @@ public class AutograderUtil {
 	private static Optional<IMistakeType> mapAnnotation(IAssessmentController assessmentController, AutograderAnnotation annotation,
 			Map<String, String> config) {
 		String id = config.get(annotation.type());
-		return assessmentController.getMistakes().stream().filter(m -> m.getIdentifier().equals(id)).findAny()
-				.or(() -> assessmentController.getMistakes().stream().filter(m -> "custom".equals(m.getIdentifier())).findAny());
+		return Optional.ofNullable(id).flatMap(assessmentController::getMistakeTypeById).or(() -> assessmentController.getMistakeTypeById("custom"));
 	}
 
 	public static Map<String, String> getConfig() throws IOException {
@@ -144,7 +144,7 @@ public class AddAnnotationDialog extends Dialog {
 
 		this.displayList.setContentProvider(ArrayContentProvider.getInstance());
 		List<IMistakeType> mistakes = new ArrayList<>(this.controller.getMistakes());
-		mistakes.removeIf(m -> !m.isEnabledMistakeType());
+		mistakes.removeIf(m -> !this.controller.isMistakeTypeEnabled(m));
 		this.displayList.setInput(mistakes);
 
 		// Using the low-level table to detect shift-clicks
@@ -29,8 +29,8 @@ public class DeleteAnnotationCommandHandler extends AbstractHandler {
 
 		String path = AssessmentUtilities.getPathForAnnotation();
 		int line = AssessmentUtilities.getTextSelection().getStartLine();
-		List<IAnnotation> annotationsAtLine = assessment.getAnnotations().stream()
-				.filter(a -> a.getClassFilePath().equals(path) && a.getStartLine() <= line && a.getEndLine() >= line).toList();
+		List<IAnnotation> annotationsAtLine = assessment.getAnnotationsByClassFilePath(path).stream()
+				.filter(a -> a.getStartLine() <= line && a.getEndLine() >= line).toList();
 
 		if (annotationsAtLine.isEmpty()) {
 			DialogUtil.suppressKeyEvent(event);
@@ -162,8 +162,8 @@ public class DeleteAnnotationDialog extends Dialog {
 	}
 
 	private void updateAnnotations() {
-		List<IAnnotation> annotationsAtLine = this.controller.getAnnotations().stream()
-				.filter(a -> a.getClassFilePath().equals(this.path) && a.getStartLine() <= this.line && a.getEndLine() >= this.line).toList();
+		List<IAnnotation> annotationsAtLine = this.controller.getAnnotationsByClassFilePath(this.path).stream()
+				.filter(a -> a.getStartLine() <= this.line && a.getEndLine() >= this.line).toList();
 		this.displayList.setInput(annotationsAtLine);
 	}
 
@@ -3,6 +3,7 @@ package edu.kit.kastel.eclipse.grading.view.controllers;
 
 import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
 
 import edu.kit.kastel.eclipse.common.api.controller.IAssessmentController;
 import edu.kit.kastel.eclipse.common.api.controller.IGradingSystemwideController;
@@ -42,6 +43,13 @@ public class AssessmentViewController extends AbstractArtemisViewController<IGra
 				});
 	}
 
+	/**
+	 * deletes the markers of all annotations of the current assessment
+	 */
+	public void deleteAnnotationsMarkers() {
+		AssessmentUtilities.deleteAssessmentMarkers(this.systemwideController.getCurrentProjectName());
+	}
+
 	/**
 	 * Deletes an annotation on the backend
 	 *
@@ -60,6 +68,14 @@ public class AssessmentViewController extends AbstractArtemisViewController<IGra
 		return this.assessmentController.getAnnotations();
 	}
 
+	/**
+	 * @return the annotations that did not match the config when it has been
+	 *         reloaded and therefore keep their previous mistake type
+	 */
+	public List<IAnnotation> getInvalidAnnotations() {
+		return this.getAnnotations().stream().filter(annotation -> !this.assessmentController.isAnnotationValid(annotation.getUUID())).toList();
+	}
+
 	/**
 	 * @param mistakeType the mistake type
 	 * @return all annotations for the given mistake type in the current assessment
@@ -75,6 +91,21 @@ public class AssessmentViewController extends AbstractArtemisViewController<IGra
 		return this.assessmentController.getMistakes();
 	}
 
+	/**
+	 * @return the mistake types of the rating group in the order of the config
+	 */
+	public List<IMistakeType> getMistakeTypes(IRatingGroup ratingGroup) {
+		return this.assessmentController.getMistakesOfRatingGroup(ratingGroup);
+	}
+
+	public boolean isMistakeTypeEnabled(IMistakeType mistakeType) {
+		return this.assessmentController.isMistakeTypeEnabled(mistakeType);
+	}
+
+	public boolean isPenaltyEnabled(IMistakeType mistakeType) {
+		return this.assessmentController.isPenaltyEnabled(mistakeType);
+	}
+
 	public IRatingGroup getRatingGroupById(String id) {
 		return this.assessmentController.getRatingGroupById(id);
 	}
@@ -87,9 +118,9 @@ public class AssessmentViewController extends AbstractArtemisViewController<IGra
 	}
 
 	/**
-	 * @return all submissions for the given filter
+	 * @return completes with all submissions for the given filter
 	 */
-	public List<String> getSubmissionsForBacklog() {
+	public CompletableFuture<List<String>> getSubmissionsForBacklog() {
 		return this.systemwideController.getBegunSubmissionsProjectNames();
 	}
 
@@ -100,44 +131,44 @@ public class AssessmentViewController extends AbstractArtemisViewController<IGra
 	/**
 	 * Loads the selected assessment from the backlog combo
 	 */
-	public void onLoadAgain() {
-		this.systemwideController.loadAgain();
+	public CompletableFuture<Boolean> onLoadAgain() {
+		return this.systemwideController.loadAgain();
 	}
 
 	/**
 	 * reloads the current assessment and creates the marker for the given
 	 * annotations
 	 */
-	public void onReloadAssessment() {
-		this.systemwideController.reloadAssessment();
+	public CompletableFuture<Boolean> onReloadAssessment() {
+		return this.systemwideController.reloadAssessment();
 	}
 
 	/**
 	 * Saves the current assessment
 	 */
-	public void onSaveAssessment() {
-		this.systemwideController.saveAssessment();
+	public CompletableFuture<Boolean> onSaveAssessment() {
+		return this.systemwideController.saveAssessment();
 	}
 
 	/**
 	 * Starts the first correction round of an exam
 	 */
-	public boolean onStartCorrectionRound1() {
+	public CompletableFuture<Boolean> onStartCorrectionRound1() {
 		return this.systemwideController.startCorrectionRound1();
 	}
 
 	/**
 	 * Starts the second correction round of an exam
 	 */
-	public boolean onStartCorrectionRound2() {
+	public CompletableFuture<Boolean> onStartCorrectionRound2() {
 		return this.systemwideController.startCorrectionRound2();
 	}
 
 	/**
 	 * Submits the current assessment
 	 */
-	public void onSubmitAssessment() {
-		this.systemwideController.submitAssessment();
+	public CompletableFuture<Boolean> onSubmitAssessment() {
+		return this.systemwideController.submitAssessment();
 	}
 
 	/**
@@ -149,9 +180,10 @@ public class AssessmentViewController extends AbstractArtemisViewController<IGra
 
 	/**
 	 * @param projectName (of the selected assessment)
+	 * @return completes with whether the submission was found
 	 */
-	public void setAssessedSubmission(String projectName) {
-		this.systemwideController.setAssessedSubmissionByProjectName(projectName);
+	public CompletableFuture<Boolean> setAssessedSubmission(String projectName) {
+		return this.systemwideController.setAssessedSubmissionByProjectName(projectName);
 	}
 
 	/**
@@ -0,0 +1,134 @@
+/* Licensed under EPL-2.0 2024. */
+package edu.kit.kastel.eclipse.grading.view.diagnostics;
+
+import static edu.kit.kastel.eclipse.common.view.languages.LanguageSettings.I18N;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.eclipse.core.runtime.ILog;
+import org.eclipse.core.runtime.Platform;
+import org.eclipse.jface.dialogs.MessageDialog;
+import org.eclipse.swt.SWT;
+import org.eclipse.swt.layout.GridData;
+import org.eclipse.swt.layout.GridLayout;
+import org.eclipse.swt.widgets.Button;
+import org.eclipse.swt.widgets.Composite;
+import org.eclipse.swt.widgets.FileDialog;
+import org.eclipse.swt.widgets.Label;
+import org.eclipse.swt.widgets.Table;
+import org.eclipse.swt.widgets.TableColumn;
+import org.eclipse.swt.widgets.TableItem;
+import org.eclipse.ui.part.ViewPart;
+
+import edu.kit.kastel.eclipse.common.core.CachingGradingArtemisController;
+import edu.kit.kastel.eclipse.common.core.artemis.ArtemisCallLimiter;
+import edu.kit.kastel.eclipse.common.core.metrics.CallMetrics;
+import edu.kit.kastel.eclipse.common.core.metrics.CallMetrics.EndpointSnapshot;
+import edu.kit.kastel.eclipse.grading.view.activator.Activator;
+
+/**
+ * Shows the latencies and errors of the requests to Artemis per endpoint, the
+ * state of the request limiter and the counters of the request caches. The
+ * latencies can be exported as CSV.
+ */
+public class DiagnosticsView extends ViewPart {
+	private static final ILog LOG = Platform.getLog(DiagnosticsView.class);
+
+	private Table table;
+	private Label lblLimiter;
+	private Label lblCaches;
+
+	@Override
+	public void createPartControl(Composite parent) {
+		parent.setLayout(new GridLayout(3, false));
+
+		this.table = new Table(parent, SWT.BORDER | SWT.FULL_SELECTION);
+		this.table.setHeaderVisible(true);
+		this.table.setLinesVisible(true);
+		this.table.setLayoutData(new GridData(SWT.FILL, SWT.FILL, true, true, 3, 1));
+		for (String name : I18N().diagnosticsColumns()) {
+			TableColumn column = new TableColumn(this.table, SWT.NONE);
+			column.setText(name);
+		}
+
+		this.lblLimiter = new Label(parent, SWT.NONE);
+		this.lblLimiter.setLayoutData(new GridData(SWT.FILL, SWT.CENTER, true, false, 3, 1));
+		this.lblCaches = new Label(parent, SWT.NONE);
+		this.lblCaches.setLayoutData(new GridData(SWT.FILL, SWT.CENTER, true, false, 3, 1));
+
+		Button btnRefresh = new Button(parent, SWT.PUSH);
+		btnRefresh.setText(I18N().diagnosticsRefresh());
+		btnRefresh.addListener(SWT.Selection, e -> this.update());
+
+		Button btnReset = new Button(parent, SWT.PUSH);
+		btnReset.setText(I18N().diagnosticsReset());
+		btnReset.addListener(SWT.Selection, e -> {
+			CallMetrics.getDefault().reset();
+			this.update();
+		});
+
+		Button btnExport = new Button(parent, SWT.PUSH);
+		btnExport.setText(I18N().diagnosticsExport());
+		btnExport.addListener(SWT.Selection, e -> this.export());
+
+		this.update();
+	}
+
+	private void update() {
+		this.table.removeAll();
+		for (EndpointSnapshot snapshot : CallMetrics.getDefault().getSnapshot()) {
+			TableItem item = new TableItem(this.table, SWT.NONE);
+			item.setText(new String[] { snapshot.endpoint(), String.valueOf(snapshot.calls()), String.valueOf(snapshot.errors()),
+					String.valueOf(snapshot.items()), format(snapshot.mean()), format(snapshot.percentile(50)), format(snapshot.percentile(90)),
+					format(snapshot.percentile(99)), format(snapshot.max()) });
+		}
+		for (TableColumn column : this.table.getColumns()) {
+			column.pack();
+		}
+
+		var limiter = ArtemisCallLimiter.getDefault().getMetrics();
+		this.lblLimiter.setText(
+				I18N().diagnosticsLimiter((int) limiter.concurrencyLimit(), limiter.inFlight(), limiter.overloads(), limiter.waited().toMillis()));
+
+		List<String> caches = new ArrayList<>();
+		var systemwideController = Activator.getDefault().getSystemwideController();
+		// the controller is created by the grading view
+		if (systemwideController != null && systemwideController.getArtemisController() instanceof CachingGradingArtemisController caching) {
+			caching.getCacheCounters().forEach(counters -> caches.add(I18N().diagnosticsCache(counters.name(), counters.hits(), counters.misses())));
+		}
+		this.lblCaches.setText(String.join("  ", caches));
+		this.lblCaches.getParent().layout();
+	}
+
+	private void export() {
+		FileDialog dialog = new FileDialog(this.getSite().getShell(), SWT.SAVE);
+		dialog.setFilterExtensions(new String[] { "*.csv" });
+		dialog.setFileName("artemis-calls.csv");
+		dialog.setOverwrite(true);
+		String file = dialog.open();
+		if (file == null) {
+			return;
+		}
+		try {
+			Files.writeString(Path.of(file), CallMetrics.getDefault().toCsv(), StandardCharsets.UTF_8);
+		} catch (IOException e) {
+			LOG.error("Could not export the request metrics to " + file, e);
+			MessageDialog.openError(this.getSite().getShell(), I18N().diagnosticsExportFailed(), e.getMessage());
+		}
+	}
+
+	private static String format(Duration duration) {
+		return duration.toMillis() + " ms";
+	}
+
+	@Override
+	public void setFocus() {
+		this.table.setFocus();
+	}
+}